@@ -1,7 +1,7 @@
 package br.com.ifba.gamelog.config.security;
 
-import br.com.ifba.gamelog.features.usuario.model.Usuario;
-import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.infrastructure.service.TokenClaims;
 import br.com.ifba.gamelog.infrastructure.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,15 +18,23 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Autentica a requisição pelo JWT do header {@code Authorization}.
+ * <p>
+ * O principal ({@link UsuarioAutenticado}) é montado a partir das claims verificadas (uma leitura
+ * do token), sem carregar o usuário do banco. O papel vigente vem do {@link UsuarioPapelCache},
+ * que só consulta o banco quando a entrada do usuário expira ou é invalidada.
+ * </p>
+ */
 @Component
 public class JWTLoginFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final IUsuarioRepository userRepository;
+    private final UsuarioPapelCache papelCache;
 
-    public JWTLoginFilter(TokenService tokenService, IUsuarioRepository userRepository) {
+    public JWTLoginFilter(TokenService tokenService, UsuarioPapelCache papelCache) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.papelCache = papelCache;
     }
 
     @Override
@@ -39,26 +47,22 @@ public class JWTLoginFilter extends OncePerRequestFilter {
         Optional<String> tokenOpt = extractToken(request);
 
         if (tokenOpt.isPresent()) {
-            String usuarioIdStr = tokenService.validateToken(tokenOpt.get()); // ✅ subject = UUID string
+            TokenClaims claims = tokenService.getVerifiedClaims(tokenOpt.get());
 
-            if (usuarioIdStr != null) {
+            if (claims != null && claims.subject() != null) {
                 try {
-                    UUID usuarioId = UUID.fromString(usuarioIdStr);
-
-                    Usuario user = userRepository.findById(usuarioId).orElse(null);
-
-                    if (user != null) {
-                        String roleName = (user.getPapel() != null) ? user.getPapel().name() : "USUARIO";
-                        var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+                    UUID usuarioId = UUID.fromString(claims.subject()); // ✅ subject = UUID string
 
+                    papelCache.papel(usuarioId, papelDoToken(claims)).ifPresent(papel -> {
+                        var principal = new UsuarioAutenticado(usuarioId, claims.email(), papel);
                         var authToken = new UsernamePasswordAuthenticationToken(
-                                user, // principal
+                                principal,
                                 null,
-                                authorities
+                                List.of(new SimpleGrantedAuthority("ROLE_" + papel.name()))
                         );
 
                         SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    });
                 } catch (IllegalArgumentException e) {
                     // Subject não era UUID válido
                     SecurityContextHolder.clearContext();
@@ -69,6 +73,15 @@ public class JWTLoginFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private static UsuarioRole papelDoToken(TokenClaims claims) {
+        String role = claims.role();
+        try {
+            return role != null ? UsuarioRole.valueOf(role) : UsuarioRole.USUARIO;
+        } catch (IllegalArgumentException e) {
+            return UsuarioRole.USUARIO;
+        }
+    }
+
     private Optional<String> extractToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
@@ -0,0 +1,25 @@
+package br.com.ifba.gamelog.config.security;
+
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Usuário da requisição, montado a partir das claims do JWT (sem carregar a entidade).
+ * <p>
+ * O nome do principal é o ID, então {@code Authentication.getName()} devolve o mesmo
+ * valor do subject do token.
+ * </p>
+ *
+ * @param id    ID do usuário (subject do token).
+ * @param email Email informado no token.
+ * @param papel Papel vigente do usuário.
+ */
+public record UsuarioAutenticado(UUID id, String email, UsuarioRole papel) implements Principal {
+
+    @Override
+    public String getName() {
+        return id.toString();
+    }
+}
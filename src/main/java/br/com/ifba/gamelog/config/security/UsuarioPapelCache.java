@@ -0,0 +1,89 @@
+package br.com.ifba.gamelog.config.security;
+
+import br.com.ifba.gamelog.features.usuario.event.UsuarioAcessoAlteradoEvent;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Papel vigente de cada usuário autenticado, em cache por um intervalo curto.
+ * <p>
+ * O token já traz o papel, mas ele vale até a expiração (dias). Com o cache habilitado, o filtro
+ * confere o papel no banco no máximo uma vez por usuário a cada TTL, em vez de uma vez por
+ * requisição. A troca de papel e a exclusão do usuário invalidam a entrada após o commit, então
+ * passam a valer na requisição seguinte; um rollback mantém a entrada.
+ * </p>
+ * <p>
+ * Usuário inexistente também fica em cache (vazio), para que um token de conta excluída não
+ * consulte o banco a cada chamada.
+ * </p>
+ * <p>
+ * Com o cache desabilitado, o papel vem apenas do token e uma troca só vale em um novo login.
+ * </p>
+ */
+@Component
+public class UsuarioPapelCache {
+
+    private final IUsuarioRepository repository;
+    private final Cache<UUID, Optional<UsuarioRole>> cache;
+
+    public UsuarioPapelCache(
+            IUsuarioRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.enabled:true}") boolean habilitado,
+            @Value("${security.principal-cache.ttl:PT1M}") Duration ttl,
+            @Value("${security.principal-cache.max-size:10000}") long tamanhoMaximo
+    ) {
+        this.repository = repository;
+        this.cache = habilitado
+                ? Caffeine.newBuilder().maximumSize(tamanhoMaximo).expireAfterWrite(ttl).recordStats().build()
+                : null;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.principal");
+        }
+    }
+
+    /**
+     * Papel vigente do usuário.
+     *
+     * @param usuarioId   ID do usuário (subject do token).
+     * @param papelDoToken Papel informado no token, usado quando o cache está desabilitado.
+     * @return Papel vigente, ou vazio se o usuário não existir mais.
+     */
+    public Optional<UsuarioRole> papel(UUID usuarioId, UsuarioRole papelDoToken) {
+        if (cache == null) {
+            return Optional.of(papelDoToken);
+        }
+        return cache.get(usuarioId, repository::findPapelById);
+    }
+
+    /**
+     * Descarta o papel em cache (troca de papel ou exclusão do usuário).
+     *
+     * @param usuarioId ID do usuário.
+     */
+    public void invalidar(UUID usuarioId) {
+        if (cache != null) {
+            cache.invalidate(usuarioId);
+        }
+    }
+
+    /**
+     * Invalida a entrada quando a troca de papel ou a exclusão é confirmada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterarAcesso(UsuarioAcessoAlteradoEvent event) {
+        invalidar(event.usuarioId());
+    }
+}
@@ -7,6 +7,8 @@ import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoRetornarIdRe
 import br.com.ifba.gamelog.features.avaliacao.service.IAvaliacaoService;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,12 +20,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -41,6 +45,7 @@ import java.util.UUID;
 public class AvaliacaoController {
 
     private final IAvaliacaoService avaliacaoService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Cria uma nova avaliação para um jogo.
@@ -83,6 +88,24 @@ public class AvaliacaoController {
         return ResponseEntity.ok(avaliacaoService.findAll());
     }
 
+    /**
+     * Recupera todas as avaliações em streaming (NDJSON): um objeto JSON por linha,
+     * escrito à medida que é lido do banco. Selecionado com {@code Accept: application/x-ndjson}.
+     *
+     * @return Corpo escrito de forma incremental.
+     */
+    @Operation(summary = "Listar Tudo (Streaming NDJSON)", description = "Mesmo conteúdo da listagem completa, enviado como NDJSON (um objeto por linha) à medida que é lido do banco. Envie o header Accept: application/x-ndjson.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming iniciado com sucesso.",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AvaliacaoResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.<AvaliacaoResponseDTO>write(avaliacaoService::streamAll));
+    }
+
     /**
      * Recupera avaliações do sistema com paginação e ordenação.
      *
@@ -101,15 +124,68 @@ public class AvaliacaoController {
     }
 
     /**
-     * Busca avaliações de um jogo específico.
+     * Recupera avaliações com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<AvaliacaoResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+        return ResponseEntity.ok(avaliacaoService.findAllByCursor(cursor, pageable));
+    }
+
+    /**
+     * Busca avaliações de um jogo específico, das mais recentes para as mais antigas.
      *
-     * @param jogoId UUID do jogo.
-     * @return Lista de avaliações do jogo.
+     * @param jogoId   UUID do jogo.
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior (ausente na primeira).
+     * @param pageable Tamanho da página (número e ordenação são ignorados).
+     * @return Página de avaliações do jogo com o cursor da próxima.
      */
-    @Operation(summary = "Listar Avaliações do Jogo", description = "Lista todas as avaliações vinculadas a um ID de Jogo específico.")
+    @Operation(summary = "Listar Avaliações do Jogo", description = "Lista as avaliações de um jogo, das mais recentes para as mais antigas, com paginação por cursor: omita ?cursor na primeira página e depois envie o 'nextCursor' recebido.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
     @GetMapping(value = "/jogo/{jogoId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<AvaliacaoResponseDTO>> findAllByJogo(@PathVariable UUID jogoId) {
-        return ResponseEntity.ok(avaliacaoService.findAllByJogo(jogoId));
+    public ResponseEntity<CursorPage<AvaliacaoResponseDTO>> findAllByJogo(
+            @PathVariable UUID jogoId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(avaliacaoService.findAllByJogo(jogoId, cursor, pageable.getPageSize()));
+    }
+
+    /**
+     * Busca avaliações pelo texto do comentário.
+     *
+     * @param q          Texto livre (todos os termos devem aparecer no comentário).
+     * @param jogoId     Filtra por jogo (opcional).
+     * @param notaMinima Nota mínima (opcional).
+     * @param notaMaxima Nota máxima (opcional).
+     * @param pageable   Página e tamanho (a ordenação é sempre por relevância).
+     * @return Página de avaliações, da mais relevante para a menos relevante.
+     */
+    @Operation(summary = "Buscar Avaliações por Texto", description = "Busca avaliações cujo comentário contém todos os termos informados (sem diferenciar acentos e maiúsculas), ordenadas por relevância. Filtros opcionais de jogo e faixa de nota. A resposta indica se há próxima página, sem contagem total.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso.")
+    })
+    @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Slice<AvaliacaoResponseDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID jogoId,
+            @RequestParam(required = false) Integer notaMinima,
+            @RequestParam(required = false) Integer notaMaxima,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(avaliacaoService.search(q, jogoId, notaMinima, notaMaxima, pageable));
     }
 
     /**
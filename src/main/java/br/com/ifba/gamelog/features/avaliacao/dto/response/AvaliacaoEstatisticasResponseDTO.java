@@ -0,0 +1,20 @@
+package br.com.ifba.gamelog.features.avaliacao.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record AvaliacaoEstatisticasResponseDTO(
+        @JsonProperty("jogoId")
+        UUID jogoId,
+
+        @JsonProperty("total")
+        long total,
+
+        @JsonProperty("media")
+        Double media,
+
+        @JsonProperty("histograma")
+        Map<Integer, Long> histograma
+) {}
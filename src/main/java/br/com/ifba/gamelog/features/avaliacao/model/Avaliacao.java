@@ -7,7 +7,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "avaliacoes")
+@Table(name = "avaliacoes", uniqueConstraints = {
+        // Uma avaliação por usuário e jogo, garantida pelo banco mesmo com envios simultâneos
+        @UniqueConstraint(name = Avaliacao.RESTRICAO_USUARIO_JOGO, columnNames = {"usuario_id", "jogo_id"})
+}, indexes = {
+        // Listagem paginada das avaliações de um jogo (mais recentes primeiro)
+        @Index(name = "idx_avaliacoes_jogo_created_at", columnList = "jogo_id, created_at, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -15,6 +21,10 @@ import lombok.*;
 @EqualsAndHashCode(callSuper = true)
 public class Avaliacao extends PersistenceEntity {
 
+    public static final String RESTRICAO_USUARIO_JOGO = "uk_avaliacoes_usuario_jogo";
+    public static final String FK_USUARIO = "fk_avaliacoes_usuario";
+    public static final String FK_JOGO = "fk_avaliacoes_jogo";
+
     @Column(nullable = false)
     private Integer nota;
 
@@ -24,10 +34,10 @@ public class Avaliacao extends PersistenceEntity {
     // 'criadoEm' removido, usará o 'createdAt' da PersistenceEntity
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "usuario_id", nullable = false)
+    @JoinColumn(name = "usuario_id", nullable = false, foreignKey = @ForeignKey(name = FK_USUARIO))
     private Usuario usuario;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "jogo_id", nullable = false)
+    @JoinColumn(name = "jogo_id", nullable = false, foreignKey = @ForeignKey(name = FK_JOGO))
     private Jogo jogo;
 }
\ No newline at end of file
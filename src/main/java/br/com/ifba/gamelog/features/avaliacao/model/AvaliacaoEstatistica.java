@@ -0,0 +1,51 @@
+package br.com.ifba.gamelog.features.avaliacao.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Resumo das avaliações de um jogo (quantidade, soma das notas e histograma de 1 a 5).
+ * <p>
+ * Mantido pelo {@code AvaliacaoEstatisticaService} na mesma transação que cria, altera ou
+ * remove uma avaliação, para que a página do jogo leia uma única linha em vez de todas as avaliações.
+ * </p>
+ */
+@Entity
+@Table(name = "avaliacao_estatisticas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvaliacaoEstatistica {
+
+    @Id
+    @Column(name = "jogo_id")
+    private UUID jogoId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long soma;
+
+    @Column(nullable = false)
+    private long nota1;
+
+    @Column(nullable = false)
+    private long nota2;
+
+    @Column(nullable = false)
+    private long nota3;
+
+    @Column(nullable = false)
+    private long nota4;
+
+    @Column(nullable = false)
+    private long nota5;
+
+    public AvaliacaoEstatistica(UUID jogoId) {
+        this.jogoId = jogoId;
+    }
+}
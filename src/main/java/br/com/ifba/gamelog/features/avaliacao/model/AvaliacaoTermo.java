@@ -0,0 +1,63 @@
+package br.com.ifba.gamelog.features.avaliacao.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Entrada do índice invertido dos comentários: um termo presente em uma avaliação.
+ * <p>
+ * Mantido pelo {@code AvaliacaoBuscaService} na mesma transação que cria ou altera a avaliação;
+ * a exclusão da avaliação remove as entradas pela chave estrangeira ({@code ON DELETE CASCADE}),
+ * inclusive nas exclusões em cascata de usuários e jogos. O jogo e a nota são copiados para que a
+ * busca filtre e pontue lendo apenas o índice {@code (termo, jogo_id, nota, avaliacao_id, peso)}.
+ * </p>
+ */
+@Entity
+@Table(name = "avaliacao_termos", indexes = {
+        @Index(name = "idx_avaliacao_termos_busca", columnList = "termo, jogo_id, nota, avaliacao_id, peso"),
+        @Index(name = "idx_avaliacao_termos_avaliacao", columnList = "avaliacao_id")
+})
+@IdClass(AvaliacaoTermo.Chave.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvaliacaoTermo {
+
+    @Id
+    @Column(length = 64)
+    private String termo;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "avaliacao_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Avaliacao avaliacao;
+
+    @Column(name = "jogo_id", nullable = false)
+    private UUID jogoId;
+
+    @Column(nullable = false)
+    private int nota;
+
+    /**
+     * Relevância do termo no comentário: cresce com as ocorrências (log) e diminui com o tamanho do comentário.
+     */
+    @Column(nullable = false)
+    private double peso;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private String termo;
+        private UUID avaliacao;
+    }
+}
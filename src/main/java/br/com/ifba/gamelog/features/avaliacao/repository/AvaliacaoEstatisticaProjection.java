@@ -0,0 +1,25 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+import java.util.UUID;
+
+/**
+ * Estatísticas de um jogo calculadas diretamente a partir da tabela de avaliações.
+ */
+public interface AvaliacaoEstatisticaProjection {
+
+    UUID getJogoId();
+
+    Long getTotal();
+
+    Long getSoma();
+
+    Long getNota1();
+
+    Long getNota2();
+
+    Long getNota3();
+
+    Long getNota4();
+
+    Long getNota5();
+}
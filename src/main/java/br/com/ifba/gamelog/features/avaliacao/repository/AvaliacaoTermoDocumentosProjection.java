@@ -0,0 +1,11 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+/**
+ * Quantidade de avaliações que contêm um termo (usada no peso IDF da busca).
+ */
+public interface AvaliacaoTermoDocumentosProjection {
+
+    String getTermo();
+
+    Long getDocumentos();
+}
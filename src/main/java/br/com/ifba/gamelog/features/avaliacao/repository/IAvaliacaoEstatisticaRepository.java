@@ -0,0 +1,65 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+import br.com.ifba.gamelog.features.avaliacao.model.AvaliacaoEstatistica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IAvaliacaoEstatisticaRepository extends JpaRepository<AvaliacaoEstatistica, UUID> {
+
+    /**
+     * Soma as variações à linha do jogo em um único UPDATE atômico (sem ler a linha antes),
+     * então avaliações simultâneas do mesmo jogo não perdem incrementos.
+     * A avaliação pendente é gravada antes (flush), mantendo a ordem "avaliação, depois resumo".
+     *
+     * @return Quantidade de linhas atualizadas (0 se o jogo ainda não tiver linha de estatísticas).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE AvaliacaoEstatistica e SET
+                e.total = e.total + :total, e.soma = e.soma + :soma,
+                e.nota1 = e.nota1 + :nota1, e.nota2 = e.nota2 + :nota2, e.nota3 = e.nota3 + :nota3,
+                e.nota4 = e.nota4 + :nota4, e.nota5 = e.nota5 + :nota5
+            WHERE e.jogoId = :jogoId""")
+    int somar(@Param("jogoId") UUID jogoId, @Param("total") long total, @Param("soma") long soma,
+              @Param("nota1") long nota1, @Param("nota2") long nota2, @Param("nota3") long nota3,
+              @Param("nota4") long nota4, @Param("nota5") long nota5);
+
+    /**
+     * Busca a linha do jogo bloqueando-a (SELECT ... FOR UPDATE) até o fim da transação.
+     * Usado pela reconstrução, para que nenhuma avaliação altere o resumo durante o recálculo.
+     */
+    @Query(value = "SELECT * FROM avaliacao_estatisticas WHERE jogo_id = :jogoId FOR UPDATE", nativeQuery = true)
+    Optional<AvaliacaoEstatistica> bloquearPorJogoId(@Param("jogoId") UUID jogoId);
+
+    /**
+     * Média de todas as notas do sistema (soma das notas / quantidade de avaliações).
+     *
+     * @return Média global, ou nulo se não houver avaliações.
+     */
+    @Query("SELECT CAST(SUM(e.soma) AS double) / SUM(e.total) FROM AvaliacaoEstatistica e WHERE e.total > 0")
+    Double calcularMediaGlobal();
+
+    /**
+     * Quantidade total de avaliações do sistema, somada dos resumos (sem percorrer as avaliações).
+     *
+     * @return Total de avaliações, ou nulo se não houver resumos.
+     */
+    @Query("SELECT SUM(e.total) FROM AvaliacaoEstatistica e")
+    Long somarTotais();
+
+    /**
+     * Remove as estatísticas de jogos que não existem mais no catálogo.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM AvaliacaoEstatistica e WHERE NOT EXISTS (SELECT 1 FROM Jogo j WHERE j.id = e.jogoId)")
+    int deleteOrfas();
+}
@@ -1,15 +1,44 @@
 package br.com.ifba.gamelog.features.avaliacao.repository;
 
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
 import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IAvaliacaoRepository extends JpaRepository<Avaliacao, UUID> {
 
+    String CONSULTA_ESTATISTICAS = """
+            SELECT a.jogo.id AS jogoId, COUNT(a) AS total, SUM(a.nota) AS soma,
+                SUM(CASE WHEN a.nota = 1 THEN 1 ELSE 0 END) AS nota1,
+                SUM(CASE WHEN a.nota = 2 THEN 1 ELSE 0 END) AS nota2,
+                SUM(CASE WHEN a.nota = 3 THEN 1 ELSE 0 END) AS nota3,
+                SUM(CASE WHEN a.nota = 4 THEN 1 ELSE 0 END) AS nota4,
+                SUM(CASE WHEN a.nota = 5 THEN 1 ELSE 0 END) AS nota5
+            FROM Avaliacao a""";
+
+    String CONSULTA_RESPOSTA = """
+            SELECT new br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO(
+                a.id, a.nota, a.comentario, u.id, a.jogo.id, COALESCE(p.nomeExibicao, u.nome), p.avatarImagem, a.createdAt)
+            FROM Avaliacao a JOIN a.usuario u LEFT JOIN u.perfil p""";
+
     /**
      * Verifica se já existe uma avaliação deste usuário para este jogo.
      */
@@ -29,4 +58,106 @@ public interface IAvaliacaoRepository extends JpaRepository<Avaliacao, UUID> {
      * @return Lista de avaliações.
      */
     List<Avaliacao> findByJogoId(UUID jogoId);
-}
\ No newline at end of file
+
+    /**
+     * Busca uma avaliação já como DTO (autor e perfil via JOIN), sem carregar entidades.
+     *
+     * @param id UUID da avaliação.
+     * @return A avaliação, ou vazio se não existir.
+     */
+    @Query(CONSULTA_RESPOSTA + " WHERE a.id = :id")
+    Optional<AvaliacaoResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Primeira página das avaliações de um jogo, das mais recentes para as mais antigas.
+     * Uma única consulta devolve o DTO pronto (autor e perfil via JOIN), sem carregar entidades.
+     *
+     * @param jogoId UUID do jogo.
+     * @param limit  Tamanho da página.
+     * @return Avaliações da página.
+     */
+    @Query(CONSULTA_RESPOSTA + " WHERE a.jogo.id = :jogoId ORDER BY a.createdAt DESC, a.id DESC")
+    List<AvaliacaoResponseDTO> findPaginaByJogoId(@Param("jogoId") UUID jogoId, Limit limit);
+
+    /**
+     * Página seguinte das avaliações de um jogo (keyset): apenas as avaliações anteriores
+     * à última da página anterior, com o ID como desempate. Usa o índice (jogo, data, id).
+     *
+     * @param jogoId    UUID do jogo.
+     * @param createdAt Data da última avaliação da página anterior.
+     * @param id        ID da última avaliação da página anterior.
+     * @param limit     Tamanho da página.
+     * @return Avaliações da página.
+     */
+    @Query(CONSULTA_RESPOSTA + " WHERE a.jogo.id = :jogoId"
+            + " AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))"
+            + " ORDER BY a.createdAt DESC, a.id DESC")
+    List<AvaliacaoResponseDTO> findPaginaByJogoId(@Param("jogoId") UUID jogoId, @Param("createdAt") Instant createdAt,
+                                                  @Param("id") UUID id, Limit limit);
+
+    /**
+     * Avaliações de uma página da busca por texto, já como DTO (autor e perfil via JOIN).
+     * A ordem de relevância é aplicada por quem chama.
+     *
+     * @param ids IDs das avaliações da página.
+     * @return Avaliações encontradas (em qualquer ordem).
+     */
+    @Query(CONSULTA_RESPOSTA + " WHERE a.id IN :ids")
+    List<AvaliacaoResponseDTO> findRespostasByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lote de avaliações com comentário em ordem de ID (keyset), usado no preenchimento
+     * inicial do índice de busca.
+     *
+     * @param apos  ID da última avaliação do lote anterior.
+     * @param limit Tamanho do lote.
+     * @return Avaliações do lote.
+     */
+    @Query("SELECT a FROM Avaliacao a WHERE a.comentario IS NOT NULL AND a.id > :apos ORDER BY a.id")
+    List<Avaliacao> findComentadasApos(@Param("apos") UUID apos, Limit limit);
+
+    /**
+     * Calcula as estatísticas de todos os jogos avaliados em uma única consulta agregada,
+     * usada pela reconstrução para encontrar resumos divergentes.
+     *
+     * @return Uma linha por jogo com ao menos uma avaliação.
+     */
+    @Query(CONSULTA_ESTATISTICAS + " GROUP BY a.jogo.id")
+    List<AvaliacaoEstatisticaProjection> calcularEstatisticas();
+
+    /**
+     * Calcula as estatísticas de um jogo a partir das suas avaliações.
+     *
+     * @param jogoId UUID do jogo.
+     * @return Estatísticas, ou vazio se o jogo não tiver avaliações.
+     */
+    @Query(CONSULTA_ESTATISTICAS + " WHERE a.jogo.id = :jogoId GROUP BY a.jogo.id")
+    Optional<AvaliacaoEstatisticaProjection> calcularEstatisticas(@Param("jogoId") UUID jogoId);
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    Window<Avaliacao> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Percorre todas as avaliações sem carregá-las de uma vez na memória.
+     * As linhas chegam do driver em blocos ({@link EntityStreams#FETCH_SIZE}) e as entidades
+     * não guardam snapshot para dirty checking (somente leitura).
+     * O autor e seu perfil vêm na mesma linha (JOIN FETCH), evitando uma consulta por avaliação.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreams.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Avaliacao a LEFT JOIN FETCH a.usuario u LEFT JOIN FETCH u.perfil")
+    Stream<Avaliacao> streamAll();
+}
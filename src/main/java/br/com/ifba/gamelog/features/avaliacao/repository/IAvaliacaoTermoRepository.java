@@ -0,0 +1,43 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+import br.com.ifba.gamelog.features.avaliacao.model.AvaliacaoTermo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IAvaliacaoTermoRepository extends JpaRepository<AvaliacaoTermo, AvaliacaoTermo.Chave>, IAvaliacaoTermoRepositoryCustom {
+
+    /**
+     * Quantas avaliações contêm cada termo (apenas os termos informados).
+     */
+    @Query("SELECT t.termo AS termo, COUNT(t.termo) AS documentos FROM AvaliacaoTermo t WHERE t.termo IN :termos GROUP BY t.termo")
+    List<AvaliacaoTermoDocumentosProjection> contarDocumentos(@Param("termos") Collection<String> termos);
+
+    /**
+     * Remove os termos de uma avaliação (antes de reindexar o comentário alterado).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AvaliacaoTermo t WHERE t.avaliacao.id = :avaliacaoId")
+    int deleteByAvaliacaoId(@Param("avaliacaoId") UUID avaliacaoId);
+
+    /**
+     * Atualiza a nota copiada nos termos de uma avaliação (comentário inalterado).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AvaliacaoTermo t SET t.nota = :nota WHERE t.avaliacao.id = :avaliacaoId")
+    int atualizarNota(@Param("avaliacaoId") UUID avaliacaoId, @Param("nota") int nota);
+
+    /**
+     * Verifica se o índice tem alguma entrada (usado para decidir o preenchimento inicial).
+     */
+    @Query("SELECT t.termo FROM AvaliacaoTermo t")
+    List<String> findAlgumTermo(Limit limit);
+}
@@ -0,0 +1,33 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Operações de {@link IAvaliacaoTermoRepository} implementadas manualmente (JPQL montado em tempo de execução).
+ */
+public interface IAvaliacaoTermoRepositoryCustom {
+
+    /**
+     * Busca as avaliações que contêm todos os termos, da mais relevante para a menos relevante
+     * (soma de {@code peso do termo na avaliação * peso do termo na consulta}).
+     * <p>
+     * A busca parte do termo mais raro e considera só as {@code maxCandidatas} avaliações em que
+     * ele tem mais peso, então o custo não cresce com termos frequentes. Resultados além desse
+     * conjunto (páginas muito profundas) não são alcançados.
+     * </p>
+     *
+     * @param pesosConsulta Peso (IDF) de cada termo da consulta.
+     * @param termoMaisRaro Termo da consulta presente em menos avaliações.
+     * @param maxCandidatas Quantidade máxima de avaliações candidatas.
+     * @param jogoId        Jogo (nulo = todos).
+     * @param notaMinima    Nota mínima (nulo = sem limite).
+     * @param notaMaxima    Nota máxima (nulo = sem limite).
+     * @param offset        Quantidade de resultados a pular.
+     * @param limite        Quantidade máxima de resultados.
+     * @return IDs das avaliações, em ordem de relevância.
+     */
+    List<UUID> buscar(Map<String, Double> pesosConsulta, String termoMaisRaro, int maxCandidatas, UUID jogoId,
+                      Integer notaMinima, Integer notaMaxima, long offset, int limite);
+}
@@ -0,0 +1,74 @@
+package br.com.ifba.gamelog.features.avaliacao.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementação de {@link IAvaliacaoTermoRepositoryCustom}.
+ * <p>
+ * Os termos são sempre parâmetros; apenas os pesos (números calculados pelo serviço)
+ * entram como literais no {@code CASE}, que varia com a quantidade de termos da consulta.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class IAvaliacaoTermoRepositoryCustomImpl implements IAvaliacaoTermoRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UUID> buscar(Map<String, Double> pesosConsulta, String termoMaisRaro, int maxCandidatas, UUID jogoId,
+                             Integer notaMinima, Integer notaMaxima, long offset, int limite) {
+        // 1. Candidatas: as entradas de maior peso do termo mais raro (a menor lista do índice), já filtradas
+        StringBuilder candidatasJpql = new StringBuilder("SELECT t.avaliacao.id FROM AvaliacaoTermo t WHERE t.termo = :termo");
+        if (jogoId != null) candidatasJpql.append(" AND t.jogoId = :jogoId");
+        if (notaMinima != null) candidatasJpql.append(" AND t.nota >= :notaMinima");
+        if (notaMaxima != null) candidatasJpql.append(" AND t.nota <= :notaMaxima");
+        candidatasJpql.append(" ORDER BY t.peso DESC, t.avaliacao.id");
+
+        TypedQuery<UUID> candidatasQuery = entityManager.createQuery(candidatasJpql.toString(), UUID.class)
+                .setParameter("termo", termoMaisRaro);
+        if (jogoId != null) candidatasQuery.setParameter("jogoId", jogoId);
+        if (notaMinima != null) candidatasQuery.setParameter("notaMinima", notaMinima);
+        if (notaMaxima != null) candidatasQuery.setParameter("notaMaxima", notaMaxima);
+        List<UUID> candidatas = candidatasQuery.setMaxResults(maxCandidatas).getResultList();
+
+        // Um termo só: a ordem das candidatas já é a da relevância (peso * IDF constante)
+        if (pesosConsulta.size() == 1 || candidatas.isEmpty()) {
+            int inicio = (int) Math.min(offset, candidatas.size());
+            return candidatas.subList(inicio, Math.min(inicio + limite, candidatas.size()));
+        }
+
+        // 2. Relevância somada apenas sobre as candidatas (busca pela chave termo + avaliação)
+        List<String> termos = List.copyOf(pesosConsulta.keySet());
+        StringBuilder relevancia = new StringBuilder("SUM(t.peso * CASE t.termo");
+        for (int i = 0; i < termos.size(); i++) {
+            relevancia.append(" WHEN :t").append(i).append(" THEN ")
+                    .append(String.format(Locale.ROOT, "%.6f", pesosConsulta.get(termos.get(i))));
+        }
+        relevancia.append(" ELSE 0.0 END)");
+
+        // Cada (termo, avaliação) aparece uma vez: a contagem igual ao número de termos exige todos eles
+        String jpql = "SELECT t.avaliacao.id FROM AvaliacaoTermo t WHERE t.termo IN :termos AND t.avaliacao.id IN :candidatas"
+                + " GROUP BY t.avaliacao.id HAVING COUNT(t.termo) = :quantidade"
+                + " ORDER BY " + relevancia + " DESC, t.avaliacao.id";
+
+        TypedQuery<UUID> query = entityManager.createQuery(jpql, UUID.class)
+                .setParameter("termos", termos)
+                .setParameter("candidatas", candidatas)
+                .setParameter("quantidade", (long) termos.size());
+        for (int i = 0; i < termos.size(); i++) {
+            query.setParameter("t" + i, termos.get(i));
+        }
+
+        return query
+                .setFirstResult((int) Math.min(offset, Integer.MAX_VALUE))
+                .setMaxResults(limite)
+                .getResultList();
+    }
+}
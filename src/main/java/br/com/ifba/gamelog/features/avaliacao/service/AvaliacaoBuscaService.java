@@ -0,0 +1,193 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
+import br.com.ifba.gamelog.features.avaliacao.model.AvaliacaoTermo;
+import br.com.ifba.gamelog.features.avaliacao.repository.AvaliacaoTermoDocumentosProjection;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoEstatisticaRepository;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoRepository;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoTermoRepository;
+import br.com.ifba.gamelog.infrastructure.util.TextNormalizer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busca por texto nos comentários das avaliações, sobre um índice invertido no banco
+ * (tabela {@code avaliacao_termos}: um termo normalizado por avaliação).
+ * <p>
+ * O índice é mantido de forma incremental na transação que cria ou edita a avaliação; a
+ * exclusão remove os termos pela chave estrangeira. A busca lê apenas as entradas dos termos
+ * consultados (índice por termo), então o custo depende de quantas avaliações contêm os termos,
+ * não do tamanho da tabela de avaliações. Palavras muito comuns (inclusive as do domínio, como
+ * "jogo" e "game") não são indexadas, e a consulta parte do termo mais raro, com um número
+ * máximo de avaliações candidatas.
+ * </p>
+ * <p>
+ * Relevância: soma, para cada termo, do peso no comentário (ocorrências e tamanho) vezes o IDF
+ * do termo ({@code ln(1 + avaliacoes / avaliacoesComOTermo)}), favorecendo termos raros.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class AvaliacaoBuscaService implements IAvaliacaoBuscaService {
+
+    private static final int TAMANHO_MAXIMO_TERMO = 64;
+    private static final int MAX_TERMOS_CONSULTA = 8;
+
+    // Palavras que aparecem em quase todo comentário: não ajudam a separar resultados e incham o índice
+    private static final Set<String> PALAVRAS_IGNORADAS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "no", "na", "nos", "nas",
+            "um", "uma", "uns", "umas", "que", "para", "pra", "por", "com", "sem", "se", "mas", "ou",
+            "ao", "aos", "eu", "ele", "ela", "me", "mais", "muito", "bem", "ja", "so", "tem", "foi",
+            "the", "and", "of", "to", "in", "is", "it", "this", "that", "for", "on", "with", "was", "but",
+            // Do domínio: quase todo comentário fala do jogo
+            "jogo", "jogos", "jogar", "jogando", "joguei", "jogado", "game", "games", "play", "playing", "played"
+    );
+
+    private final IAvaliacaoTermoRepository repository;
+    private final IAvaliacaoRepository avaliacaoRepository;
+    private final IAvaliacaoEstatisticaRepository estatisticaRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maxCandidatas;
+
+    public AvaliacaoBuscaService(
+            IAvaliacaoTermoRepository repository,
+            IAvaliacaoRepository avaliacaoRepository,
+            IAvaliacaoEstatisticaRepository estatisticaRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            @Value("${avaliacoes.busca.backfill-batch-size:500}") int tamanhoLote,
+            @Value("${avaliacoes.busca.max-candidates:1000}") int maxCandidatas
+    ) {
+        this.repository = repository;
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.estatisticaRepository = estatisticaRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.maxCandidatas = maxCandidatas;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void indexar(Avaliacao avaliacao) {
+        Map<String, Long> ocorrencias = termos(avaliacao.getComentario()).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        if (ocorrencias.isEmpty()) {
+            return;
+        }
+        double normalizacao = Math.sqrt(ocorrencias.size());
+        UUID jogoId = avaliacao.getJogo().getId();
+        ocorrencias.forEach((termo, quantidade) -> entityManager.persist(new AvaliacaoTermo(termo, avaliacao, jogoId,
+                avaliacao.getNota(), (1 + Math.log(quantidade)) / normalizacao)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void atualizar(Avaliacao avaliacao, String comentarioAnterior, Integer notaAnterior) {
+        if (Objects.equals(termos(comentarioAnterior), termos(avaliacao.getComentario()))) {
+            if (!Objects.equals(notaAnterior, avaliacao.getNota())) {
+                repository.atualizarNota(avaliacao.getId(), avaliacao.getNota());
+            }
+            return;
+        }
+        repository.deleteByAvaliacaoId(avaliacao.getId());
+        indexar(avaliacao);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AvaliacaoResponseDTO> buscar(String consulta, UUID jogoId, Integer notaMinima, Integer notaMaxima,
+                                              Pageable pageable) {
+        Set<String> termosConsulta = new LinkedHashSet<>(termos(consulta));
+        if (termosConsulta.isEmpty() || (notaMinima != null && notaMaxima != null && notaMinima > notaMaxima)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        termosConsulta = termosConsulta.stream().limit(MAX_TERMOS_CONSULTA).collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Long> documentos = repository.contarDocumentos(termosConsulta).stream()
+                .collect(Collectors.toMap(AvaliacaoTermoDocumentosProjection::getTermo, AvaliacaoTermoDocumentosProjection::getDocumentos));
+        // Todos os termos são obrigatórios: um termo ausente do índice encerra a busca sem mais consultas
+        if (documentos.size() < termosConsulta.size()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        long totalAvaliacoes = Math.max(Optional.ofNullable(estatisticaRepository.somarTotais()).orElse(0L),
+                Collections.max(documentos.values()));
+        Map<String, Double> pesos = new LinkedHashMap<>();
+        documentos.forEach((termo, quantidade) -> pesos.put(termo, Math.log(1.0 + (double) totalAvaliacoes / quantidade)));
+
+        String termoMaisRaro = Collections.min(documentos.entrySet(), Map.Entry.comparingByValue()).getKey();
+
+        // Um resultado a mais indica se existe a próxima página, sem contar o total
+        List<UUID> ids = repository.buscar(pesos, termoMaisRaro, maxCandidatas, jogoId, notaMinima, notaMaxima,
+                pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean temProxima = ids.size() > pageable.getPageSize();
+        List<UUID> pagina = temProxima ? ids.subList(0, pageable.getPageSize()) : ids;
+        if (pagina.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Map<UUID, AvaliacaoResponseDTO> porId = avaliacaoRepository.findRespostasByIdIn(pagina).stream()
+                .collect(Collectors.toMap(AvaliacaoResponseDTO::id, Function.identity()));
+        List<AvaliacaoResponseDTO> conteudo = pagina.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(conteudo, pageable, temProxima);
+    }
+
+    /**
+     * Preenche o índice com as avaliações anteriores a ele, em lotes (uma transação por lote),
+     * quando a aplicação sobe com o índice vazio.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencher() {
+        if (!repository.findAlgumTermo(Limit.of(1)).isEmpty()) {
+            return;
+        }
+        UUID apos = new UUID(0L, 0L);
+        int indexadas = 0;
+        while (true) {
+            UUID inicioLote = apos;
+            List<UUID> lote = transactionTemplate.execute(status -> {
+                List<Avaliacao> avaliacoes = avaliacaoRepository.findComentadasApos(inicioLote, Limit.of(tamanhoLote));
+                avaliacoes.forEach(this::indexar);
+                return avaliacoes.stream().map(Avaliacao::getId).toList();
+            });
+            if (lote == null || lote.isEmpty()) {
+                break;
+            }
+            indexadas += lote.size();
+            apos = lote.get(lote.size() - 1);
+        }
+        if (indexadas > 0) {
+            log.info("Índice de busca das avaliações preenchido com {} avaliações.", indexadas);
+        }
+    }
+
+    private static List<String> termos(String texto) {
+        return TextNormalizer.tokenizar(texto).stream()
+                .filter(termo -> termo.length() <= TAMANHO_MAXIMO_TERMO && !PALAVRAS_IGNORADAS.contains(termo))
+                .toList();
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.model.AvaliacaoEstatistica;
+import br.com.ifba.gamelog.features.avaliacao.repository.AvaliacaoEstatisticaProjection;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoEstatisticaRepository;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoRepository;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço das estatísticas de avaliação por jogo (quantidade, média e histograma).
+ * <p>
+ * Cada criação, alteração ou exclusão de avaliação soma uma variação à linha do jogo
+ * com um único UPDATE, dentro da transação da própria avaliação. A primeira avaliação
+ * de um jogo cria a linha sob o bloqueio do jogo, evitando duas linhas concorrentes.
+ * </p>
+ * <p>
+ * Uma reconstrução periódica compara os resumos com uma agregação das avaliações
+ * e recalcula em paralelo apenas os jogos divergentes (ex.: avaliações removidas em
+ * cascata junto com o usuário).
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class AvaliacaoEstatisticaService implements IAvaliacaoEstatisticaService {
+
+    private static final int NOTA_MINIMA = 1;
+    private static final int NOTA_MAXIMA = 5;
+
+    private final IAvaliacaoEstatisticaRepository repository;
+    private final IAvaliacaoRepository avaliacaoRepository;
+    private final IJogoRepository jogoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int concorrencia;
+
+    public AvaliacaoEstatisticaService(
+            IAvaliacaoEstatisticaRepository repository,
+            IAvaliacaoRepository avaliacaoRepository,
+            IJogoRepository jogoRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${avaliacoes.estatisticas.rebuild.concurrency:4}") int concorrencia
+    ) {
+        this.repository = repository;
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.jogoRepository = jogoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.concorrencia = concorrencia;
+    }
+
+    /**
+     * Aplica a variação de uma avaliação ao resumo do jogo.
+     * Exige a transação do chamador: o resumo só muda se a avaliação for gravada.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(UUID jogoId, Integer notaRemovida, Integer notaAdicionada) {
+        if (Objects.equals(notaRemovida, notaAdicionada)) {
+            return;
+        }
+        long[] histograma = new long[NOTA_MAXIMA + 1];
+        long total = 0;
+        long soma = 0;
+        if (notaRemovida != null) {
+            total--;
+            soma -= notaRemovida;
+            contar(histograma, notaRemovida, -1);
+        }
+        if (notaAdicionada != null) {
+            total++;
+            soma += notaAdicionada;
+            contar(histograma, notaAdicionada, 1);
+        }
+
+        if (somar(jogoId, total, soma, histograma) > 0) {
+            return;
+        }
+
+        // Primeira avaliação do jogo: o bloqueio do jogo serializa a criação da linha.
+        // Quem esperou pelo bloqueio repete o UPDATE e já encontra a linha criada pelo outro.
+        jogoRepository.bloquearPorId(jogoId);
+        if (somar(jogoId, total, soma, histograma) == 0) {
+            AvaliacaoEstatistica estatistica = new AvaliacaoEstatistica(jogoId, total, soma,
+                    histograma[1], histograma[2], histograma[3], histograma[4], histograma[5]);
+            repository.saveAndFlush(estatistica);
+        }
+    }
+
+    /**
+     * Lê o resumo de um jogo (uma linha, independente da quantidade de avaliações).
+     *
+     * @throws BusinessException se o jogo não existir.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AvaliacaoEstatisticasResponseDTO findByJogo(UUID jogoId) {
+        return repository.findById(jogoId)
+                .map(this::toResponse)
+                .orElseGet(() -> {
+                    if (!jogoRepository.existsById(jogoId)) {
+                        throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+                    }
+                    return toResponse(new AvaliacaoEstatistica(jogoId));
+                });
+    }
+
+    @Override
+    @Transactional
+    public void remover(UUID jogoId) {
+        repository.findById(jogoId).ifPresent(repository::delete);
+    }
+
+    /**
+     * Reconstrução periódica: uma consulta agregada sobre as avaliações aponta os resumos
+     * divergentes, que são recalculados em paralelo, um jogo por transação.
+     * A primeira execução também preenche os resumos de avaliações anteriores a esta tabela.
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${avaliacoes.estatisticas.rebuild.initial-delay:PT1M}",
+            fixedDelayString = "${avaliacoes.estatisticas.rebuild.interval:PT6H}"
+    )
+    public int reconstruir() {
+        Integer orfas = transactionTemplate.execute(status -> repository.deleteOrfas());
+
+        Map<UUID, AvaliacaoEstatisticaProjection> calculadas = new HashMap<>();
+        avaliacaoRepository.calcularEstatisticas().forEach(e -> calculadas.put(e.getJogoId(), e));
+
+        Set<UUID> divergentes = new HashSet<>();
+        for (AvaliacaoEstatistica atual : repository.findAll()) {
+            AvaliacaoEstatisticaProjection calculada = calculadas.remove(atual.getJogoId());
+            if (calculada == null ? atual.getTotal() != 0 : !igual(atual, calculada)) {
+                divergentes.add(atual.getJogoId());
+            }
+        }
+        // Jogos avaliados ainda sem linha de resumo
+        divergentes.addAll(calculadas.keySet());
+
+        AtomicInteger corrigidos = new AtomicInteger();
+        Flux.fromIterable(divergentes)
+                .flatMap(jogoId -> Mono.fromRunnable(() -> {
+                            try {
+                                transactionTemplate.executeWithoutResult(status -> recalcular(jogoId));
+                                corrigidos.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                log.error("Erro ao reconstruir estatísticas do jogo [id={}]: {}", jogoId, e.getMessage());
+                            }
+                        }).subscribeOn(Schedulers.boundedElastic()), concorrencia)
+                .blockLast();
+
+        if (corrigidos.get() > 0 || (orfas != null && orfas > 0)) {
+            log.warn("Estatísticas de avaliação reconstruídas: {} jogos corrigidos, {} resumos órfãos removidos.",
+                    corrigidos.get(), orfas);
+        }
+        return corrigidos.get();
+    }
+
+    /**
+     * Recalcula o resumo de um jogo com a linha bloqueada: avaliações concorrentes esperam
+     * o recálculo terminar e só então somam a sua variação.
+     */
+    private void recalcular(UUID jogoId) {
+        AvaliacaoEstatistica estatistica = repository.bloquearPorJogoId(jogoId).orElse(null);
+        if (estatistica == null) {
+            if (jogoRepository.bloquearPorId(jogoId).isEmpty()) {
+                return;
+            }
+            // Outra transação pode ter criado a linha enquanto esperávamos o bloqueio do jogo
+            estatistica = repository.bloquearPorJogoId(jogoId).orElseGet(() -> new AvaliacaoEstatistica(jogoId));
+        }
+
+        Optional<AvaliacaoEstatisticaProjection> calculada = avaliacaoRepository.calcularEstatisticas(jogoId);
+        estatistica.setTotal(calculada.map(AvaliacaoEstatisticaProjection::getTotal).orElse(0L));
+        estatistica.setSoma(calculada.map(AvaliacaoEstatisticaProjection::getSoma).orElse(0L));
+        estatistica.setNota1(calculada.map(AvaliacaoEstatisticaProjection::getNota1).orElse(0L));
+        estatistica.setNota2(calculada.map(AvaliacaoEstatisticaProjection::getNota2).orElse(0L));
+        estatistica.setNota3(calculada.map(AvaliacaoEstatisticaProjection::getNota3).orElse(0L));
+        estatistica.setNota4(calculada.map(AvaliacaoEstatisticaProjection::getNota4).orElse(0L));
+        estatistica.setNota5(calculada.map(AvaliacaoEstatisticaProjection::getNota5).orElse(0L));
+        repository.save(estatistica);
+    }
+
+    private int somar(UUID jogoId, long total, long soma, long[] histograma) {
+        return repository.somar(jogoId, total, soma,
+                histograma[1], histograma[2], histograma[3], histograma[4], histograma[5]);
+    }
+
+    private static void contar(long[] histograma, int nota, int variacao) {
+        // Notas fora da faixa (dados legados) entram na média, mas não no histograma
+        if (nota >= NOTA_MINIMA && nota <= NOTA_MAXIMA) {
+            histograma[nota] += variacao;
+        }
+    }
+
+    private static boolean igual(AvaliacaoEstatistica atual, AvaliacaoEstatisticaProjection calculada) {
+        return atual.getTotal() == calculada.getTotal()
+                && atual.getSoma() == calculada.getSoma()
+                && atual.getNota1() == calculada.getNota1()
+                && atual.getNota2() == calculada.getNota2()
+                && atual.getNota3() == calculada.getNota3()
+                && atual.getNota4() == calculada.getNota4()
+                && atual.getNota5() == calculada.getNota5();
+    }
+
+    private AvaliacaoEstatisticasResponseDTO toResponse(AvaliacaoEstatistica estatistica) {
+        Map<Integer, Long> histograma = new LinkedHashMap<>();
+        histograma.put(1, estatistica.getNota1());
+        histograma.put(2, estatistica.getNota2());
+        histograma.put(3, estatistica.getNota3());
+        histograma.put(4, estatistica.getNota4());
+        histograma.put(5, estatistica.getNota5());
+        Double media = estatistica.getTotal() > 0 ? (double) estatistica.getSoma() / estatistica.getTotal() : null;
+        return new AvaliacaoEstatisticasResponseDTO(estatistica.getJogoId(), estatistica.getTotal(), media, histograma);
+    }
+}
@@ -6,22 +6,39 @@ import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
 import br.com.ifba.gamelog.features.avaliacao.mapper.AvaliacaoMapper;
 import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
 import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoRepository;
-import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
-import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.jogo.service.IJogoTendenciaService;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Serviço responsável pelas regras de negócio das avaliações.
@@ -34,10 +51,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AvaliacaoService implements IAvaliacaoService {
 
+    private static final String AVALIACAO_DUPLICADA = "Este usuário já avaliou este jogo. Use a edição para alterar a nota.";
+
     private final IAvaliacaoRepository repository;
     private final IUsuarioRepository usuarioRepository;
     private final IJogoRepository jogoRepository;
     private final AvaliacaoMapper mapper;
+    private final IAvaliacaoEstatisticaService estatisticaService;
+    private final IAvaliacaoBuscaService buscaService;
+    private final IJogoTendenciaService tendenciaService;
+    private final EntityManager entityManager;
 
     /**
      * Cria uma nova avaliação no sistema.
@@ -49,24 +72,30 @@ public class AvaliacaoService implements IAvaliacaoService {
     @Override
     @Transactional
     public AvaliacaoResponseDTO save(AvaliacaoCriarRequestDTO dto) {
-        Usuario usuario = usuarioRepository.findById(dto.usuarioId())
-                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage()));
-
-        Jogo jogo = jogoRepository.findById(dto.jogoId())
-                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
-
-        if (repository.existsByUsuarioIdAndJogoId(dto.usuarioId(), dto.jogoId())) {
-            throw new BusinessException("Este usuário já avaliou este jogo. Use a edição para alterar a nota.");
-        }
-
+        // Referências, sem SELECT: a existência do usuário e do jogo (chaves estrangeiras) e a
+        // duplicidade (restrição única) são verificadas pelo banco no próprio INSERT, sem janela
+        // entre verificação e gravação para envios simultâneos.
         Avaliacao entity = new Avaliacao();
         entity.setNota(dto.nota());
         entity.setComentario(dto.comentario());
-        entity.setUsuario(usuario);
-        entity.setJogo(jogo);
+        entity.setUsuario(usuarioRepository.getReferenceById(dto.usuarioId()));
+        entity.setJogo(jogoRepository.getReferenceById(dto.jogoId()));
 
-        Avaliacao savedEntity = repository.save(entity);
-        return mapper.toResponse(savedEntity);
+        Avaliacao savedEntity;
+        try {
+            savedEntity = repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // Violação sem tradução (outra restrição): propaga a exceção original
+            throw traduzirViolacao(e).orElseThrow(() -> e);
+        }
+
+        estatisticaService.registrar(dto.jogoId(), null, savedEntity.getNota());
+        buscaService.indexar(savedEntity);
+        tendenciaService.registrar(dto.jogoId(), JogoAtividadeTipo.AVALIACAO);
+
+        // Nome e avatar do autor em uma única leitura por projeção, sem carregar usuário e perfil
+        return repository.findResponseById(savedEntity.getId())
+                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
     }
 
     /**
@@ -82,6 +111,20 @@ public class AvaliacaoService implements IAvaliacaoService {
                 .toList();
     }
 
+    /**
+     * Percorre todas as avaliações entregando um DTO por vez ao consumidor (modo NDJSON).
+     * O contexto de persistência é limpo periodicamente, então o uso de memória
+     * não cresce com o tamanho da tabela.
+     *
+     * @param consumidor Recebe cada DTO assim que a linha é lida do banco.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<AvaliacaoResponseDTO> consumidor) {
+        EntityStreams.forEach(repository.streamAll(), entityManager,
+                avaliacao -> consumidor.accept(mapper.toResponse(avaliacao)));
+    }
+
     /**
      * Lista as avaliações do sistema com suporte a paginação.
      *
@@ -96,17 +139,57 @@ public class AvaliacaoService implements IAvaliacaoService {
     }
 
     /**
-     * Lista todas as avaliações de um jogo específico.
+     * Lista avaliações com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AvaliacaoResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<Avaliacao> window = repository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), Avaliacao.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
+    /**
+     * Lista as avaliações de um jogo, das mais recentes para as mais antigas, paginadas por cursor.
+     * Cada página é uma única consulta que já devolve os DTOs (autor e perfil via JOIN),
+     * independente da quantidade de avaliações do jogo.
      *
-     * @param jogoId ID do jogo.
-     * @return Lista de avaliações do jogo.
+     * @param jogoId  ID do jogo.
+     * @param cursor  Cursor da página anterior (vazio na primeira página).
+     * @param tamanho Tamanho da página.
+     * @return Página de avaliações do jogo.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<AvaliacaoResponseDTO> findAllByJogo(UUID jogoId) {
-        return repository.findByJogoId(jogoId).stream()
-                .map(mapper::toResponse)
-                .toList();
+    public CursorPage<AvaliacaoResponseDTO> findAllByJogo(UUID jogoId, String cursor, int tamanho) {
+        KeysetScrollPosition posicao = CursorCodec.decode(cursor);
+        // Busca um item a mais para saber se existe próxima página
+        Limit limite = Limit.of(tamanho + 1);
+
+        List<AvaliacaoResponseDTO> avaliacoes;
+        if (posicao.isInitial()) {
+            avaliacoes = repository.findPaginaByJogoId(jogoId, limite);
+        } else {
+            Map<String, Object> chaves = posicao.getKeys();
+            if (!(chaves.get("createdAt") instanceof Instant createdAt) || !(chaves.get("id") instanceof UUID id)) {
+                throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+            }
+            avaliacoes = repository.findPaginaByJogoId(jogoId, createdAt, id, limite);
+        }
+
+        boolean temProxima = avaliacoes.size() > tamanho;
+        List<AvaliacaoResponseDTO> pagina = temProxima ? avaliacoes.subList(0, tamanho) : avaliacoes;
+        Window<AvaliacaoResponseDTO> window = Window.from(pagina, i -> posicaoDe(pagina.get(i)), temProxima);
+        return CursorPage.of(window, tamanho, avaliacao -> avaliacao);
+    }
+
+    private static ScrollPosition posicaoDe(AvaliacaoResponseDTO avaliacao) {
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("createdAt", avaliacao.createdAt());
+        chaves.put("id", avaliacao.id());
+        return ScrollPosition.forward(chaves);
     }
 
     /**
@@ -139,10 +222,14 @@ public class AvaliacaoService implements IAvaliacaoService {
 
         // Opcional: Aqui você também poderia verificar se o usuário logado é o dono antes de deixar editar
 
+        Integer notaAnterior = avaliacao.getNota();
+        String comentarioAnterior = avaliacao.getComentario();
         avaliacao.setNota(dto.nota());
         avaliacao.setComentario(dto.comentario());
 
         Avaliacao updatedEntity = repository.save(avaliacao);
+        estatisticaService.registrar(avaliacao.getJogo().getId(), notaAnterior, updatedEntity.getNota());
+        buscaService.atualizar(updatedEntity, comentarioAnterior, notaAnterior);
         return mapper.toResponse(updatedEntity);
     }
 
@@ -178,10 +265,45 @@ public class AvaliacaoService implements IAvaliacaoService {
             throw new BusinessException("Acesso negado: Você não tem permissão para excluir esta avaliação.");
         }
 
+        // Os termos do índice de busca saem junto, pela chave estrangeira (ON DELETE CASCADE)
         repository.delete(avaliacao);
+        estatisticaService.registrar(avaliacao.getJogo().getId(), avaliacao.getNota(), null);
         return id;
     }
 
+    /**
+     * Busca por texto nos comentários, com filtros opcionais de jogo e faixa de nota.
+     * Ordenada por relevância e paginada sem contagem total.
+     */
+    @Override
+    public Slice<AvaliacaoResponseDTO> search(String consulta, UUID jogoId, Integer notaMinima, Integer notaMaxima,
+                                              Pageable pageable) {
+        return buscaService.buscar(consulta, jogoId, notaMinima, notaMaxima, pageable);
+    }
+
+    /**
+     * Converte a violação de restrição do INSERT na mensagem de negócio correspondente.
+     * Usa o nome da restrição e, para bancos com chaves criadas antes dos nomes explícitos,
+     * a coluna citada na mensagem do banco.
+     *
+     * @return A exceção de negócio, ou vazio se a restrição violada não for reconhecida.
+     */
+    private Optional<BusinessException> traduzirViolacao(DataIntegrityViolationException e) {
+        String restricao = e.getCause() instanceof ConstraintViolationException violacao ? violacao.getConstraintName() : null;
+        String detalhe = (restricao + " " + e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+
+        if (detalhe.contains(Avaliacao.RESTRICAO_USUARIO_JOGO)) {
+            return Optional.of(new BusinessException(AVALIACAO_DUPLICADA));
+        }
+        if (detalhe.contains(Avaliacao.FK_USUARIO) || detalhe.contains("(usuario_id)")) {
+            return Optional.of(new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage()));
+        }
+        if (detalhe.contains(Avaliacao.FK_JOGO) || detalhe.contains("(jogo_id)")) {
+            return Optional.of(new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
+        }
+        return Optional.empty();
+    }
+
     /**
      * Busca todas as avaliações feitas por um usuário específico.
      *
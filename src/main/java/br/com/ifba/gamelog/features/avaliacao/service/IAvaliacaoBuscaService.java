@@ -0,0 +1,36 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+
+public interface IAvaliacaoBuscaService {
+
+    /**
+     * Indexa o comentário de uma avaliação nova (na transação de quem chama).
+     * @param avaliacao Avaliação já persistida.
+     */
+    void indexar(Avaliacao avaliacao);
+
+    /**
+     * Atualiza o índice após a edição de uma avaliação (na transação de quem chama).
+     * @param avaliacao Avaliação alterada.
+     * @param comentarioAnterior Comentário antes da edição.
+     * @param notaAnterior Nota antes da edição.
+     */
+    void atualizar(Avaliacao avaliacao, String comentarioAnterior, Integer notaAnterior);
+
+    /**
+     * Busca avaliações cujo comentário contém todos os termos, da mais relevante para a menos relevante.
+     * @param consulta Texto livre.
+     * @param jogoId Jogo (nulo = todos).
+     * @param notaMinima Nota mínima (nulo = sem limite).
+     * @param notaMaxima Nota máxima (nulo = sem limite).
+     * @param pageable Página desejada (a ordenação é sempre por relevância).
+     * @return Página de avaliações, sem contagem total.
+     */
+    Slice<AvaliacaoResponseDTO> buscar(String consulta, UUID jogoId, Integer notaMinima, Integer notaMaxima, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
+
+import java.util.UUID;
+
+public interface IAvaliacaoEstatisticaService {
+
+    /**
+     * Aplica ao resumo do jogo a troca de uma nota por outra, na transação do chamador.
+     * @param jogoId ID do jogo avaliado.
+     * @param notaRemovida Nota que deixa de contar (nula na criação).
+     * @param notaAdicionada Nota que passa a contar (nula na exclusão).
+     */
+    void registrar(UUID jogoId, Integer notaRemovida, Integer notaAdicionada);
+
+    /**
+     * Busca quantidade, média e histograma das notas de um jogo (leitura de uma única linha).
+     * @param jogoId ID do jogo.
+     * @return Estatísticas do jogo (zeradas se ainda não houver avaliações).
+     */
+    AvaliacaoEstatisticasResponseDTO findByJogo(UUID jogoId);
+
+    /**
+     * Remove o resumo de um jogo excluído do catálogo.
+     * @param jogoId ID do jogo.
+     */
+    void remover(UUID jogoId);
+
+    /**
+     * Compara os resumos com as avaliações e recalcula os que divergirem.
+     * @return Quantidade de jogos corrigidos.
+     */
+    int reconstruir();
+}
@@ -3,16 +3,25 @@ package br.com.ifba.gamelog.features.avaliacao.service;
 import br.com.ifba.gamelog.features.avaliacao.dto.request.AvaliacaoAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.avaliacao.dto.request.AvaliacaoCriarRequestDTO;
 import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable; // Adicionado import
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IAvaliacaoService {
     AvaliacaoResponseDTO save(AvaliacaoCriarRequestDTO dto);
     List<AvaliacaoResponseDTO> findAll();
 
+    /**
+     * Percorre todas as avaliações, entregando um DTO por vez (streaming), sem montar a lista em memória.
+     * @param consumidor Recebe cada DTO assim que é lido do banco.
+     */
+    void streamAll(Consumer<AvaliacaoResponseDTO> consumidor);
+
     /**
      * Lista as avaliações com suporte a paginação.
      * @param pageable Parâmetros de paginação.
@@ -20,9 +29,36 @@ public interface IAvaliacaoService {
      */
     Page<AvaliacaoResponseDTO> findAllPaged(Pageable pageable); // NOVO MÉTODO
 
+    /**
+     * Lista os avaliações com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<AvaliacaoResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+
     AvaliacaoResponseDTO findById(UUID id);
     AvaliacaoResponseDTO update(AvaliacaoAtualizarRequestDTO dto);
     UUID delete(UUID id);
-    public List<AvaliacaoResponseDTO> findAllByJogo(UUID jogoId);
+
+    /**
+     * Lista as avaliações de um jogo, das mais recentes para as mais antigas, com paginação por cursor.
+     * @param jogoId ID do jogo.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param tamanho Tamanho da página.
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<AvaliacaoResponseDTO> findAllByJogo(UUID jogoId, String cursor, int tamanho);
+
+    /**
+     * Busca avaliações pelo texto do comentário, ordenadas por relevância.
+     * @param consulta Texto livre (todos os termos devem aparecer no comentário).
+     * @param jogoId Jogo (nulo = todos).
+     * @param notaMinima Nota mínima (nulo = sem limite).
+     * @param notaMaxima Nota máxima (nulo = sem limite).
+     * @param pageable Página desejada (a ordenação é sempre por relevância).
+     * @return Página de avaliações, sem contagem total.
+     */
+    Slice<AvaliacaoResponseDTO> search(String consulta, UUID jogoId, Integer notaMinima, Integer notaMaxima, Pageable pageable);
     public List<AvaliacaoResponseDTO> findAllByUsuario(UUID usuarioId);
 }
\ No newline at end of file
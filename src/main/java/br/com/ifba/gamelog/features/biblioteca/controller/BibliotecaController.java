@@ -2,11 +2,16 @@ package br.com.ifba.gamelog.features.biblioteca.controller;
 
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaCriarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteRequestDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaRetornarIdResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
 import br.com.ifba.gamelog.features.biblioteca.service.IBibliotecaService;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -25,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -47,6 +53,7 @@ import java.util.UUID;
 public class BibliotecaController {
 
     private final IBibliotecaService bibliotecaService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Adiciona um novo jogo à biblioteca do usuário.
@@ -77,6 +84,35 @@ public class BibliotecaController {
                 .body(bibliotecaService.save(dto));
     }
 
+    /**
+     * Aplica várias operações à biblioteca de um usuário de uma só vez (inclusões, mudanças de status,
+     * favoritos e remoções), em uma única transação.
+     *
+     * @param dto    Operações do lote.
+     * @param result Resultado da validação.
+     * @return Quantidades de itens adicionados, atualizados e removidos.
+     */
+    @Operation(summary = "Operações em Lote", description = "Adiciona jogos, move itens entre status, marca/desmarca favoritos e remove itens da biblioteca de um usuário em uma única transação. Se alguma operação falhar, nada é aplicado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote aplicado com sucesso."),
+            @ApiResponse(responseCode = "422", description = "Erro de validação, lote contraditório ou jogo já presente na biblioteca."),
+            @ApiResponse(responseCode = "404", description = "Usuário, item ou jogo não encontrado.")
+    })
+    @PostMapping(value = "/lote",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> aplicarLote(
+            @RequestBody @Valid BibliotecaLoteRequestDTO dto,
+            BindingResult result) {
+
+        if (result.hasErrors()) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ResultError.getResultErrors(result));
+        }
+
+        return ResponseEntity.ok(bibliotecaService.aplicarLote(dto));
+    }
+
     /**
      * Recupera todos os itens de biblioteca cadastrados no sistema (Visão Admin).
      *
@@ -92,6 +128,24 @@ public class BibliotecaController {
         return ResponseEntity.ok(bibliotecaService.findAll());
     }
 
+    /**
+     * Recupera todos os itens de biblioteca em streaming (NDJSON): um objeto JSON por linha,
+     * escrito à medida que é lido do banco. Selecionado com {@code Accept: application/x-ndjson}.
+     *
+     * @return Corpo escrito de forma incremental.
+     */
+    @Operation(summary = "Listar Tudo (Streaming NDJSON)", description = "Mesmo conteúdo da listagem completa, enviado como NDJSON (um objeto por linha) à medida que é lido do banco. Envie o header Accept: application/x-ndjson.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming iniciado com sucesso.",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BibliotecaResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.<BibliotecaResponseDTO>write(bibliotecaService::streamAll));
+    }
+
     /**
      * Recupera todos os itens de biblioteca cadastrados no sistema com paginação.
      *
@@ -109,13 +163,33 @@ public class BibliotecaController {
         return ResponseEntity.ok(bibliotecaService.findAllPaged(pageable));
     }
 
+    /**
+     * Recupera itens de biblioteca com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<BibliotecaResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            @PageableDefault(size = 10, sort = "jogo.titulo") Pageable pageable) {
+        return ResponseEntity.ok(bibliotecaService.findAllByCursor(cursor, pageable));
+    }
+
     /**
      * Recupera a biblioteca completa de um usuário específico.
      *
      * @param usuarioId UUID do usuário.
      * @return Lista de jogos na biblioteca desse usuário.
      */
-    @Operation(summary = "Listar por Usuário", description = "Lista todos os jogos na biblioteca de um usuário específico.")
+    @Operation(summary = "Listar por Usuário", description = "Lista todos os jogos na biblioteca de um usuário específico. Para filtros e paginação, use ?modo=paginado.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista do usuário recuperada com sucesso."),
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
@@ -125,6 +199,47 @@ public class BibliotecaController {
         return ResponseEntity.ok(bibliotecaService.findAllByUsuario(usuarioId));
     }
 
+    /**
+     * Recupera a biblioteca de um usuário específico, com filtros e paginação.
+     * Ativado por {@code ?modo=paginado}, mantendo a rota sem o parâmetro com a resposta em lista.
+     *
+     * @param usuarioId UUID do usuário.
+     * @param status    Filtra pelo status (opcional).
+     * @param favorito  Filtra favoritos ou não favoritos (opcional).
+     * @param pageable  Parâmetros de paginação (page, size, sort).
+     * @return Página de jogos na biblioteca desse usuário.
+     */
+    @Operation(summary = "Listar por Usuário (Paginado)", description = "Com ?modo=paginado, lista os jogos na biblioteca de um usuário com filtros opcionais de status e favorito e paginação (padrão: 20 itens por página, ordenado por título do jogo). Ordenações aceitas: jogo.titulo, status, favorito, createdAt, updatedAt.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página do usuário recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Ordenação inválida."),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
+    })
+    @GetMapping(value = "/usuario/{usuarioId}", params = "modo=paginado", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<BibliotecaResponseDTO>> findPaginaByUsuario(
+            @PathVariable UUID usuarioId,
+            @RequestParam(required = false) StatusJogo status,
+            @RequestParam(required = false) Boolean favorito,
+            @PageableDefault(size = 20, sort = "jogo.titulo") Pageable pageable) {
+        return ResponseEntity.ok(bibliotecaService.findAllByUsuario(usuarioId, status, favorito, pageable));
+    }
+
+    /**
+     * Resumo da biblioteca de um usuário para a página de perfil.
+     *
+     * @param usuarioId UUID do usuário.
+     * @return Quantidade de jogos por status e de favoritos.
+     */
+    @Operation(summary = "Resumo por Usuário", description = "Quantidade de jogos por status e de favoritos na biblioteca de um usuário.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo recuperado com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
+    })
+    @GetMapping(value = "/usuario/{usuarioId}/resumo", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BibliotecaResumoResponseDTO> findResumoByUsuario(@PathVariable UUID usuarioId) {
+        return ResponseEntity.ok(bibliotecaService.findResumoByUsuario(usuarioId));
+    }
+
     /**
      * Busca um item específico da biblioteca pelo seu ID.
      *
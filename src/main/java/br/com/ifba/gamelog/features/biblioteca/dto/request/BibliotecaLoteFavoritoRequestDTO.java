@@ -0,0 +1,15 @@
+package br.com.ifba.gamelog.features.biblioteca.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record BibliotecaLoteFavoritoRequestDTO(
+        boolean favorito,
+
+        @NotEmpty(message = "Informe ao menos um item")
+        @Size(max = 500, message = "No máximo 500 itens por lote")
+        List<@NotNull UUID> itens
+) {}
@@ -0,0 +1,32 @@
+package br.com.ifba.gamelog.features.biblioteca.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações em lote sobre a biblioteca de um usuário, aplicadas em uma única transação.
+ * Um item pode aparecer em no máximo um grupo de status e um de favorito; itens removidos
+ * não podem aparecer nas demais operações.
+ */
+public record BibliotecaLoteRequestDTO(
+        @NotNull(message = "O ID do usuário é obrigatório")
+        UUID usuarioId,
+
+        @Valid
+        @Size(max = 500, message = "No máximo 500 jogos por lote")
+        List<BibliotecaLoteAdicionarRequestDTO> adicionar,
+
+        @Valid
+        @Size(max = 4, message = "No máximo um grupo por status")
+        List<BibliotecaLoteStatusRequestDTO> mover,
+
+        @Valid
+        @Size(max = 2, message = "No máximo um grupo por valor de favorito")
+        List<BibliotecaLoteFavoritoRequestDTO> favoritar,
+
+        @Size(max = 500, message = "No máximo 500 itens por lote")
+        List<@NotNull UUID> remover
+) {}
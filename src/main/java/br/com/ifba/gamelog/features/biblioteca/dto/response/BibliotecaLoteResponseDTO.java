@@ -0,0 +1,14 @@
+package br.com.ifba.gamelog.features.biblioteca.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BibliotecaLoteResponseDTO(
+        @JsonProperty("adicionados")
+        int adicionados,
+
+        @JsonProperty("atualizados")
+        int atualizados,
+
+        @JsonProperty("removidos")
+        int removidos
+) {}
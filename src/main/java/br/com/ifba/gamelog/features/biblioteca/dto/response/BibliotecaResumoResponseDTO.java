@@ -0,0 +1,21 @@
+package br.com.ifba.gamelog.features.biblioteca.dto.response;
+
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record BibliotecaResumoResponseDTO(
+        @JsonProperty("usuarioId")
+        UUID usuarioId,
+
+        @JsonProperty("total")
+        long total,
+
+        @JsonProperty("porStatus")
+        Map<StatusJogo, Long> porStatus,
+
+        @JsonProperty("favoritos")
+        long favoritos
+) {}
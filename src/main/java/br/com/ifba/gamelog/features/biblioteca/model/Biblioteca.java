@@ -9,6 +9,10 @@ import lombok.*;
 @Entity
 @Table(name = "biblioteca", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"usuario_id", "jogo_id"})
+}, indexes = {
+        // Biblioteca do usuário filtrada por status ou por favoritos
+        @Index(name = "idx_biblioteca_usuario_status", columnList = "usuario_id, status"),
+        @Index(name = "idx_biblioteca_usuario_favorito", columnList = "usuario_id, favorito")
 })
 @Getter
 @Setter
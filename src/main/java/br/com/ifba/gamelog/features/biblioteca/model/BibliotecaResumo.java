@@ -0,0 +1,45 @@
+package br.com.ifba.gamelog.features.biblioteca.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Resumo da biblioteca de um usuário (quantidade de jogos por {@link StatusJogo} e de favoritos).
+ * <p>
+ * Mantido pelo {@code BibliotecaResumoService} na mesma transação que adiciona, altera ou
+ * remove um item, para que o perfil leia uma única linha em vez de toda a biblioteca.
+ * </p>
+ */
+@Entity
+@Table(name = "biblioteca_resumos")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BibliotecaResumo {
+
+    @Id
+    @Column(name = "usuario_id")
+    private UUID usuarioId;
+
+    @Column(name = "quero_jogar", nullable = false)
+    private long queroJogar;
+
+    @Column(nullable = false)
+    private long jogando;
+
+    @Column(nullable = false)
+    private long finalizado;
+
+    @Column(nullable = false)
+    private long desistido;
+
+    @Column(nullable = false)
+    private long favoritos;
+
+    public BibliotecaResumo(UUID usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.ifba.gamelog.features.biblioteca.repository;
+
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+
+import java.util.UUID;
+
+/**
+ * Status e favorito de um item da biblioteca, sem carregar a entidade.
+ */
+public interface BibliotecaItemEstadoProjection {
+
+    UUID getId();
+
+    StatusJogo getStatus();
+
+    Boolean getFavorito();
+}
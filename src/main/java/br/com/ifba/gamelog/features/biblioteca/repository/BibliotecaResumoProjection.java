@@ -0,0 +1,21 @@
+package br.com.ifba.gamelog.features.biblioteca.repository;
+
+import java.util.UUID;
+
+/**
+ * Resumo da biblioteca de um usuário calculado diretamente a partir dos itens.
+ */
+public interface BibliotecaResumoProjection {
+
+    UUID getUsuarioId();
+
+    Long getQueroJogar();
+
+    Long getJogando();
+
+    Long getFinalizado();
+
+    Long getDesistido();
+
+    Long getFavoritos();
+}
@@ -1,14 +1,39 @@
 package br.com.ifba.gamelog.features.biblioteca.repository;
 
 import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface IBibliotecaRepository extends JpaRepository<Biblioteca, UUID> {
+public interface IBibliotecaRepository extends JpaRepository<Biblioteca, UUID>, IBibliotecaRepositoryCustom {
+
+    String CONSULTA_RESUMO = """
+            SELECT b.usuario.id AS usuarioId,
+                SUM(CASE WHEN b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.QUERO_JOGAR THEN 1 ELSE 0 END) AS queroJogar,
+                SUM(CASE WHEN b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.JOGANDO THEN 1 ELSE 0 END) AS jogando,
+                SUM(CASE WHEN b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.FINALIZADO THEN 1 ELSE 0 END) AS finalizado,
+                SUM(CASE WHEN b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.DESISTIDO THEN 1 ELSE 0 END) AS desistido,
+                SUM(CASE WHEN b.favorito = true THEN 1 ELSE 0 END) AS favoritos
+            FROM Biblioteca b""";
 
     /**
      * Verifica se o usuário já possui este jogo específico na biblioteca.
@@ -22,4 +47,108 @@ public interface IBibliotecaRepository extends JpaRepository<Biblioteca, UUID> {
      * @return Lista de itens da biblioteca.
      */
     List<Biblioteca> findAllByUsuarioId(UUID usuarioId);
-}
\ No newline at end of file
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    Window<Biblioteca> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Percorre todos os itens de biblioteca sem carregá-los de uma vez na memória.
+     * As linhas chegam do driver em blocos ({@link EntityStreams#FETCH_SIZE}) e as entidades
+     * não guardam snapshot para dirty checking (somente leitura).
+     * O jogo vem na mesma linha (JOIN FETCH), evitando uma consulta por item.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreams.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Biblioteca b JOIN FETCH b.jogo")
+    Stream<Biblioteca> streamAll();
+
+    /**
+     * Calcula o resumo de todas as bibliotecas em uma única consulta agregada.
+     * Usado pela reconstrução periódica para encontrar resumos divergentes.
+     *
+     * @return Um resumo por usuário com itens na biblioteca.
+     */
+    @Query(CONSULTA_RESUMO + " GROUP BY b.usuario.id")
+    List<BibliotecaResumoProjection> calcularResumos();
+
+    /**
+     * Calcula o resumo da biblioteca de um usuário a partir dos seus itens.
+     *
+     * @param usuarioId UUID do usuário.
+     * @return Resumo, ou vazio se a biblioteca estiver vazia.
+     */
+    @Query(CONSULTA_RESUMO + " WHERE b.usuario.id = :usuarioId GROUP BY b.usuario.id")
+    Optional<BibliotecaResumoProjection> calcularResumo(@Param("usuarioId") UUID usuarioId);
+
+    /**
+     * Bloqueia a linha do item (SELECT ... FOR UPDATE) até o fim da transação.
+     * Alterações individuais leem o estado anterior depois do bloqueio, então duas
+     * atualizações simultâneas do mesmo item não aplicam a mesma variação ao resumo.
+     *
+     * @return ID do item, ou vazio se ele não existir.
+     */
+    @Query(value = "SELECT id FROM biblioteca WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> bloquearPorId(@Param("id") UUID id);
+
+    /**
+     * Bloqueia (SELECT ... FOR UPDATE) os itens informados que pertencem ao usuário, até o fim da transação.
+     * Operações em lote leem o estado anterior depois do bloqueio, então a variação aplicada
+     * ao resumo corresponde exatamente às linhas alteradas.
+     *
+     * @return Uma linha por item encontrado e bloqueado (só a quantidade importa).
+     */
+    @Query(value = "SELECT 1 FROM biblioteca WHERE usuario_id = :usuarioId AND id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Integer> bloquearItens(@Param("usuarioId") UUID usuarioId, @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lê status e favorito dos itens em uma única consulta, sem carregar as entidades.
+     */
+    @Query("SELECT b.id AS id, b.status AS status, b.favorito AS favorito FROM Biblioteca b WHERE b.id IN :ids")
+    List<BibliotecaItemEstadoProjection> findEstadosByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Jogos da lista que o usuário já possui na biblioteca.
+     */
+    @Query("SELECT b.jogo.id FROM Biblioteca b WHERE b.usuario.id = :usuarioId AND b.jogo.id IN :jogoIds")
+    List<UUID> findJogoIdsExistentes(@Param("usuarioId") UUID usuarioId, @Param("jogoIds") Collection<UUID> jogoIds);
+
+    /**
+     * Altera o status de vários itens em um único UPDATE.
+     *
+     * @return Quantidade de linhas atualizadas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Biblioteca b SET b.status = :status, b.updatedAt = :agora WHERE b.id IN :ids")
+    int atualizarStatus(@Param("ids") Collection<UUID> ids, @Param("status") StatusJogo status, @Param("agora") Instant agora);
+
+    /**
+     * Marca ou desmarca vários itens como favoritos em um único UPDATE.
+     *
+     * @return Quantidade de linhas atualizadas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Biblioteca b SET b.favorito = :favorito, b.updatedAt = :agora WHERE b.id IN :ids")
+    int atualizarFavorito(@Param("ids") Collection<UUID> ids, @Param("favorito") boolean favorito, @Param("agora") Instant agora);
+
+    /**
+     * Remove vários itens em um único DELETE.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Biblioteca b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
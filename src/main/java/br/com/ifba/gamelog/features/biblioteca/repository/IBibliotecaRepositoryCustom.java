@@ -0,0 +1,28 @@
+package br.com.ifba.gamelog.features.biblioteca.repository;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Consultas da biblioteca montadas conforme os filtros presentes.
+ */
+public interface IBibliotecaRepositoryCustom {
+
+    /**
+     * Página da biblioteca de um usuário já como DTO: uma consulta com o jogo no mesmo JOIN,
+     * sem carregar entidades. Só os filtros informados entram no WHERE, então cada combinação
+     * usa o índice (usuário, status) ou (usuário, favorito) correspondente.
+     *
+     * @param usuarioId Dono da biblioteca.
+     * @param status    Status (nulo = todos).
+     * @param favorito  Favorito (nulo = todos).
+     * @param pageable  Página e ordenação ({@code jogo.titulo}, {@code status}, {@code favorito},
+     *                  {@code createdAt} ou {@code updatedAt}); sem paginação, traz todos os itens.
+     * @return Página de itens; o total só é contado quando a página vem cheia.
+     */
+    Page<BibliotecaResponseDTO> findPaginaByUsuario(UUID usuarioId, StatusJogo status, Boolean favorito, Pageable pageable);
+}
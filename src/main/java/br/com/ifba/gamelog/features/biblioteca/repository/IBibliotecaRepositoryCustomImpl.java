@@ -0,0 +1,79 @@
+package br.com.ifba.gamelog.features.biblioteca.repository;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementação de {@link IBibliotecaRepositoryCustom}.
+ * <p>
+ * A ordenação aceita apenas as propriedades mapeadas abaixo; o ID entra sempre como desempate,
+ * para que itens com o mesmo valor não troquem de página entre requisições.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class IBibliotecaRepositoryCustomImpl implements IBibliotecaRepositoryCustom {
+
+    private static final Map<String, String> ORDENACAO = Map.of(
+            "jogo.titulo", "j.titulo",
+            "status", "b.status",
+            "favorito", "b.favorito",
+            "createdAt", "b.createdAt",
+            "updatedAt", "b.updatedAt"
+    );
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<BibliotecaResponseDTO> findPaginaByUsuario(UUID usuarioId, StatusJogo status, Boolean favorito,
+                                                          Pageable pageable) {
+        StringBuilder filtro = new StringBuilder(" WHERE b.usuario.id = :usuarioId");
+        if (status != null) filtro.append(" AND b.status = :status");
+        if (favorito != null) filtro.append(" AND b.favorito = :favorito");
+
+        StringBuilder ordem = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : pageable.getSortOr(Sort.by("jogo.titulo"))) {
+            String coluna = ORDENACAO.get(order.getProperty());
+            if (coluna == null) {
+                throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+            }
+            ordem.append(coluna).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        ordem.append("b.id");
+
+        TypedQuery<BibliotecaResponseDTO> query = entityManager.createQuery("""
+                SELECT new br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO(
+                    b.id, b.status, b.favorito, b.usuario.id, j.id, j.titulo, j.capaUrl)
+                FROM Biblioteca b JOIN b.jogo j""" + filtro + ordem, BibliotecaResponseDTO.class);
+        parametros(query, usuarioId, status, favorito);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE))
+                    .setMaxResults(pageable.getPageSize());
+        }
+        List<BibliotecaResponseDTO> conteudo = query.getResultList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> {
+            TypedQuery<Long> contagem = entityManager.createQuery("SELECT COUNT(b) FROM Biblioteca b" + filtro, Long.class);
+            parametros(contagem, usuarioId, status, favorito);
+            return contagem.getSingleResult();
+        });
+    }
+
+    private static void parametros(TypedQuery<?> query, UUID usuarioId, StatusJogo status, Boolean favorito) {
+        query.setParameter("usuarioId", usuarioId);
+        if (status != null) query.setParameter("status", status);
+        if (favorito != null) query.setParameter("favorito", favorito);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.ifba.gamelog.features.biblioteca.repository;
+
+import br.com.ifba.gamelog.features.biblioteca.model.BibliotecaResumo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IBibliotecaResumoRepository extends JpaRepository<BibliotecaResumo, UUID> {
+
+    /**
+     * Soma as variações à linha do usuário em um único UPDATE atômico (sem ler a linha antes),
+     * então alterações simultâneas na mesma biblioteca não perdem incrementos.
+     * O item pendente é gravado antes (flush), mantendo a ordem "item, depois resumo".
+     *
+     * @return Quantidade de linhas atualizadas (0 se o usuário ainda não tiver linha de resumo).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE BibliotecaResumo r SET
+                r.queroJogar = r.queroJogar + :queroJogar, r.jogando = r.jogando + :jogando,
+                r.finalizado = r.finalizado + :finalizado, r.desistido = r.desistido + :desistido,
+                r.favoritos = r.favoritos + :favoritos
+            WHERE r.usuarioId = :usuarioId""")
+    int somar(@Param("usuarioId") UUID usuarioId, @Param("queroJogar") long queroJogar, @Param("jogando") long jogando,
+              @Param("finalizado") long finalizado, @Param("desistido") long desistido, @Param("favoritos") long favoritos);
+
+    /**
+     * Desconta dos resumos os itens de um jogo que está sendo excluído do catálogo
+     * (os itens saem em cascata junto com o jogo). Um único UPDATE para todos os usuários afetados;
+     * deve ser executado antes da exclusão do jogo.
+     *
+     * @return Quantidade de resumos atualizados.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE BibliotecaResumo r SET
+                r.queroJogar = r.queroJogar - (SELECT COUNT(b) FROM Biblioteca b WHERE b.usuario.id = r.usuarioId AND b.jogo.id = :jogoId
+                    AND b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.QUERO_JOGAR),
+                r.jogando = r.jogando - (SELECT COUNT(b) FROM Biblioteca b WHERE b.usuario.id = r.usuarioId AND b.jogo.id = :jogoId
+                    AND b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.JOGANDO),
+                r.finalizado = r.finalizado - (SELECT COUNT(b) FROM Biblioteca b WHERE b.usuario.id = r.usuarioId AND b.jogo.id = :jogoId
+                    AND b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.FINALIZADO),
+                r.desistido = r.desistido - (SELECT COUNT(b) FROM Biblioteca b WHERE b.usuario.id = r.usuarioId AND b.jogo.id = :jogoId
+                    AND b.status = br.com.ifba.gamelog.features.biblioteca.model.StatusJogo.DESISTIDO),
+                r.favoritos = r.favoritos - (SELECT COUNT(b) FROM Biblioteca b WHERE b.usuario.id = r.usuarioId AND b.jogo.id = :jogoId
+                    AND b.favorito = true)
+            WHERE r.usuarioId IN (SELECT b.usuario.id FROM Biblioteca b WHERE b.jogo.id = :jogoId)""")
+    int descontarJogo(@Param("jogoId") UUID jogoId);
+
+    /**
+     * Busca a linha do usuário bloqueando-a (SELECT ... FOR UPDATE) até o fim da transação.
+     * Usado pela reconstrução, para que nenhuma alteração na biblioteca mude o resumo durante o recálculo.
+     */
+    @Query(value = "SELECT * FROM biblioteca_resumos WHERE usuario_id = :usuarioId FOR UPDATE", nativeQuery = true)
+    Optional<BibliotecaResumo> bloquearPorUsuarioId(@Param("usuarioId") UUID usuarioId);
+
+    /**
+     * Remove os resumos de usuários que não existem mais.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM BibliotecaResumo r WHERE NOT EXISTS (SELECT 1 FROM Usuario u WHERE u.id = r.usuarioId)")
+    int deleteOrfas();
+}
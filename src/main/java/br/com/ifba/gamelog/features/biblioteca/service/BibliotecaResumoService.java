@@ -0,0 +1,239 @@
+package br.com.ifba.gamelog.features.biblioteca.service;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.BibliotecaResumo;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.biblioteca.repository.BibliotecaResumoProjection;
+import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaRepository;
+import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaResumoRepository;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço do resumo da biblioteca por usuário (jogos por status e favoritos).
+ * <p>
+ * Cada inclusão, alteração ou remoção de item soma uma variação à linha do usuário
+ * com um único UPDATE, dentro da transação do próprio item. O primeiro item de um
+ * usuário cria a linha sob o bloqueio do usuário, evitando duas linhas concorrentes.
+ * </p>
+ * <p>
+ * Uma reconstrução periódica compara os resumos com uma agregação dos itens
+ * e recalcula em paralelo apenas os usuários divergentes.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class BibliotecaResumoService implements IBibliotecaResumoService {
+
+    private final IBibliotecaResumoRepository repository;
+    private final IBibliotecaRepository bibliotecaRepository;
+    private final IUsuarioRepository usuarioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int concorrencia;
+
+    public BibliotecaResumoService(
+            IBibliotecaResumoRepository repository,
+            IBibliotecaRepository bibliotecaRepository,
+            IUsuarioRepository usuarioRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${bibliotecas.resumo.rebuild.concurrency:4}") int concorrencia
+    ) {
+        this.repository = repository;
+        this.bibliotecaRepository = bibliotecaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.concorrencia = concorrencia;
+    }
+
+    /**
+     * Aplica a variação de um item ao resumo do usuário.
+     * Exige a transação do chamador: o resumo só muda se o item for gravado.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(UUID usuarioId, StatusJogo statusRemovido, boolean favoritoRemovido,
+                          StatusJogo statusAdicionado, boolean favoritoAdicionado) {
+        long[] porStatus = new long[StatusJogo.values().length];
+        if (statusRemovido != null) {
+            porStatus[statusRemovido.ordinal()]--;
+        }
+        if (statusAdicionado != null) {
+            porStatus[statusAdicionado.ordinal()]++;
+        }
+        aplicar(usuarioId, porStatus, (favoritoAdicionado ? 1 : 0) - (favoritoRemovido ? 1 : 0));
+    }
+
+    /**
+     * Aplica a variação somada de várias alterações (operações em lote) ao resumo do usuário.
+     * Exige a transação do chamador.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(UUID usuarioId, Map<StatusJogo, Long> variacaoPorStatus, long variacaoFavoritos) {
+        long[] porStatus = new long[StatusJogo.values().length];
+        variacaoPorStatus.forEach((status, variacao) -> porStatus[status.ordinal()] += variacao);
+        aplicar(usuarioId, porStatus, variacaoFavoritos);
+    }
+
+    private void aplicar(UUID usuarioId, long[] porStatus, long favoritos) {
+        if (favoritos == 0 && Arrays.stream(porStatus).allMatch(variacao -> variacao == 0)) {
+            return;
+        }
+
+        if (somar(usuarioId, porStatus, favoritos) > 0) {
+            return;
+        }
+
+        // Primeiro item do usuário: o bloqueio do usuário serializa a criação da linha.
+        // Quem esperou pelo bloqueio repete o UPDATE e já encontra a linha criada pelo outro.
+        usuarioRepository.bloquearPorId(usuarioId);
+        if (somar(usuarioId, porStatus, favoritos) == 0) {
+            repository.saveAndFlush(new BibliotecaResumo(usuarioId,
+                    porStatus[StatusJogo.QUERO_JOGAR.ordinal()], porStatus[StatusJogo.JOGANDO.ordinal()],
+                    porStatus[StatusJogo.FINALIZADO.ordinal()], porStatus[StatusJogo.DESISTIDO.ordinal()], favoritos));
+        }
+    }
+
+    /**
+     * Lê o resumo de um usuário (uma linha, independente do tamanho da biblioteca).
+     *
+     * @throws BusinessException se o usuário não existir.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BibliotecaResumoResponseDTO findByUsuario(UUID usuarioId) {
+        return repository.findById(usuarioId)
+                .map(this::toResponse)
+                .orElseGet(() -> {
+                    if (!usuarioRepository.existsById(usuarioId)) {
+                        throw new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage());
+                    }
+                    return toResponse(new BibliotecaResumo(usuarioId));
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removerJogo(UUID jogoId) {
+        repository.descontarJogo(jogoId);
+    }
+
+    @Override
+    @Transactional
+    public void remover(UUID usuarioId) {
+        repository.findById(usuarioId).ifPresent(repository::delete);
+    }
+
+    /**
+     * Reconstrução periódica: uma consulta agregada sobre os itens aponta os resumos
+     * divergentes, que são recalculados em paralelo, um usuário por transação.
+     * A primeira execução também preenche os resumos de bibliotecas anteriores a esta tabela.
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${bibliotecas.resumo.rebuild.initial-delay:PT1M}",
+            fixedDelayString = "${bibliotecas.resumo.rebuild.interval:PT6H}"
+    )
+    public int reconstruir() {
+        Integer orfas = transactionTemplate.execute(status -> repository.deleteOrfas());
+
+        Map<UUID, BibliotecaResumoProjection> calculados = new HashMap<>();
+        bibliotecaRepository.calcularResumos().forEach(r -> calculados.put(r.getUsuarioId(), r));
+
+        Set<UUID> divergentes = new HashSet<>();
+        for (BibliotecaResumo atual : repository.findAll()) {
+            BibliotecaResumoProjection calculado = calculados.remove(atual.getUsuarioId());
+            if (calculado == null ? !vazio(atual) : !igual(atual, calculado)) {
+                divergentes.add(atual.getUsuarioId());
+            }
+        }
+        // Usuários com itens ainda sem linha de resumo
+        divergentes.addAll(calculados.keySet());
+
+        AtomicInteger corrigidos = new AtomicInteger();
+        Flux.fromIterable(divergentes)
+                .flatMap(usuarioId -> Mono.fromRunnable(() -> {
+                            try {
+                                transactionTemplate.executeWithoutResult(status -> recalcular(usuarioId));
+                                corrigidos.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                log.error("Erro ao reconstruir resumo da biblioteca [usuario={}]: {}", usuarioId, e.getMessage());
+                            }
+                        }).subscribeOn(Schedulers.boundedElastic()), concorrencia)
+                .blockLast();
+
+        if (corrigidos.get() > 0 || (orfas != null && orfas > 0)) {
+            log.warn("Resumos de biblioteca reconstruídos: {} usuários corrigidos, {} resumos órfãos removidos.",
+                    corrigidos.get(), orfas);
+        }
+        return corrigidos.get();
+    }
+
+    /**
+     * Recalcula o resumo de um usuário com a linha bloqueada: alterações concorrentes esperam
+     * o recálculo terminar e só então somam a sua variação.
+     */
+    private void recalcular(UUID usuarioId) {
+        BibliotecaResumo resumo = repository.bloquearPorUsuarioId(usuarioId).orElse(null);
+        if (resumo == null) {
+            if (usuarioRepository.bloquearPorId(usuarioId).isEmpty()) {
+                return;
+            }
+            // Outra transação pode ter criado a linha enquanto esperávamos o bloqueio do usuário
+            resumo = repository.bloquearPorUsuarioId(usuarioId).orElseGet(() -> new BibliotecaResumo(usuarioId));
+        }
+
+        Optional<BibliotecaResumoProjection> calculado = bibliotecaRepository.calcularResumo(usuarioId);
+        resumo.setQueroJogar(calculado.map(BibliotecaResumoProjection::getQueroJogar).orElse(0L));
+        resumo.setJogando(calculado.map(BibliotecaResumoProjection::getJogando).orElse(0L));
+        resumo.setFinalizado(calculado.map(BibliotecaResumoProjection::getFinalizado).orElse(0L));
+        resumo.setDesistido(calculado.map(BibliotecaResumoProjection::getDesistido).orElse(0L));
+        resumo.setFavoritos(calculado.map(BibliotecaResumoProjection::getFavoritos).orElse(0L));
+        repository.save(resumo);
+    }
+
+    private int somar(UUID usuarioId, long[] porStatus, long favoritos) {
+        return repository.somar(usuarioId,
+                porStatus[StatusJogo.QUERO_JOGAR.ordinal()], porStatus[StatusJogo.JOGANDO.ordinal()],
+                porStatus[StatusJogo.FINALIZADO.ordinal()], porStatus[StatusJogo.DESISTIDO.ordinal()], favoritos);
+    }
+
+    private static boolean vazio(BibliotecaResumo resumo) {
+        return resumo.getQueroJogar() == 0 && resumo.getJogando() == 0 && resumo.getFinalizado() == 0
+                && resumo.getDesistido() == 0 && resumo.getFavoritos() == 0;
+    }
+
+    private static boolean igual(BibliotecaResumo atual, BibliotecaResumoProjection calculado) {
+        return atual.getQueroJogar() == calculado.getQueroJogar()
+                && atual.getJogando() == calculado.getJogando()
+                && atual.getFinalizado() == calculado.getFinalizado()
+                && atual.getDesistido() == calculado.getDesistido()
+                && atual.getFavoritos() == calculado.getFavoritos();
+    }
+
+    private BibliotecaResumoResponseDTO toResponse(BibliotecaResumo resumo) {
+        Map<StatusJogo, Long> porStatus = new EnumMap<>(StatusJogo.class);
+        porStatus.put(StatusJogo.QUERO_JOGAR, resumo.getQueroJogar());
+        porStatus.put(StatusJogo.JOGANDO, resumo.getJogando());
+        porStatus.put(StatusJogo.FINALIZADO, resumo.getFinalizado());
+        porStatus.put(StatusJogo.DESISTIDO, resumo.getDesistido());
+        long total = resumo.getQueroJogar() + resumo.getJogando() + resumo.getFinalizado() + resumo.getDesistido();
+        return new BibliotecaResumoResponseDTO(resumo.getUsuarioId(), total, porStatus, resumo.getFavoritos());
+    }
+}
@@ -2,24 +2,52 @@ package br.com.ifba.gamelog.features.biblioteca.service;
 
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaCriarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteFavoritoRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteStatusRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaLoteResponseDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
 import br.com.ifba.gamelog.features.biblioteca.mapper.BibliotecaMapper;
 import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.biblioteca.repository.BibliotecaItemEstadoProjection;
 import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaRepository;
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.service.IJogoTendenciaService;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pelas regras de negócio da biblioteca de jogos.
@@ -36,6 +64,9 @@ public class BibliotecaService implements IBibliotecaService {
     private final IUsuarioRepository usuarioRepository;
     private final IJogoRepository jogoRepository;
     private final BibliotecaMapper mapper;
+    private final IJogoTendenciaService tendenciaService;
+    private final IBibliotecaResumoService resumoService;
+    private final EntityManager entityManager;
 
     /**
      * Adiciona um jogo à biblioteca do usuário.
@@ -70,9 +101,141 @@ public class BibliotecaService implements IBibliotecaService {
         entity.setFavorito(dto.favorito());
 
         Biblioteca savedEntity = repository.save(entity);
+        resumoService.registrar(usuario.getId(), null, false, savedEntity.getStatus(), savedEntity.isFavorito());
+        tendenciaService.registrar(jogo.getId(), JogoAtividadeTipo.BIBLIOTECA);
         return mapper.toResponse(savedEntity);
     }
 
+    /**
+     * Aplica várias operações à biblioteca de um usuário em uma única transação, com comandos
+     * por conjunto: um DELETE para as remoções, um UPDATE por status e por valor de favorito,
+     * e as inclusões em INSERTs agrupados pelo batch do JDBC.
+     * <p>
+     * Os itens afetados são bloqueados e o estado anterior é lido em uma consulta, para que só
+     * as linhas que realmente mudam sejam alteradas e o resumo da biblioteca receba a variação
+     * exata. Qualquer item inexistente ou de outro usuário cancela o lote inteiro.
+     * </p>
+     *
+     * @param dto Operações do lote.
+     * @return Quantidade de itens adicionados, atualizados e removidos.
+     * @throws BusinessException Se usuário, itens ou jogos não existirem, ou se o lote for contraditório.
+     */
+    @Override
+    @Transactional
+    public BibliotecaLoteResponseDTO aplicarLote(BibliotecaLoteRequestDTO dto) {
+        UUID usuarioId = dto.usuarioId();
+        if (!usuarioRepository.existsById(usuarioId)) {
+            throw new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage());
+        }
+
+        Map<UUID, StatusJogo> novoStatus = new HashMap<>();
+        for (BibliotecaLoteStatusRequestDTO grupo : Objects.requireNonNullElse(dto.mover(), List.<BibliotecaLoteStatusRequestDTO>of())) {
+            grupo.itens().forEach(id -> agrupar(novoStatus, id, grupo.status()));
+        }
+        Map<UUID, Boolean> novoFavorito = new HashMap<>();
+        for (BibliotecaLoteFavoritoRequestDTO grupo : Objects.requireNonNullElse(dto.favoritar(), List.<BibliotecaLoteFavoritoRequestDTO>of())) {
+            grupo.itens().forEach(id -> agrupar(novoFavorito, id, grupo.favorito()));
+        }
+        Set<UUID> remover = new LinkedHashSet<>(Objects.requireNonNullElse(dto.remover(), List.of()));
+        if (remover.stream().anyMatch(id -> novoStatus.containsKey(id) || novoFavorito.containsKey(id))) {
+            throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+        }
+
+        Map<StatusJogo, Long> variacao = new EnumMap<>(StatusJogo.class);
+        long variacaoFavoritos = 0;
+        int atualizados = 0;
+        int removidos = 0;
+
+        Set<UUID> afetados = new HashSet<>(remover);
+        afetados.addAll(novoStatus.keySet());
+        afetados.addAll(novoFavorito.keySet());
+        if (!afetados.isEmpty()) {
+            if (repository.bloquearItens(usuarioId, afetados).size() != afetados.size()) {
+                throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+            }
+            Map<UUID, BibliotecaItemEstadoProjection> estados = repository.findEstadosByIdIn(afetados).stream()
+                    .collect(Collectors.toMap(BibliotecaItemEstadoProjection::getId, Function.identity()));
+
+            for (UUID id : remover) {
+                BibliotecaItemEstadoProjection estado = estados.get(id);
+                variacao.merge(estado.getStatus(), -1L, Long::sum);
+                variacaoFavoritos -= estado.getFavorito() ? 1 : 0;
+            }
+
+            // Só entram nos UPDATEs os itens cujo valor muda de fato
+            Map<StatusJogo, Set<UUID>> porStatus = new EnumMap<>(StatusJogo.class);
+            novoStatus.forEach((id, status) -> {
+                StatusJogo anterior = estados.get(id).getStatus();
+                if (anterior != status) {
+                    porStatus.computeIfAbsent(status, s -> new HashSet<>()).add(id);
+                    variacao.merge(anterior, -1L, Long::sum);
+                    variacao.merge(status, 1L, Long::sum);
+                }
+            });
+            Map<Boolean, Set<UUID>> porFavorito = new HashMap<>();
+            for (Map.Entry<UUID, Boolean> entrada : novoFavorito.entrySet()) {
+                if (!entrada.getValue().equals(estados.get(entrada.getKey()).getFavorito())) {
+                    porFavorito.computeIfAbsent(entrada.getValue(), f -> new HashSet<>()).add(entrada.getKey());
+                    variacaoFavoritos += entrada.getValue() ? 1 : -1;
+                }
+            }
+
+            if (!remover.isEmpty()) {
+                removidos = repository.deleteByIdIn(remover);
+            }
+            Instant agora = Instant.now();
+            Set<UUID> alterados = new HashSet<>();
+            porStatus.forEach((status, ids) -> {
+                repository.atualizarStatus(ids, status, agora);
+                alterados.addAll(ids);
+            });
+            porFavorito.forEach((favorito, ids) -> {
+                repository.atualizarFavorito(ids, favorito, agora);
+                alterados.addAll(ids);
+            });
+            atualizados = alterados.size();
+        }
+
+        // As inclusões vêm depois das remoções: remover e adicionar o mesmo jogo no lote é permitido
+        List<BibliotecaLoteAdicionarRequestDTO> adicionar = Objects.requireNonNullElse(dto.adicionar(), List.of());
+        if (!adicionar.isEmpty()) {
+            Set<UUID> jogoIds = new HashSet<>();
+            adicionar.forEach(item -> {
+                if (!jogoIds.add(item.jogoId())) {
+                    throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+                }
+            });
+            if (jogoRepository.findIdsExistentes(jogoIds).size() != jogoIds.size()) {
+                throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+            }
+            if (!repository.findJogoIdsExistentes(usuarioId, jogoIds).isEmpty()) {
+                throw new BusinessException(
+                        BusinessExceptionMessage.ATTRIBUTE_VALUE_ALREADY_EXISTS.getAttributeValueAlreadyExistsMessage("Jogo na Biblioteca")
+                );
+            }
+
+            Usuario usuario = usuarioRepository.getReferenceById(usuarioId);
+            List<Biblioteca> novos = adicionar.stream().map(item -> {
+                Biblioteca entity = new Biblioteca();
+                entity.setUsuario(usuario);
+                entity.setJogo(jogoRepository.getReferenceById(item.jogoId()));
+                entity.setStatus(item.status());
+                entity.setFavorito(item.favorito());
+                return entity;
+            }).toList();
+            repository.saveAll(novos);
+            for (BibliotecaLoteAdicionarRequestDTO item : adicionar) {
+                variacao.merge(item.status(), 1L, Long::sum);
+                variacaoFavoritos += item.favorito() ? 1 : 0;
+                tendenciaService.registrar(item.jogoId(), JogoAtividadeTipo.BIBLIOTECA);
+            }
+        }
+
+        // O UPDATE do resumo descarrega antes os INSERTs pendentes, agrupados pelo batch do JDBC
+        resumoService.registrar(usuarioId, variacao, variacaoFavoritos);
+        return new BibliotecaLoteResponseDTO(adicionar.size(), atualizados, removidos);
+    }
+
     /**
      * Lista todos os itens de biblioteca cadastrados no sistema.
      */
@@ -84,6 +247,20 @@ public class BibliotecaService implements IBibliotecaService {
                 .toList();
     }
 
+    /**
+     * Percorre todos os itens de biblioteca entregando um DTO por vez ao consumidor (modo NDJSON).
+     * O contexto de persistência é limpo periodicamente, então o uso de memória
+     * não cresce com o tamanho da tabela.
+     *
+     * @param consumidor Recebe cada DTO assim que a linha é lida do banco.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<BibliotecaResponseDTO> consumidor) {
+        EntityStreams.forEach(repository.streamAll(), entityManager,
+                item -> consumidor.accept(mapper.toResponse(item)));
+    }
+
     /**
      * Lista itens de biblioteca com paginação.
      */
@@ -95,19 +272,51 @@ public class BibliotecaService implements IBibliotecaService {
     }
 
     /**
-     * Lista todos os jogos na biblioteca de um usuário específico.
+     * Lista itens de biblioteca com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BibliotecaResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<Biblioteca> window = repository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), Biblioteca.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
+    /**
+     * Lista todos os jogos na biblioteca de um usuário específico, pela mesma consulta de DTOs
+     * da versão paginada (sem limite), ordenados pelo título do jogo.
      */
     @Override
     @Transactional(readOnly = true)
     public List<BibliotecaResponseDTO> findAllByUsuario(UUID usuarioId) {
+        return findAllByUsuario(usuarioId, null, null, Pageable.unpaged(Sort.by("jogo.titulo"))).getContent();
+    }
+
+    /**
+     * Lista a biblioteca de um usuário com filtros, ordenação e paginação.
+     * Cada página é uma consulta que já devolve os DTOs com título e capa do jogo (JOIN),
+     * sem carregar o jogo de cada item separadamente.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BibliotecaResponseDTO> findAllByUsuario(UUID usuarioId, StatusJogo status, Boolean favorito, Pageable pageable) {
         // Valida se o usuário existe antes de buscar (opcional, mas boa prática)
         if (!usuarioRepository.existsById(usuarioId)) {
             throw new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage());
         }
 
-        return repository.findAllByUsuarioId(usuarioId).stream()
-                .map(mapper::toResponse)
-                .toList();
+        return repository.findPaginaByUsuario(usuarioId, status, favorito, pageable);
+    }
+
+    /**
+     * Resumo da biblioteca de um usuário (jogos por status e favoritos), lido de uma única linha.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BibliotecaResumoResponseDTO findResumoByUsuario(UUID usuarioId) {
+        return resumoService.findByUsuario(usuarioId);
     }
 
     /**
@@ -127,13 +336,16 @@ public class BibliotecaService implements IBibliotecaService {
     @Override
     @Transactional
     public BibliotecaResponseDTO update(BibliotecaAtualizarRequestDTO dto) {
-        Biblioteca entity = repository.findById(dto.id())
-                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
+        Biblioteca entity = findBloqueado(dto.id());
 
+        StatusJogo statusAnterior = entity.getStatus();
+        boolean favoritoAnterior = entity.isFavorito();
         entity.setStatus(dto.status());
         entity.setFavorito(dto.favorito());
 
         Biblioteca updatedEntity = repository.save(entity);
+        resumoService.registrar(updatedEntity.getUsuario().getId(), statusAnterior, favoritoAnterior,
+                updatedEntity.getStatus(), updatedEntity.isFavorito());
         return mapper.toResponse(updatedEntity);
     }
 
@@ -143,10 +355,31 @@ public class BibliotecaService implements IBibliotecaService {
     @Override
     @Transactional
     public UUID delete(UUID id) {
-        if (!repository.existsById(id)) {
+        Biblioteca entity = findBloqueado(id);
+        repository.delete(entity);
+        resumoService.registrar(entity.getUsuario().getId(), entity.getStatus(), entity.isFavorito(), null, false);
+        return id;
+    }
+
+    /**
+     * Carrega o item depois de bloquear sua linha: o status e o favorito lidos são os que a
+     * alteração vai substituir, mesmo com outra requisição alterando o mesmo item.
+     */
+    private Biblioteca findBloqueado(UUID id) {
+        if (repository.bloquearPorId(id).isEmpty()) {
             throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
         }
-        repository.deleteById(id);
-        return id;
+        return repository.findById(id)
+                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
+    }
+
+    /**
+     * Um item pode receber um único valor por operação do lote; valores conflitantes invalidam o lote.
+     */
+    private static <T> void agrupar(Map<UUID, T> destino, UUID id, T valor) {
+        T anterior = destino.put(id, valor);
+        if (anterior != null && !anterior.equals(valor)) {
+            throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+        }
     }
 }
\ No newline at end of file
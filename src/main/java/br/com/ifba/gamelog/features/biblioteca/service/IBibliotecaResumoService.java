@@ -0,0 +1,54 @@
+package br.com.ifba.gamelog.features.biblioteca.service;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface IBibliotecaResumoService {
+
+    /**
+     * Aplica ao resumo do usuário a troca de um item por outro, na transação do chamador.
+     * @param usuarioId ID do dono da biblioteca.
+     * @param statusRemovido Status que deixa de contar (nulo na criação).
+     * @param favoritoRemovido Se o item que deixa de contar era favorito.
+     * @param statusAdicionado Status que passa a contar (nulo na exclusão).
+     * @param favoritoAdicionado Se o item que passa a contar é favorito.
+     */
+    void registrar(UUID usuarioId, StatusJogo statusRemovido, boolean favoritoRemovido,
+                   StatusJogo statusAdicionado, boolean favoritoAdicionado);
+
+    /**
+     * Aplica ao resumo do usuário a variação somada de várias alterações, na transação do chamador.
+     * @param usuarioId ID do dono da biblioteca.
+     * @param variacaoPorStatus Variação da quantidade de jogos em cada status.
+     * @param variacaoFavoritos Variação da quantidade de favoritos.
+     */
+    void registrar(UUID usuarioId, Map<StatusJogo, Long> variacaoPorStatus, long variacaoFavoritos);
+
+    /**
+     * Busca a quantidade de jogos por status e de favoritos de um usuário (leitura de uma única linha).
+     * @param usuarioId ID do usuário.
+     * @return Resumo da biblioteca (zerado se ela estiver vazia).
+     */
+    BibliotecaResumoResponseDTO findByUsuario(UUID usuarioId);
+
+    /**
+     * Desconta dos resumos os itens de um jogo prestes a ser excluído do catálogo, na transação do chamador.
+     * @param jogoId ID do jogo.
+     */
+    void removerJogo(UUID jogoId);
+
+    /**
+     * Remove o resumo de um usuário excluído.
+     * @param usuarioId ID do usuário.
+     */
+    void remover(UUID usuarioId);
+
+    /**
+     * Compara os resumos com os itens das bibliotecas e recalcula os que divergirem.
+     * @return Quantidade de usuários corrigidos.
+     */
+    int reconstruir();
+}
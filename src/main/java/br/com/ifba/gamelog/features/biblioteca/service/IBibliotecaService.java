@@ -2,12 +2,18 @@ package br.com.ifba.gamelog.features.biblioteca.service;
 
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaCriarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaLoteResponseDTO;
 import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IBibliotecaService {
 
@@ -24,6 +30,12 @@ public interface IBibliotecaService {
      */
     List<BibliotecaResponseDTO> findAll();
 
+    /**
+     * Percorre todos os itens de biblioteca, entregando um DTO por vez (streaming), sem montar a lista em memória.
+     * @param consumidor Recebe cada DTO assim que é lido do banco.
+     */
+    void streamAll(Consumer<BibliotecaResponseDTO> consumidor);
+
     /**
      * Lista todos os itens de biblioteca do sistema com suporte a paginação.
      * @param pageable Parâmetros de paginação.
@@ -31,6 +43,14 @@ public interface IBibliotecaService {
      */
     Page<BibliotecaResponseDTO> findAllPaged(Pageable pageable); // NOVO MÉTODO
 
+    /**
+     * Lista os itens de biblioteca com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<BibliotecaResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+
     /**
      * Busca um item específico da biblioteca pelo seu ID.
      * @param id Identificador único do item.
@@ -45,6 +65,23 @@ public interface IBibliotecaService {
      */
     List<BibliotecaResponseDTO> findAllByUsuario(UUID usuarioId);
 
+    /**
+     * Lista os jogos da biblioteca de um usuário, com filtros opcionais e paginação.
+     * @param usuarioId ID do usuário dono da biblioteca.
+     * @param status Status dos itens (nulo = todos).
+     * @param favorito Somente favoritos ou não favoritos (nulo = todos).
+     * @param pageable Página e ordenação.
+     * @return Página de jogos desse usuário.
+     */
+    Page<BibliotecaResponseDTO> findAllByUsuario(UUID usuarioId, StatusJogo status, Boolean favorito, Pageable pageable);
+
+    /**
+     * Resumo da biblioteca de um usuário: quantidade de jogos por status e de favoritos.
+     * @param usuarioId ID do usuário dono da biblioteca.
+     * @return Contagens lidas de uma única linha, independente do tamanho da biblioteca.
+     */
+    BibliotecaResumoResponseDTO findResumoByUsuario(UUID usuarioId);
+
     /**
      * Atualiza o status ou favorito de um item da biblioteca.
      * @param dto Dados atualizados.
@@ -52,6 +89,13 @@ public interface IBibliotecaService {
      */
     BibliotecaResponseDTO update(BibliotecaAtualizarRequestDTO dto);
 
+    /**
+     * Aplica inclusões, mudanças de status, favoritos e remoções em lote, em uma única transação.
+     * @param dto Operações do lote.
+     * @return Quantidades de itens adicionados, atualizados e removidos.
+     */
+    BibliotecaLoteResponseDTO aplicarLote(BibliotecaLoteRequestDTO dto);
+
     /**
      * Remove um jogo da biblioteca.
      * @param id Identificador do item a ser removido.
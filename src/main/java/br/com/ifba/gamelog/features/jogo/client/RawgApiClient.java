@@ -1,15 +1,45 @@
 package br.com.ifba.gamelog.features.jogo.client;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * Cliente da API RAWG com proteção contra lentidão e indisponibilidade.
+ * <ul>
+ *     <li><b>Circuit breaker:</b> após muitas falhas na janela configurada, as chamadas falham
+ *     imediatamente por um tempo, sem esperar o timeout da RAWG.</li>
+ *     <li><b>Hedging (opcional):</b> se a primeira tentativa passar do p95 de latência observado,
+ *     uma segunda é disparada e vale a resposta que chegar primeiro.</li>
+ *     <li><b>Stale-while-revalidate:</b> vencido o TTL, o cache devolve a última resposta boa
+ *     e atualiza em segundo plano; se a RAWG falhar, a resposta antiga continua valendo
+ *     até o prazo máximo ({@code stale-ttl}).</li>
+ * </ul>
+ */
 @Slf4j
 @Component
 public class RawgApiClient {
@@ -17,26 +47,204 @@ public class RawgApiClient {
     private final WebClient webClient;
     private final String apiKey;
 
+    // Cache das respostas da RAWG. O valor é o futuro da requisição, então buscas
+    // simultâneas pelo mesmo termo compartilham uma única chamada (single-flight).
+    // O cancelamento de um assinante não cancela o futuro compartilhado (suppressCancel).
+    private final AsyncLoadingCache<String, List<RawgGameDetailResponse>> searchCache;
+    private final AsyncLoadingCache<Long, RawgGameDetailResponse> detailCache;
+
+    private final CircuitBreaker circuitBreaker;
+    // Circuito separado para tarefas em segundo plano (importação, sincronização): as falhas
+    // de uma varredura não abrem o circuito das requisições dos usuários
+    private final CircuitBreaker circuitBreakerSegundoPlano;
+
+    // Latência das chamadas bem-sucedidas (o p95 define quando disparar o hedge)
+    private final Timer latencia;
+    private final Counter hedges;
+    private final boolean hedgingHabilitado;
+    private final Duration hedgingAtrasoMinimo;
+
     // Define um timeout padrão para evitar travamentos
     private static final long API_TIMEOUT_SECONDS = 5;
 
+    // Amostras mínimas antes de confiar no p95 para o hedge
+    private static final long AMOSTRAS_MINIMAS_HEDGE = 20;
+
     public RawgApiClient(
             WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
             @Value("${rawg.api.base-url}") String baseUrl,
-            @Value("${rawg.api.key}") String apiKey
+            @Value("${rawg.api.key}") String apiKey,
+            @Value("${rawg.api.cache.max-size:1000}") long cacheMaxSize,
+            @Value("${rawg.api.cache.ttl:PT10M}") Duration cacheTtl,
+            @Value("${rawg.api.cache.stale-ttl:PT24H}") Duration cacheStaleTtl,
+            @Value("${rawg.api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${rawg.api.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${rawg.api.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${rawg.api.circuit-breaker.wait-duration-open:PT30S}") Duration waitDurationOpen,
+            @Value("${rawg.api.hedging.enabled:false}") boolean hedgingHabilitado,
+            @Value("${rawg.api.hedging.min-delay:PT0.2S}") Duration hedgingAtrasoMinimo
     ) {
         this.webClient = webClientBuilder.baseUrl(baseUrl).build();
         this.apiKey = apiKey;
+
+        // Após o TTL a entrada é servida "velha" e recarregada em segundo plano;
+        // só expira de fato após o stale-ttl
+        this.searchCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .refreshAfterWrite(cacheTtl)
+                .expireAfterWrite(cacheStaleTtl)
+                .recordStats()
+                .buildAsync((termo, executor) -> resiliente(() -> fetchGames(termo)).toFuture());
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .refreshAfterWrite(cacheTtl)
+                .expireAfterWrite(cacheStaleTtl)
+                .recordStats()
+                .buildAsync((id, executor) -> resiliente(() -> fetchGameById(id)).toFuture());
+
+        // Expõe hit/miss/eviction em /actuator/metrics (cache.gets, cache.evictions...)
+        CaffeineCacheMetrics.monitor(meterRegistry, searchCache, "rawg.search");
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "rawg.detail");
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(waitDurationOpen)
+                // Erros 4xx (ex.: jogo inexistente) não indicam RAWG fora do ar
+                .recordException(e -> !(e instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError()))
+                .build();
+        this.circuitBreaker = CircuitBreaker.of("rawg", circuitBreakerConfig);
+        this.circuitBreaker.getEventPublisher()
+                .onStateTransition(e -> log.warn("Circuit breaker da RAWG: {}", e.getStateTransition()));
+        Gauge.builder("rawg.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                .description("Estado do circuit breaker da RAWG (0 = fechado, 1 = aberto, 2 = meio aberto)")
+                .register(meterRegistry);
+        this.circuitBreakerSegundoPlano = CircuitBreaker.of("rawg-segundo-plano", circuitBreakerConfig);
+        this.circuitBreakerSegundoPlano.getEventPublisher()
+                .onStateTransition(e -> log.warn("Circuit breaker da RAWG (segundo plano): {}", e.getStateTransition()));
+        Gauge.builder("rawg.circuit.background.state", circuitBreakerSegundoPlano, cb -> cb.getState().getOrder())
+                .description("Estado do circuit breaker da RAWG para tarefas em segundo plano")
+                .register(meterRegistry);
+
+        this.latencia = Timer.builder("rawg.requests")
+                .description("Latência das chamadas bem-sucedidas à RAWG")
+                .publishPercentiles(0.95)
+                .distributionStatisticExpiry(Duration.ofMinutes(2))
+                .register(meterRegistry);
+        this.hedges = Counter.builder("rawg.requests.hedged")
+                .description("Tentativas extras disparadas por lentidão da RAWG")
+                .register(meterRegistry);
+        this.hedgingHabilitado = hedgingHabilitado;
+        this.hedgingAtrasoMinimo = hedgingAtrasoMinimo;
     }
 
     /**
      * Busca jogos na API RAWG.
      * Retorna os campos essenciais: ID Externo, Título, Capa e Ano (via released).
+     * <p>
+     * As respostas ficam em cache pelo termo normalizado. Erros não são cacheados.
+     * </p>
+     * <p>
+     * Uma resposta 4xx da RAWG vira lista vazia. Sem resposta anterior em cache, as demais falhas
+     * são propagadas: circuito aberto ({@link CallNotPermittedException}) e timeout
+     * ({@link TimeoutException}) indicam a RAWG indisponível, e não uma busca sem resultados.
+     * </p>
      *
      * @param query Termo de busca.
-     * @return Lista de jogos externos ou lista vazia em caso de erro/timeout.
+     * @return Lista de jogos externos (vazia se não houver resultados).
      */
     public Mono<List<RawgGameDetailResponse>> searchGames(String query) {
+        String chave = normalizarTermo(query);
+
+        return Mono.fromFuture(() -> searchCache.get(chave), true)
+                .defaultIfEmpty(List.of())
+                .doOnError(TimeoutException.class, e -> log.warn("Timeout ao buscar jogos na RAWG para o termo: {}", query))
+                .onErrorResume(
+                        e -> e instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError(),
+                        e -> Mono.just(List.of()));
+    }
+
+    /**
+     * Busca detalhes de um jogo pelo ID Externo.
+     * O resultado fica em cache pelo {@code idExterno}; falhas são propagadas e não cacheadas.
+     * Com o circuito aberto, falha imediatamente com {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException}.
+     */
+    public Mono<RawgGameDetailResponse> getGameById(Long idExterno) {
+        return Mono.fromFuture(() -> detailCache.get(idExterno), true);
+    }
+
+    /**
+     * Busca detalhes de um jogo ignorando o cache, para tarefas em segundo plano
+     * (importação e sincronização do catálogo). Não lê nem grava no cache, evitando que uma
+     * varredura do catálogo expulse as entradas usadas pelas requisições dos usuários.
+     * Nunca dispara hedge (não duplica carga de fundo).
+     * <p>
+     * Usa um circuit breaker próprio, então suas falhas não abrem o circuito das requisições
+     * interativas; ainda assim, com esse circuito aberto, falha sem chamar a RAWG.
+     * </p>
+     */
+    public Mono<RawgGameDetailResponse> getGameByIdUncached(Long idExterno) {
+        return Mono.defer(() -> circuitBreaker.getState() == CircuitBreaker.State.OPEN
+                        ? Mono.<RawgGameDetailResponse>error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker))
+                        : fetchGameById(idExterno))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerSegundoPlano));
+    }
+
+    /**
+     * Executa a chamada com hedge (se habilitado) e circuit breaker, registrando a latência.
+     * Cada tentativa passa pelo circuit breaker; vale a primeira resposta, então uma tentativa
+     * que falha rápido não descarta o hedge que ainda pode responder.
+     */
+    private <T> Mono<T> resiliente(Supplier<Mono<T>> chamada) {
+        Mono<T> tentativa = Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            return chamada.get()
+                    .doOnSuccess(v -> latencia.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS));
+        }).transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+
+        Duration atraso = atrasoHedge();
+        if (atraso == null) {
+            return tentativa;
+        }
+        Mono<T> hedge = Mono.delay(atraso)
+                .doOnNext(t -> hedges.increment())
+                .then(tentativa);
+        return Mono.firstWithValue(tentativa, hedge)
+                .onErrorResume(NoSuchElementException.class, RawgApiClient::primeiroErro);
+    }
+
+    /**
+     * Quando nenhuma tentativa responde, devolve o erro da primeira que falhou (ex.: timeout,
+     * circuito aberto) em vez do erro agregado do {@code firstWithValue}, ou vazio se nenhuma falhou.
+     */
+    private static <T> Mono<T> primeiroErro(NoSuchElementException e) {
+        return Exceptions.unwrapMultiple(e.getCause()).stream()
+                .filter(erro -> !(erro instanceof NoSuchElementException))
+                .findFirst()
+                .map(Mono::<T>error)
+                .orElseGet(Mono::empty);
+    }
+
+    /**
+     * Atraso antes da tentativa extra: o p95 recente (nunca abaixo do mínimo configurado),
+     * ou nulo se o hedge estiver desabilitado ou ainda não houver amostras suficientes.
+     */
+    private Duration atrasoHedge() {
+        if (!hedgingHabilitado || latencia.count() < AMOSTRAS_MINIMAS_HEDGE) {
+            return null;
+        }
+        for (ValueAtPercentile percentil : latencia.takeSnapshot().percentileValues()) {
+            if (percentil.percentile() == 0.95) {
+                Duration p95 = Duration.ofNanos((long) percentil.value(TimeUnit.NANOSECONDS));
+                return p95.compareTo(hedgingAtrasoMinimo) > 0 ? p95 : hedgingAtrasoMinimo;
+            }
+        }
+        return null;
+    }
+
+    private Mono<List<RawgGameDetailResponse>> fetchGames(String query) {
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/games")
@@ -46,22 +254,12 @@ public class RawgApiClient {
                         .build())
                 .retrieve()
                 .bodyToMono(RawgGameListResponse.class)
-                .map(RawgGameListResponse::results)
+                .map(response -> response.results() != null ? response.results() : List.<RawgGameDetailResponse>of())
                 .timeout(Duration.ofSeconds(API_TIMEOUT_SECONDS)) // Trata Timeout
-                .doOnError(e -> log.error("Erro na busca de jogos RAWG [query={}]: {}", query, e.getMessage()))
-                .onErrorResume(e -> {
-                    if (e instanceof TimeoutException) {
-                        log.warn("Timeout ao buscar jogos na RAWG para o termo: {}", query);
-                    }
-                    // Retorna lista vazia para não quebrar o front-end
-                    return Mono.just(List.of());
-                });
+                .doOnError(e -> log.error("Erro na busca de jogos RAWG [query={}]: {}", query, e.getMessage()));
     }
 
-    /**
-     * Busca detalhes de um jogo pelo ID Externo.
-     */
-    public Mono<RawgGameDetailResponse> getGameById(Long idExterno) {
+    private Mono<RawgGameDetailResponse> fetchGameById(Long idExterno) {
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/games/{id}")
@@ -72,4 +270,12 @@ public class RawgApiClient {
                 .timeout(Duration.ofSeconds(API_TIMEOUT_SECONDS))
                 .doOnError(e -> log.error("Erro ao buscar detalhe do jogo [id={}]: {}", idExterno, e.getMessage()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Normaliza o termo para que "Zelda", " zelda " e "ZELDA" usem a mesma entrada do cache.
+     */
+    private static String normalizarTermo(String query) {
+        if (query == null) return "";
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
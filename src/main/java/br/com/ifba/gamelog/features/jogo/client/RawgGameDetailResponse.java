@@ -2,6 +2,10 @@ package br.com.ifba.gamelog.features.jogo.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * DTO para mapear os detalhes de um jogo da API RAWG.
  */
@@ -52,4 +56,41 @@ public record RawgGameDetailResponse(
         }
         return null;
     }
+
+    /**
+     * Extrai os nomes das plataformas da estrutura da RAWG
+     * ({@code [{"platform": {"name": "PC"}}, ...]}) em texto separado por vírgula.
+     *
+     * @return Nomes das plataformas, ou null se não houver.
+     */
+    public String nomesPlataformas() {
+        return juntarNomes(platforms, "platform");
+    }
+
+    /**
+     * Extrai os nomes dos gêneros da estrutura da RAWG
+     * ({@code [{"name": "Action"}, ...]}) em texto separado por vírgula.
+     *
+     * @return Nomes dos gêneros, ou null se não houver.
+     */
+    public String nomesGeneros() {
+        return juntarNomes(genres, null);
+    }
+
+    private static String juntarNomes(Object lista, String objetoAninhado) {
+        if (!(lista instanceof List<?> itens) || itens.isEmpty()) {
+            return null;
+        }
+        List<String> nomes = new ArrayList<>();
+        for (Object item : itens) {
+            Object alvo = item;
+            if (objetoAninhado != null && item instanceof Map<?, ?> mapa) {
+                alvo = mapa.get(objetoAninhado);
+            }
+            if (alvo instanceof Map<?, ?> mapa && mapa.get("name") != null) {
+                nomes.add(mapa.get("name").toString());
+            }
+        }
+        return nomes.isEmpty() ? null : String.join(", ", nomes);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package br.com.ifba.gamelog.features.jogo.controller;
+
+import br.com.ifba.gamelog.features.jogo.dto.request.JogoImportacaoRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoImportacaoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
+import br.com.ifba.gamelog.features.jogo.service.IJogoImportacaoService;
+import br.com.ifba.gamelog.features.jogo.service.IJogoRankingService;
+import br.com.ifba.gamelog.infrastructure.util.ResultError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST administrativo para manutenção do catálogo de jogos.
+ * <p>
+ * Contém operações pesadas, como a importação em lote a partir da RAWG.
+ * </p>
+ *
+ * @author Seu Nome
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/admin/jogos")
+@Tag(name = "Admin - Gestão do Catálogo", description = "Endpoints administrativos para manutenção do catálogo de jogos")
+@RequiredArgsConstructor
+public class AdminJogoController {
+
+    private final IJogoImportacaoService importacaoService;
+    private final IJogoRankingService rankingService;
+
+    /**
+     * Inicia a importação em lote de jogos da RAWG a partir dos IDs Externos.
+     * Requer permissão de administrador.
+     *
+     * @param dto    Lista de IDs Externos.
+     * @param result Resultado da validação.
+     * @return Estado inicial da importação, com o ID para acompanhar o progresso.
+     */
+    @Operation(summary = "Importar Jogos em Lote", description = "Importa jogos da RAWG pelos IDs Externos em segundo plano. Jogos já cadastrados são ignorados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importação iniciada."),
+            @ApiResponse(responseCode = "403", description = "Acesso negado (Não é ADMIN)."),
+            @ApiResponse(responseCode = "422", description = "Erro de validação.")
+    })
+    @PostMapping(value = "/importacoes",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<?> importar(
+            @RequestBody @Valid JogoImportacaoRequestDTO dto,
+            BindingResult result) {
+
+        if (result.hasErrors()) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ResultError.getResultErrors(result));
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(importacaoService.iniciar(dto));
+    }
+
+    /**
+     * Consulta o progresso de uma importação em lote.
+     *
+     * @param id UUID da importação.
+     * @return Contadores de progresso (processados, importados, já existentes, falhas).
+     */
+    @Operation(summary = "Progresso da Importação", description = "Consulta o progresso de uma importação em lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progresso recuperado."),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada.")
+    })
+    @GetMapping(value = "/importacoes/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<JogoImportacaoResponseDTO> findImportacao(@PathVariable UUID id) {
+        return ResponseEntity.ok(importacaoService.findById(id));
+    }
+
+    /**
+     * Recalcula imediatamente os rankings dos jogos mais bem avaliados,
+     * sem esperar o próximo ciclo agendado.
+     *
+     * @return Ranking geral recalculado.
+     */
+    @Operation(summary = "Recalcular Rankings", description = "Recalcula agora todos os rankings (geral, por gênero e por ano), processando o catálogo em paralelo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rankings recalculados."),
+            @ApiResponse(responseCode = "403", description = "Acesso negado (Não é ADMIN).")
+    })
+    @PostMapping(value = "/ranking/reconstruir", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<JogoRankingResponseDTO> reconstruirRanking() {
+        return ResponseEntity.ok(rankingService.reconstruir());
+    }
+}
@@ -1,14 +1,20 @@
 package br.com.ifba.gamelog.features.jogo.controller;
 
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
 import br.com.ifba.gamelog.features.jogo.client.RawgApiClient;
 import br.com.ifba.gamelog.features.jogo.client.RawgGameDetailResponse;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoCriarRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoFiltroResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
 import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
 import br.com.ifba.gamelog.features.jogo.dto.response.JogoRetornarIdResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
 import br.com.ifba.gamelog.features.jogo.service.IJogoService;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -27,6 +33,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
@@ -51,6 +60,7 @@ public class JogoController {
 
     private final IJogoService jogoService;
     private final RawgApiClient rawgApiClient;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Adiciona um novo jogo ao catálogo, utilizando o ID Externo para buscar dados na RAWG.
@@ -91,6 +101,24 @@ public class JogoController {
         return ResponseEntity.ok(jogoService.findAll());
     }
 
+    /**
+     * Recupera todos os jogos em streaming (NDJSON): um objeto JSON por linha,
+     * escrito à medida que é lido do banco. Selecionado com {@code Accept: application/x-ndjson}.
+     *
+     * @return Corpo escrito de forma incremental.
+     */
+    @Operation(summary = "Listar Tudo (Streaming NDJSON)", description = "Mesmo conteúdo da listagem completa, enviado como NDJSON (um objeto por linha) à medida que é lido do banco. Envie o header Accept: application/x-ndjson.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming iniciado com sucesso.",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = JogoResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.<JogoResponseDTO>write(jogoService::streamAll));
+    }
+
     /**
      * Recupera jogos do catálogo com paginação e ordenação.
      */
@@ -105,18 +133,115 @@ public class JogoController {
         return ResponseEntity.ok(jogoService.findAllPaged(pageable));
     }
 
+    /**
+     * Recupera jogos com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<JogoResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            @PageableDefault(size = 10, sort = "titulo") Pageable pageable) {
+        return ResponseEntity.ok(jogoService.findAllByCursor(cursor, pageable));
+    }
+
+    /**
+     * Busca jogos no catálogo local, ordenados por relevância.
+     */
+    @Operation(summary = "Buscar Jogos no Catálogo", description = "Busca textual no catálogo local por título, gênero ou plataforma. Tolera acentos e erros de digitação. Não consulta a RAWG.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso.",
+                    content = @Content(schema = @Schema(implementation = Page.class)))
+    })
+    @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<JogoResponseDTO>> search(
+            @RequestParam String q,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(jogoService.search(q, pageable));
+    }
+
+    /**
+     * Navegação por facetas no catálogo local (gênero, plataforma e ano).
+     */
+    @Operation(summary = "Filtrar Catálogo por Facetas", description = "Filtra por gênero, plataforma e ano de lançamento. Os parâmetros podem ser repetidos (valores do mesmo filtro são combinados com OU, filtros diferentes com E). Retorna também a contagem de cada faceta. Não consulta o banco.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Filtro aplicado com sucesso.",
+                    content = @Content(schema = @Schema(implementation = JogoFiltroResponseDTO.class)))
+    })
+    @GetMapping(value = "/filtrar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JogoFiltroResponseDTO> filter(
+            @RequestParam(required = false) List<String> genero,
+            @RequestParam(required = false) List<String> plataforma,
+            @RequestParam(required = false) List<Integer> ano,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(jogoService.filter(genero, plataforma, ano, pageable));
+    }
+
+    /**
+     * Sugestões de títulos enquanto o usuário digita (typeahead).
+     */
+    @Operation(summary = "Autocomplete de Títulos", description = "Sugere jogos do catálogo local cujo título (ou uma palavra do título) começa com o prefixo, ordenados por popularidade (bibliotecas e avaliações). Não consulta o banco.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso.")
+    })
+    @GetMapping(value = "/autocomplete", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<JogoResponseDTO>> autocomplete(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(jogoService.autocomplete(prefixo, limite));
+    }
+
+    /**
+     * Ranking dos jogos mais bem avaliados.
+     */
+    @Operation(summary = "Ranking dos Mais Bem Avaliados", description = "Jogos ordenados pela média bayesiana das avaliações (jogos com poucas avaliações ficam próximos da média geral). Geral, por gênero, por ano ou por gênero e ano. Recalculado periodicamente e servido da memória.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso.",
+                    content = @Content(schema = @Schema(implementation = JogoRankingResponseDTO.class)))
+    })
+    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JogoRankingResponseDTO> ranking(
+            @RequestParam(required = false) String genero,
+            @RequestParam(required = false) Integer ano,
+            @RequestParam(defaultValue = "20") int limite) {
+        return ResponseEntity.ok(jogoService.ranking(genero, ano, limite));
+    }
+
+    /**
+     * Jogos em alta pela atividade recente.
+     */
+    @Operation(summary = "Jogos em Alta", description = "Jogos com mais atividade recente (avaliações, inclusões em bibliotecas e visualizações da página), somada em janelas de tempo. Recalculado periodicamente e servido da memória.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogos em alta retornados com sucesso.",
+                    content = @Content(schema = @Schema(implementation = JogoTendenciaResponseDTO.class)))
+    })
+    @GetMapping(value = "/tendencias", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JogoTendenciaResponseDTO> tendencias(@RequestParam(defaultValue = "20") int limite) {
+        return ResponseEntity.ok(jogoService.tendencias(limite));
+    }
+
     /**
      * Pesquisa jogos na API Externa (RAWG) pelo nome.
      */
     @Operation(summary = "Pesquisar Jogos Externos", description = "Busca jogos na API RAWG. A resposta pode ser usada para selecionar um jogo para importação (POST /jogo).")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Pesquisa realizada com sucesso.")
+            @ApiResponse(responseCode = "200", description = "Pesquisa realizada com sucesso."),
+            @ApiResponse(responseCode = "503", description = "RAWG indisponível (circuit breaker aberto ou timeout).")
     })
     @GetMapping(value = "/pesquisar-externo", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<RawgGameDetailResponse>> searchExternalGames(@RequestParam String nome) {
-        // Uso de .block() em controller síncrono para simplificar a integração com WebClient reativo.
-        List<RawgGameDetailResponse> results = rawgApiClient.searchGames(nome).block();
-        return ResponseEntity.ok(results);
+    public Mono<ResponseEntity<List<RawgGameDetailResponse>>> searchExternalGames(@RequestParam String nome) {
+        // Retorna o Mono direto: o Spring MVC processa de forma assíncrona e libera a thread
+        // do Tomcat enquanto a RAWG responde (sem .block()).
+        return rawgApiClient.searchGames(nome)
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -124,10 +249,17 @@ public class JogoController {
      * Útil para exibir prévia antes de importar.
      */
     @Operation(summary = "Detalhes Jogo Externo", description = "Busca detalhes de um jogo na RAWG pelo ID Externo (sem precisar salvá-lo no banco local).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogo encontrado na RAWG."),
+            @ApiResponse(responseCode = "404", description = "Jogo não encontrado na RAWG."),
+            @ApiResponse(responseCode = "503", description = "RAWG indisponível (circuit breaker aberto ou timeout).")
+    })
     @GetMapping(value = "/externo/{idExterno}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<RawgGameDetailResponse> findExternalById(@PathVariable Long idExterno) {
-        RawgGameDetailResponse response = rawgApiClient.getGameById(idExterno).block();
-        return ResponseEntity.ok(response);
+    public Mono<ResponseEntity<RawgGameDetailResponse>> findExternalById(@PathVariable Long idExterno) {
+        return rawgApiClient.getGameById(idExterno)
+                .map(ResponseEntity::ok)
+                .onErrorMap(WebClientResponseException.NotFound.class,
+                        e -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
     }
 
     /**
@@ -141,7 +273,23 @@ public class JogoController {
     })
     @GetMapping("/jogo/{id}")
     public ResponseEntity<JogoResponseDTO> findById(@PathVariable UUID id) {
-        return ResponseEntity.ok(jogoService.findById(id));
+        JogoResponseDTO jogo = jogoService.findById(id);
+        jogoService.registrarVisualizacao(id);
+        return ResponseEntity.ok(jogo);
+    }
+
+    /**
+     * Estatísticas das avaliações de um jogo.
+     */
+    @Operation(summary = "Estatísticas de Avaliação do Jogo", description = "Retorna a quantidade de avaliações, a média e o histograma das notas (1 a 5). Lê um resumo pronto, sem percorrer as avaliações.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas encontradas.",
+                    content = @Content(schema = @Schema(implementation = AvaliacaoEstatisticasResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Jogo não encontrado.")
+    })
+    @GetMapping("/jogo/{id}/estatisticas")
+    public ResponseEntity<AvaliacaoEstatisticasResponseDTO> findEstatisticas(@PathVariable UUID id) {
+        return ResponseEntity.ok(jogoService.findEstatisticas(id));
     }
 
     /**
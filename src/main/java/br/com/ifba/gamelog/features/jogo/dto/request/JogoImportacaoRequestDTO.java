@@ -0,0 +1,13 @@
+package br.com.ifba.gamelog.features.jogo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record JogoImportacaoRequestDTO(
+        @NotEmpty(message = "Informe ao menos um ID Externo")
+        @Size(max = 20000, message = "A importação aceita no máximo 20000 IDs por vez")
+        List<@NotNull(message = "O ID Externo não pode ser nulo") Long> idsExternos
+) {}
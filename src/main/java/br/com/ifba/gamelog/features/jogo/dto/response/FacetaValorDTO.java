@@ -0,0 +1,14 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Valor de uma faceta do catálogo e quantos jogos o possuem dentro do filtro atual.
+ */
+public record FacetaValorDTO(
+        @JsonProperty("valor")
+        String valor,
+
+        @JsonProperty("quantidade")
+        int quantidade
+) {}
@@ -0,0 +1,28 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Resultado da navegação por facetas: a página de jogos filtrados e a contagem
+ * de cada faceta (gênero, plataforma e ano).
+ * <p>
+ * A contagem de uma faceta considera os filtros das <b>outras</b> facetas, então
+ * mostra quantos jogos restariam ao marcar cada valor.
+ * </p>
+ */
+public record JogoFiltroResponseDTO(
+        @JsonProperty("jogos")
+        Page<JogoResponseDTO> jogos,
+
+        @JsonProperty("generos")
+        List<FacetaValorDTO> generos,
+
+        @JsonProperty("plataformas")
+        List<FacetaValorDTO> plataformas,
+
+        @JsonProperty("anos")
+        List<FacetaValorDTO> anos
+) {}
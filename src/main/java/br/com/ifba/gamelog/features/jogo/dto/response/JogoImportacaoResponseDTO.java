@@ -0,0 +1,37 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JogoImportacaoResponseDTO(
+        @JsonProperty("id")
+        UUID id,
+
+        @JsonProperty("status")
+        String status,
+
+        @JsonProperty("total")
+        int total,
+
+        @JsonProperty("processados")
+        int processados,
+
+        @JsonProperty("jaExistentes")
+        int jaExistentes,
+
+        @JsonProperty("importados")
+        int importados,
+
+        @JsonProperty("falhas")
+        int falhas,
+
+        @JsonProperty("inicio")
+        Instant inicio,
+
+        @JsonProperty("fim")
+        Instant fim
+) {}
@@ -0,0 +1,37 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * Jogo em uma posição do ranking, com a média simples e a pontuação bayesiana usada na ordenação.
+ */
+public record JogoRankingItemDTO(
+        @JsonProperty("posicao")
+        int posicao,
+
+        @JsonProperty("id")
+        UUID id,
+
+        @JsonProperty("titulo")
+        String titulo,
+
+        @JsonProperty("capaUrl")
+        String capaUrl,
+
+        @JsonProperty("anoLancamento")
+        Integer anoLancamento,
+
+        @JsonProperty("genero")
+        String genero,
+
+        @JsonProperty("avaliacoes")
+        long avaliacoes,
+
+        @JsonProperty("media")
+        double media,
+
+        @JsonProperty("pontuacao")
+        double pontuacao
+) {}
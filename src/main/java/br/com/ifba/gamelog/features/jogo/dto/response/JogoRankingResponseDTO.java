@@ -0,0 +1,23 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Ranking dos jogos mais bem avaliados (geral, por gênero, por ano ou por gênero e ano).
+ */
+public record JogoRankingResponseDTO(
+        @JsonProperty("genero")
+        String genero,
+
+        @JsonProperty("ano")
+        Integer ano,
+
+        @JsonProperty("atualizadoEm")
+        Instant atualizadoEm,
+
+        @JsonProperty("jogos")
+        List<JogoRankingItemDTO> jogos
+) {}
@@ -0,0 +1,34 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * Jogo em alta, com a atividade recente que define a sua posição.
+ */
+public record JogoTendenciaItemDTO(
+        @JsonProperty("posicao")
+        int posicao,
+
+        @JsonProperty("id")
+        UUID id,
+
+        @JsonProperty("titulo")
+        String titulo,
+
+        @JsonProperty("capaUrl")
+        String capaUrl,
+
+        @JsonProperty("avaliacoes")
+        long avaliacoes,
+
+        @JsonProperty("bibliotecas")
+        long bibliotecas,
+
+        @JsonProperty("visualizacoes")
+        long visualizacoes,
+
+        @JsonProperty("pontuacao")
+        long pontuacao
+) {}
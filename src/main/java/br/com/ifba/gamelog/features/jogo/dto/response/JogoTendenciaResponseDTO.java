@@ -0,0 +1,20 @@
+package br.com.ifba.gamelog.features.jogo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Jogos em alta: atividade recente (avaliações, inclusões em bibliotecas e visualizações) desde {@code desde}.
+ */
+public record JogoTendenciaResponseDTO(
+        @JsonProperty("desde")
+        Instant desde,
+
+        @JsonProperty("atualizadoEm")
+        Instant atualizadoEm,
+
+        @JsonProperty("jogos")
+        List<JogoTendenciaItemDTO> jogos
+) {}
@@ -0,0 +1,24 @@
+package br.com.ifba.gamelog.features.jogo.event;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@code JogoService} sempre que o catálogo muda.
+ * <p>
+ * Os índices em memória escutam este evento após o commit da transação
+ * para se manterem sincronizados com a tabela {@code jogos}.
+ * </p>
+ *
+ * @param jogoId ID do jogo alterado.
+ * @param jogo   Estado atual do jogo, ou {@code null} quando o jogo foi removido.
+ */
+public record JogoAlteradoEvent(
+        UUID jogoId,
+        JogoResponseDTO jogo
+) {
+    public boolean removido() {
+        return jogo == null;
+    }
+}
@@ -1,5 +1,6 @@
     package br.com.ifba.gamelog.features.jogo.mapper;
 
+    import br.com.ifba.gamelog.features.jogo.client.RawgGameDetailResponse;
     import br.com.ifba.gamelog.features.jogo.dto.request.JogoCriarRequestDTO;
     import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
     import br.com.ifba.gamelog.features.jogo.model.Jogo;
@@ -39,4 +40,20 @@
         public Jogo toEntity(JogoCriarRequestDTO dto) {
             return objectMapperUtil.map(dto, Jogo.class);
         }
+
+        /**
+         * Converte os detalhes de um jogo da RAWG para a entidade Jogo.
+         * Usado na importação em lote, onde os metadados vêm direto da API externa.
+         */
+        public Jogo toEntity(RawgGameDetailResponse rawg) {
+            Jogo jogo = new Jogo();
+            jogo.setIdExterno(rawg.id());
+            jogo.setTitulo(rawg.name());
+            jogo.setCapaUrl(rawg.background_image());
+            jogo.setDescricao(rawg.description_raw());
+            jogo.setAnoLancamento(rawg.getAnoLancamento());
+            jogo.setPlataformas(rawg.nomesPlataformas());
+            jogo.setGenero(rawg.nomesGeneros());
+            return jogo;
+        }
     }
\ No newline at end of file
@@ -2,16 +2,18 @@ package br.com.ifba.gamelog.features.jogo.model;
 
 import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
 import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
-import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.features.lista.model.ItemLista;
 import br.com.ifba.gamelog.infrastructure.model.PersistenceEntity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
 @Entity
 @Table(name = "jogos")
+@DynamicUpdate // UPDATE apenas com as colunas alteradas (ex.: sincronização com a RAWG)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -46,7 +48,7 @@ public class Jogo extends PersistenceEntity {
     @JsonIgnore
     private List<Biblioteca> emBibliotecas;
 
-    @ManyToMany(mappedBy = "jogos")
+    @OneToMany(mappedBy = "jogo")
     @JsonIgnore
-    private List<ListaPersonalizada> emListas;
+    private List<ItemLista> emListas;
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package br.com.ifba.gamelog.features.jogo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Contagem da atividade de um jogo (avaliações, inclusões em bibliotecas e visualizações)
+ * em uma janela de tempo.
+ * <p>
+ * Gravada em lotes periódicos pelo {@code JogoTendenciaService} a partir dos contadores em
+ * memória, para que as tendências sobrevivam a reinicializações sem consultar as tabelas de
+ * avaliações e bibliotecas.
+ * </p>
+ */
+@Entity
+@Table(name = "jogo_atividades", indexes = {
+        @Index(name = "idx_jogo_atividades_inicio", columnList = "inicio")
+})
+@IdClass(JogoAtividade.Chave.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JogoAtividade {
+
+    @Id
+    @Column(name = "jogo_id")
+    private UUID jogoId;
+
+    /**
+     * Início da janela de tempo.
+     */
+    @Id
+    @Column(name = "inicio")
+    private Instant inicio;
+
+    @Column(nullable = false)
+    private long avaliacoes;
+
+    @Column(nullable = false)
+    private long bibliotecas;
+
+    @Column(nullable = false)
+    private long visualizacoes;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private UUID jogoId;
+        private Instant inicio;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.ifba.gamelog.features.jogo.model;
+
+public enum JogoAtividadeTipo {
+    AVALIACAO,
+    BIBLIOTECA,
+    VISUALIZACAO
+}
@@ -0,0 +1,37 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface IJogoAtividadeRepository extends JpaRepository<JogoAtividade, JogoAtividade.Chave>, IJogoAtividadeRepositoryCustom {
+
+    /**
+     * Soma a atividade de cada jogo a partir de um instante, lendo apenas a tabela de contagens
+     * (e o resumo do jogo), nunca as tabelas de avaliações e bibliotecas.
+     */
+    @Query("""
+            SELECT a.jogoId AS jogoId, j.titulo AS titulo, j.capaUrl AS capaUrl,
+                   SUM(a.avaliacoes) AS avaliacoes, SUM(a.bibliotecas) AS bibliotecas,
+                   SUM(a.visualizacoes) AS visualizacoes
+            FROM JogoAtividade a JOIN Jogo j ON j.id = a.jogoId
+            WHERE a.inicio >= :desde
+            GROUP BY a.jogoId, j.titulo, j.capaUrl""")
+    List<JogoTendenciaProjection> somarDesde(@Param("desde") Instant desde);
+
+    /**
+     * Remove as janelas anteriores ao período das tendências.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM JogoAtividade a WHERE a.inicio < :limite")
+    int deleteAnteriores(@Param("limite") Instant limite);
+}
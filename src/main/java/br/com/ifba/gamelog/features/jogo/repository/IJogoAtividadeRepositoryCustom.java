@@ -0,0 +1,20 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividade;
+
+import java.util.Collection;
+
+/**
+ * Operações de {@link IJogoAtividadeRepository} implementadas manualmente (JDBC em lote).
+ */
+public interface IJogoAtividadeRepositoryCustom {
+
+    /**
+     * Soma as contagens às linhas existentes e insere as que ainda não existem.
+     * Usa um lote de UPDATEs ({@code coluna = coluna + ?}, sem ler as linhas antes) e um lote
+     * de INSERTs apenas para as janelas que o UPDATE não encontrou.
+     *
+     * @param variacoes Contagens a somar, uma por jogo e janela (não gerenciadas).
+     */
+    void somar(Collection<JogoAtividade> variacoes);
+}
@@ -0,0 +1,74 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividade;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementação de {@link IJogoAtividadeRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class IJogoAtividadeRepositoryCustomImpl implements IJogoAtividadeRepositoryCustom {
+
+    private static final String UPDATE_SQL = """
+            UPDATE jogo_atividades
+               SET avaliacoes = avaliacoes + ?, bibliotecas = bibliotecas + ?, visualizacoes = visualizacoes + ?
+             WHERE jogo_id = ? AND inicio = ?""";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO jogo_atividades (avaliacoes, bibliotecas, visualizacoes, jogo_id, inicio)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void somar(Collection<JogoAtividade> variacoes) {
+        if (variacoes.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            List<JogoAtividade> novas = new ArrayList<>();
+            try (PreparedStatement update = conexao.prepareStatement(UPDATE_SQL)) {
+                for (JogoAtividade variacao : variacoes) {
+                    preencher(update, variacao);
+                    update.addBatch();
+                }
+                int[] atualizadas = update.executeBatch();
+                int i = 0;
+                for (JogoAtividade variacao : variacoes) {
+                    if (atualizadas[i++] == 0) {
+                        novas.add(variacao);
+                    }
+                }
+            }
+            if (novas.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement insert = conexao.prepareStatement(INSERT_SQL)) {
+                for (JogoAtividade variacao : novas) {
+                    preencher(insert, variacao);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    private static void preencher(PreparedStatement statement, JogoAtividade variacao) throws SQLException {
+        statement.setLong(1, variacao.getAvaliacoes());
+        statement.setLong(2, variacao.getBibliotecas());
+        statement.setLong(3, variacao.getVisualizacoes());
+        statement.setObject(4, variacao.getJogoId());
+        // OffsetDateTime em UTC: gravado como o mesmo instante independente do fuso da sessão
+        statement.setObject(5, OffsetDateTime.ofInstant(variacao.getInicio(), ZoneOffset.UTC));
+    }
+}
@@ -1,14 +1,29 @@
 package br.com.ifba.gamelog.features.jogo.repository;
 
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface IJogoRepository extends JpaRepository<Jogo, UUID> {
+public interface IJogoRepository extends JpaRepository<Jogo, UUID>, IJogoRepositoryCustom {
 
     /**
      * Verifica se já existe um jogo cadastrado com este ID Externo (RAWG).
@@ -19,4 +34,105 @@ public interface IJogoRepository extends JpaRepository<Jogo, UUID> {
      * Busca um jogo pelo seu ID Externo.
      */
     Optional<Jogo> findByIdExterno(Long idExterno);
-}
\ No newline at end of file
+
+    /**
+     * Bloqueia a linha do jogo (SELECT ... FOR UPDATE) até o fim da transação.
+     * Serializa operações que precisam criar dados derivados do jogo uma única vez.
+     *
+     * @return ID do jogo, ou vazio se ele não existir.
+     */
+    @Query(value = "SELECT id FROM jogos WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> bloquearPorId(@Param("id") UUID id);
+
+    /**
+     * Retorna, em uma única consulta, quais dos IDs Externos informados já estão no catálogo.
+     * Usado pela importação em lote para não buscar na RAWG jogos já cadastrados.
+     *
+     * @param idsExternos IDs Externos (RAWG) a verificar.
+     * @return IDs Externos já cadastrados.
+     */
+    @Query("SELECT j.idExterno FROM Jogo j WHERE j.idExterno IN :idsExternos")
+    List<Long> findIdsExternosExistentes(@Param("idsExternos") Collection<Long> idsExternos);
+
+    /**
+     * Filtra, em uma única consulta, os IDs que existem no catálogo.
+     *
+     * @param ids IDs a verificar.
+     * @return IDs encontrados.
+     */
+    @Query("SELECT j.id FROM Jogo j WHERE j.id IN :ids")
+    List<UUID> findIdsExistentes(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca os jogos atualizados há mais tempo (os mais antigos primeiro), para a
+     * sincronização periódica com a RAWG.
+     *
+     * @param limite Só retorna jogos com {@code updatedAt} anterior a este instante.
+     * @param limit  Tamanho do lote.
+     * @return Jogos em ordem crescente de {@code updatedAt}.
+     */
+    @Query("SELECT j FROM Jogo j WHERE j.updatedAt IS NULL OR j.updatedAt < :limite ORDER BY j.updatedAt ASC NULLS FIRST, j.id")
+    List<Jogo> findDesatualizados(@Param("limite") Instant limite, Limit limit);
+
+    /**
+     * Marca jogos como sincronizados sem alterar os demais campos (um único UPDATE),
+     * para que a sincronização avance pelo catálogo mesmo quando nada mudou na RAWG.
+     *
+     * @param ids   IDs dos jogos.
+     * @param agora Novo valor de {@code updatedAt}.
+     * @return Quantidade de registros atualizados.
+     */
+    @Modifying
+    @Query("UPDATE Jogo j SET j.updatedAt = :agora WHERE j.id IN :ids")
+    int marcarSincronizados(@Param("ids") Collection<UUID> ids, @Param("agora") Instant agora);
+
+    /**
+     * Calcula a popularidade de todos os jogos (entradas em bibliotecas + avaliações)
+     * em uma única consulta, para ponderar as sugestões do autocomplete.
+     *
+     * @return Popularidade de cada jogo do catálogo.
+     */
+    @Query("SELECT j.id AS jogoId, SIZE(j.emBibliotecas) + SIZE(j.avaliacoes) AS popularidade FROM Jogo j")
+    List<JogoPopularidadeProjection> findPopularidades();
+
+    /**
+     * Busca os jogos avaliados de uma faixa de IDs, com os totais das avaliações, para o ranking.
+     * Faixas disjuntas permitem calcular o ranking em paralelo, cada faixa lida por índice da chave primária.
+     *
+     * @param inicio Primeiro ID da faixa (inclusivo).
+     * @param fim    Último ID da faixa (inclusivo).
+     * @return Jogos da faixa com ao menos uma avaliação.
+     */
+    @Query("""
+            SELECT j.id AS jogoId, j.titulo AS titulo, j.capaUrl AS capaUrl, j.genero AS genero,
+                j.anoLancamento AS anoLancamento, e.total AS total, e.soma AS soma
+            FROM Jogo j JOIN AvaliacaoEstatistica e ON e.jogoId = j.id
+            WHERE j.id BETWEEN :inicio AND :fim AND e.total > 0""")
+    List<JogoRankingProjection> findParaRanking(@Param("inicio") UUID inicio, @Param("fim") UUID fim);
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    Window<Jogo> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Percorre todos os jogos sem carregá-los de uma vez na memória.
+     * As linhas chegam do driver em blocos ({@link EntityStreams#FETCH_SIZE}) e as entidades
+     * não guardam snapshot para dirty checking (somente leitura).
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreams.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM Jogo j")
+    Stream<Jogo> streamAll();
+}
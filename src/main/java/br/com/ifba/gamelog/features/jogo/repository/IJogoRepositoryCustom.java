@@ -0,0 +1,26 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+
+/**
+ * Operações de {@link IJogoRepository} implementadas manualmente (SQL nativo).
+ */
+public interface IJogoRepositoryCustom {
+
+    /**
+     * Insere o jogo ou, se o ID Externo já estiver cadastrado, devolve o registro existente,
+     * sem escrever no registro existente ({@code INSERT ... ON CONFLICT (id_externo) DO NOTHING RETURNING},
+     * com leitura do existente quando nada é inserido).
+     * Não há janela entre consulta e inserção, então importações simultâneas do mesmo
+     * jogo não violam a restrição única.
+     * <p>
+     * Se o jogo não tiver {@code id}, um novo UUID é atribuído a ele antes do comando:
+     * o retorno tem esse mesmo {@code id} quando houve inserção, e o {@code id} do
+     * registro existente caso contrário.
+     * </p>
+     *
+     * @param jogo Jogo a cadastrar (não gerenciado).
+     * @return O jogo inserido ou o já existente (gerenciado), sem alterar os dados deste.
+     */
+    Jogo upsertByIdExterno(Jogo jogo);
+}
@@ -0,0 +1,68 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação de {@link IJogoRepositoryCustom} (PostgreSQL).
+ * <p>
+ * Os parâmetros são tipados explicitamente para que valores nulos (capa, descrição, ano...)
+ * sejam enviados com o tipo da coluna e não como {@code bytea}.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class IJogoRepositoryCustomImpl implements IJogoRepositoryCustom {
+
+    // DO NOTHING não escreve nada no conflito (sem nova versão da linha, WAL ou triggers): o
+    // RETURNING vem vazio e o registro existente é lido em seguida. Se o conflito é com uma
+    // inserção ainda não confirmada, o PostgreSQL espera o commit dela antes de decidir.
+    private static final String UPSERT_SQL = """
+            INSERT INTO jogos (id, id_externo, titulo, capa_url, descricao, ano_lancamento,
+                               plataformas, genero, created_at, updated_at)
+            VALUES (:id, :idExterno, :titulo, :capaUrl, :descricao, :anoLancamento,
+                    :plataformas, :genero, :agora, :agora)
+            ON CONFLICT (id_externo) DO NOTHING
+            RETURNING *
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Jogo upsertByIdExterno(Jogo jogo) {
+        if (jogo.getId() == null) {
+            jogo.setId(UUID.randomUUID());
+        }
+        Instant agora = Instant.now();
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<Jogo> query = entityManager.createNativeQuery(UPSERT_SQL, Jogo.class).unwrap(NativeQuery.class);
+        List<Jogo> inserido = parametros(query, jogo, agora).getResultList();
+        return inserido.isEmpty() ? buscarPorIdExterno(jogo.getIdExterno()) : inserido.get(0);
+    }
+
+    private Jogo buscarPorIdExterno(Long idExterno) {
+        return entityManager.createQuery("SELECT j FROM Jogo j WHERE j.idExterno = :idExterno", Jogo.class)
+                .setParameter("idExterno", idExterno)
+                .getSingleResult();
+    }
+
+    private static <T> NativeQuery<T> parametros(NativeQuery<T> query, Jogo jogo, Instant agora) {
+        return query
+                .setParameter("id", jogo.getId(), StandardBasicTypes.UUID)
+                .setParameter("idExterno", jogo.getIdExterno(), StandardBasicTypes.LONG)
+                .setParameter("titulo", jogo.getTitulo(), StandardBasicTypes.STRING)
+                .setParameter("capaUrl", jogo.getCapaUrl(), StandardBasicTypes.STRING)
+                .setParameter("descricao", jogo.getDescricao(), StandardBasicTypes.TEXT)
+                .setParameter("anoLancamento", jogo.getAnoLancamento(), StandardBasicTypes.INTEGER)
+                .setParameter("plataformas", jogo.getPlataformas(), StandardBasicTypes.STRING)
+                .setParameter("genero", jogo.getGenero(), StandardBasicTypes.STRING)
+                .setParameter("agora", agora, StandardBasicTypes.INSTANT);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import java.util.UUID;
+
+/**
+ * Popularidade de um jogo: quantas bibliotecas o contêm somadas às avaliações recebidas.
+ */
+public interface JogoPopularidadeProjection {
+
+    UUID getJogoId();
+
+    Long getPopularidade();
+}
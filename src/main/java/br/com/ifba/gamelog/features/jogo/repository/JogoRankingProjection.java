@@ -0,0 +1,23 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import java.util.UUID;
+
+/**
+ * Dados de um jogo avaliado usados no cálculo do ranking: resumo do jogo e totais das avaliações.
+ */
+public interface JogoRankingProjection {
+
+    UUID getJogoId();
+
+    String getTitulo();
+
+    String getCapaUrl();
+
+    String getGenero();
+
+    Integer getAnoLancamento();
+
+    Long getTotal();
+
+    Long getSoma();
+}
@@ -0,0 +1,21 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import java.util.UUID;
+
+/**
+ * Atividade somada de um jogo no período das tendências, com o resumo do jogo.
+ */
+public interface JogoTendenciaProjection {
+
+    UUID getJogoId();
+
+    String getTitulo();
+
+    String getCapaUrl();
+
+    Long getAvaliacoes();
+
+    Long getBibliotecas();
+
+    Long getVisualizacoes();
+}
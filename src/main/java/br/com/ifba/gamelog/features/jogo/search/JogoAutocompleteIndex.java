@@ -0,0 +1,301 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.repository.JogoPopularidadeProjection;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import br.com.ifba.gamelog.infrastructure.util.TextNormalizer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de autocomplete (typeahead) sobre os títulos do catálogo, baseado em uma trie.
+ * <p>
+ * Cada título normalizado é inserido a partir do início de cada palavra
+ * ("the legend of zelda", "legend of zelda", "of zelda", "zelda"), então "zel" também
+ * sugere "The Legend of Zelda". Cada nó da trie guarda as {@value #MAX_SUGESTOES} melhores
+ * sugestões da sua subárvore, ordenadas pela popularidade (bibliotecas + avaliações):
+ * a consulta só percorre os caracteres do prefixo, sem ordenar nada e sem acessar o banco.
+ * </p>
+ * <p>
+ * O índice é carregado na inicialização e atualizado a cada {@link JogoAlteradoEvent};
+ * a popularidade é recalculada periodicamente e só os jogos cuja contagem mudou são reposicionados.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JogoAutocompleteIndex {
+
+    public static final int MAX_SUGESTOES = 10;
+
+    // Chaves mais longas são truncadas; prefixos maiores filtram as sugestões do nó truncado
+    private static final int MAX_PROFUNDIDADE = 32;
+
+    // Palavras do título a partir das quais o título também é indexado
+    private static final int MAX_PALAVRAS_INDEXADAS = 6;
+
+    private static final Comparator<Documento> ORDEM_SUGESTAO = Comparator
+            .comparingLong(Documento::popularidade).reversed()
+            .thenComparing(Documento::tituloNormalizado)
+            .thenComparing(d -> d.resumo().id());
+
+    private final IJogoRepository repository;
+    private final JogoMapper mapper;
+    private final EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Documento> documentos = new HashMap<>();
+    private final Map<UUID, Long> popularidades = new HashMap<>();
+    private No raiz = new No();
+
+    /**
+     * Jogo indexado: o resumo devolvido na sugestão, o título normalizado, as chaves
+     * inseridas na trie e a popularidade usada na ordenação.
+     */
+    private record Documento(JogoResponseDTO resumo, String tituloNormalizado, Set<String> chaves, long popularidade) {}
+
+    /**
+     * Nó da trie: filhos por caractere, documentos cuja chave termina aqui e as melhores
+     * sugestões da subárvore (já ordenadas).
+     */
+    private static final class No {
+        private final Map<Character, No> filhos = new HashMap<>(4);
+        private final List<Documento> terminais = new ArrayList<>(1);
+        private final List<Documento> melhores = new ArrayList<>(1);
+
+        private boolean vazio() {
+            return filhos.isEmpty() && terminais.isEmpty();
+        }
+
+        private boolean contem(UUID id) {
+            for (Documento documento : melhores) {
+                if (documento.resumo().id().equals(id)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Oferece um documento às melhores sugestões (inserção ordenada, mantendo no máximo K).
+         */
+        private void oferecer(Documento documento) {
+            if (contem(documento.resumo().id())) return;
+            int posicao = Collections.binarySearch(melhores, documento, ORDEM_SUGESTAO);
+            posicao = posicao < 0 ? -posicao - 1 : posicao;
+            if (posicao >= MAX_SUGESTOES) return;
+            melhores.add(posicao, documento);
+            if (melhores.size() > MAX_SUGESTOES) {
+                melhores.remove(MAX_SUGESTOES);
+            }
+        }
+
+        /**
+         * Recalcula as melhores sugestões a partir dos terminais e das melhores de cada filho.
+         */
+        private void recalcular() {
+            melhores.clear();
+            terminais.forEach(this::oferecer);
+            filhos.values().forEach(filho -> filho.melhores.forEach(this::oferecer));
+        }
+    }
+
+    /**
+     * Carrega todo o catálogo e a popularidade dos jogos quando a aplicação sobe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reindexar() {
+        Map<UUID, Long> contagens = carregarPopularidades();
+        List<JogoResponseDTO> jogos = new ArrayList<>();
+        EntityStreams.forEach(repository.streamAll(), entityManager, jogo -> jogos.add(mapper.toResponse(jogo)));
+
+        lock.writeLock().lock();
+        try {
+            documentos.clear();
+            popularidades.clear();
+            popularidades.putAll(contagens);
+            raiz = new No();
+            jogos.forEach(this::indexarSemLock);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de autocomplete de jogos carregado com {} jogos.", jogos.size());
+    }
+
+    /**
+     * Mantém o índice sincronizado com as alterações do catálogo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarJogo(JogoAlteradoEvent event) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(event.jogoId());
+            if (event.removido()) {
+                popularidades.remove(event.jogoId());
+            } else {
+                indexarSemLock(event.jogo());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recalcula a popularidade (uma única consulta agregada) e reposiciona na trie apenas
+     * os jogos cuja contagem mudou.
+     */
+    @Scheduled(
+            initialDelayString = "${jogos.autocomplete.popularity-refresh:PT10M}",
+            fixedDelayString = "${jogos.autocomplete.popularity-refresh:PT10M}"
+    )
+    public void atualizarPopularidade() {
+        Map<UUID, Long> contagens = carregarPopularidades();
+
+        int alterados = 0;
+        lock.writeLock().lock();
+        try {
+            popularidades.clear();
+            popularidades.putAll(contagens);
+            for (Documento documento : List.copyOf(documentos.values())) {
+                long atual = popularidades.getOrDefault(documento.resumo().id(), 0L);
+                if (atual != documento.popularidade()) {
+                    removerSemLock(documento.resumo().id());
+                    indexarSemLock(documento.resumo());
+                    alterados++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Popularidade do autocomplete atualizada: {} jogos reposicionados.", alterados);
+    }
+
+    /**
+     * Sugere jogos cujo título (ou alguma palavra do título em diante) começa com o prefixo,
+     * do mais popular para o menos popular.
+     *
+     * @param prefixo Texto digitado até o momento (acentos, maiúsculas e pontuação são ignorados).
+     * @param limite  Quantidade máxima de sugestões (até {@value #MAX_SUGESTOES}).
+     * @return Sugestões (sem a descrição), ou lista vazia se o prefixo estiver em branco.
+     */
+    public List<JogoResponseDTO> sugerir(String prefixo, int limite) {
+        String chave = String.join(" ", TextNormalizer.tokenizar(prefixo));
+        if (chave.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        boolean truncado = chave.length() > MAX_PROFUNDIDADE;
+
+        lock.readLock().lock();
+        try {
+            No no = raiz;
+            for (int i = 0; i < Math.min(chave.length(), MAX_PROFUNDIDADE) && no != null; i++) {
+                no = no.filhos.get(chave.charAt(i));
+            }
+            if (no == null) {
+                return List.of();
+            }
+            List<JogoResponseDTO> sugestoes = new ArrayList<>(Math.min(limite, no.melhores.size()));
+            for (Documento documento : no.melhores) {
+                if (sugestoes.size() == limite) break;
+                if (truncado && !comecaPalavraCom(documento.tituloNormalizado(), chave)) continue;
+                sugestoes.add(documento.resumo());
+            }
+            return sugestoes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<UUID, Long> carregarPopularidades() {
+        Map<UUID, Long> contagens = new HashMap<>();
+        for (JogoPopularidadeProjection popularidade : repository.findPopularidades()) {
+            contagens.put(popularidade.getJogoId(), popularidade.getPopularidade());
+        }
+        return contagens;
+    }
+
+    private void indexarSemLock(JogoResponseDTO jogo) {
+        List<String> termos = TextNormalizer.tokenizar(jogo.titulo());
+        if (termos.isEmpty()) return;
+
+        Set<String> chaves = new LinkedHashSet<>();
+        for (int i = 0; i < Math.min(termos.size(), MAX_PALAVRAS_INDEXADAS); i++) {
+            String chave = String.join(" ", termos.subList(i, termos.size()));
+            chaves.add(chave.length() > MAX_PROFUNDIDADE ? chave.substring(0, MAX_PROFUNDIDADE) : chave);
+        }
+
+        JogoResponseDTO resumo = new JogoResponseDTO(
+                jogo.id(), jogo.idExterno(), jogo.titulo(), jogo.capaUrl(),
+                null, jogo.anoLancamento(), jogo.plataformas(), jogo.genero());
+        Documento documento = new Documento(resumo, String.join(" ", termos), chaves,
+                popularidades.getOrDefault(jogo.id(), 0L));
+        documentos.put(jogo.id(), documento);
+
+        // Inserir só pode promover o documento: basta oferecê-lo a cada nó do caminho
+        for (String chave : chaves) {
+            No no = raiz;
+            no.oferecer(documento);
+            for (int i = 0; i < chave.length(); i++) {
+                no = no.filhos.computeIfAbsent(chave.charAt(i), c -> new No());
+                no.oferecer(documento);
+            }
+            no.terminais.add(documento);
+        }
+    }
+
+    private void removerSemLock(UUID id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) return;
+
+        // Primeiro tira o documento de todos os terminais, para que nenhum recálculo o traga de volta
+        List<List<No>> caminhos = new ArrayList<>(documento.chaves().size());
+        for (String chave : documento.chaves()) {
+            List<No> caminho = new ArrayList<>(chave.length() + 1);
+            No no = raiz;
+            caminho.add(no);
+            for (int i = 0; i < chave.length(); i++) {
+                no = no.filhos.get(chave.charAt(i));
+                caminho.add(no);
+            }
+            no.terminais.remove(documento);
+            caminhos.add(caminho);
+        }
+
+        // Depois recalcula de baixo para cima apenas os nós em que ele estava entre os melhores,
+        // descartando os nós que ficaram vazios
+        Iterator<String> chaves = documento.chaves().iterator();
+        for (List<No> caminho : caminhos) {
+            String chave = chaves.next();
+            for (int i = caminho.size() - 1; i >= 0; i--) {
+                No no = caminho.get(i);
+                if (i > 0 && no.vazio()) {
+                    caminho.get(i - 1).filhos.remove(chave.charAt(i - 1));
+                } else if (no.contem(id)) {
+                    no.recalcular();
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifica se o título começa com o prefixo no início de alguma palavra.
+     */
+    private static boolean comecaPalavraCom(String tituloNormalizado, String prefixo) {
+        return tituloNormalizado.startsWith(prefixo) || tituloNormalizado.contains(" " + prefixo);
+    }
+}
@@ -0,0 +1,367 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.FacetaValorDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoFiltroResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import br.com.ifba.gamelog.infrastructure.util.TextNormalizer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de facetas do catálogo (gênero, plataforma e ano) baseado em bitmaps comprimidos.
+ * <p>
+ * Cada jogo recebe um número interno (docId) e cada valor de faceta guarda o conjunto
+ * de docIds que o possuem em um {@link RoaringBitmap}. Qualquer combinação de filtros
+ * é resolvida com uniões e interseções de bitmaps, sem consultar o banco.
+ * </p>
+ * <p>
+ * Gênero e plataformas são textos livres separados por vírgula ("PC, PlayStation 4"):
+ * cada item vira um valor de faceta, comparado sem acentos/maiúsculas.
+ * O índice é carregado na inicialização e atualizado a cada {@link JogoAlteradoEvent}.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JogoFacetIndex {
+
+    private static final Pattern SEPARADOR_VALORES = Pattern.compile(",");
+
+    private static final Comparator<Documento> ORDEM_TITULO = Comparator
+            .comparing(Documento::tituloNormalizado)
+            .thenComparing(d -> d.resumo().id());
+
+    private final IJogoRepository repository;
+    private final JogoMapper mapper;
+    private final EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Documento por docId (posições liberadas ficam nulas até serem reutilizadas)
+    private final List<Documento> documentos = new ArrayList<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final Deque<Integer> docIdsLivres = new ArrayDeque<>();
+    private final RoaringBitmap todos = new RoaringBitmap();
+
+    private final Faceta<String> generos = new Faceta<>(null);
+    private final Faceta<String> plataformas = new Faceta<>(null);
+    private final Faceta<Integer> anos = new Faceta<>(Comparator.<Integer>reverseOrder());
+
+    // docIds em ordem de título, recalculado sob demanda após alterações
+    private volatile int[] ordemPorTitulo;
+
+    /**
+     * Jogo indexado: o resumo devolvido no filtro e as chaves das facetas em que aparece.
+     */
+    private record Documento(JogoResponseDTO resumo, String tituloNormalizado, Set<String> generos, Set<String> plataformas) {}
+
+    /**
+     * Carrega todo o catálogo no índice quando a aplicação sobe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reindexar() {
+        List<JogoResponseDTO> jogos = new ArrayList<>();
+        EntityStreams.forEach(repository.streamAll(), entityManager, jogo -> jogos.add(mapper.toResponse(jogo)));
+
+        lock.writeLock().lock();
+        try {
+            documentos.clear();
+            docIds.clear();
+            docIdsLivres.clear();
+            todos.clear();
+            generos.limpar();
+            plataformas.limpar();
+            anos.limpar();
+            jogos.forEach(this::indexarSemLock);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de facetas de jogos carregado com {} jogos.", jogos.size());
+    }
+
+    /**
+     * Mantém o índice sincronizado com as alterações do catálogo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarJogo(JogoAlteradoEvent event) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(event.jogoId());
+            if (!event.removido()) {
+                indexarSemLock(event.jogo());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Filtra o catálogo por facetas. Valores da mesma faceta são combinados com OU e
+     * facetas diferentes com E (ex.: (RPG ou Ação) e PC e 2017).
+     *
+     * @param generosFiltro     Gêneros aceitos (vazio = sem filtro).
+     * @param plataformasFiltro Plataformas aceitas (vazio = sem filtro).
+     * @param anosFiltro        Anos de lançamento aceitos (vazio = sem filtro).
+     * @param pageable          Página desejada (a ordenação é sempre pelo título).
+     * @return Página de jogos (sem a descrição) e contagem de cada faceta.
+     */
+    public JogoFiltroResponseDTO filtrar(Collection<String> generosFiltro, Collection<String> plataformasFiltro,
+                                         Collection<Integer> anosFiltro, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap porGenero = generos.uniao(normalizar(generosFiltro));
+            RoaringBitmap porPlataforma = plataformas.uniao(normalizar(plataformasFiltro));
+            RoaringBitmap porAno = anos.uniao(anosFiltro == null ? Set.of() : new HashSet<>(anosFiltro));
+
+            RoaringBitmap resultado = intersecao(porGenero, porPlataforma, porAno);
+
+            // Cada faceta é contada com os filtros das demais, para mostrar quantos jogos sobrariam ao marcá-la
+            return new JogoFiltroResponseDTO(
+                    new PageImpl<>(pagina(resultado, pageable), pageable, resultado.getCardinality()),
+                    generos.contar(intersecao(porPlataforma, porAno)),
+                    plataformas.contar(intersecao(porGenero, porAno)),
+                    anos.contar(intersecao(porGenero, porPlataforma))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Interseção dos filtros informados (nulo = faceta sem filtro).
+     * Sem nenhum filtro devolve o próprio bitmap {@code todos}, que não deve ser alterado.
+     */
+    private RoaringBitmap intersecao(RoaringBitmap... filtros) {
+        RoaringBitmap resultado = null;
+        for (RoaringBitmap filtro : filtros) {
+            if (filtro == null) continue;
+            if (resultado == null) {
+                resultado = filtro.clone();
+            } else {
+                resultado.and(filtro);
+            }
+        }
+        return resultado == null ? todos : resultado;
+    }
+
+    /**
+     * Monta a página em ordem de título. Resultados pequenos são ordenados diretamente;
+     * os grandes percorrem a ordem global de títulos até preencher a página.
+     */
+    private List<JogoResponseDTO> pagina(RoaringBitmap resultado, Pageable pageable) {
+        int total = resultado.getCardinality();
+        long inicio = pageable.getOffset();
+        if (inicio >= total) {
+            return List.of();
+        }
+        int fim = (int) Math.min(inicio + pageable.getPageSize(), total);
+
+        List<JogoResponseDTO> conteudo = new ArrayList<>(fim - (int) inicio);
+        int[] ordem = ordemPorTitulo();
+        if ((long) total * 16 < ordem.length) {
+            List<Documento> selecionados = new ArrayList<>(total);
+            IntIterator it = resultado.getIntIterator();
+            while (it.hasNext()) {
+                selecionados.add(documentos.get(it.next()));
+            }
+            selecionados.sort(ORDEM_TITULO);
+            for (int i = (int) inicio; i < fim; i++) {
+                conteudo.add(selecionados.get(i).resumo());
+            }
+            return conteudo;
+        }
+
+        int posicao = 0;
+        for (int docId : ordem) {
+            if (!resultado.contains(docId)) continue;
+            if (posicao++ >= inicio) {
+                conteudo.add(documentos.get(docId).resumo());
+                if (conteudo.size() == fim - inicio) break;
+            }
+        }
+        return conteudo;
+    }
+
+    /**
+     * Chamado sob o lock de leitura (sem escritores); o {@code synchronized} evita
+     * que dois leitores recalculem a ordem ao mesmo tempo.
+     */
+    private int[] ordemPorTitulo() {
+        int[] ordem = ordemPorTitulo;
+        if (ordem != null) return ordem;
+        synchronized (this) {
+            if (ordemPorTitulo == null) {
+                ordemPorTitulo = todos.stream()
+                        .boxed()
+                        .sorted(Comparator.comparing(documentos::get, ORDEM_TITULO))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+            return ordemPorTitulo;
+        }
+    }
+
+    private void indexarSemLock(JogoResponseDTO jogo) {
+        Map<String, String> generosJogo = valores(jogo.genero());
+        Map<String, String> plataformasJogo = valores(jogo.plataformas());
+
+        JogoResponseDTO resumo = new JogoResponseDTO(
+                jogo.id(), jogo.idExterno(), jogo.titulo(), jogo.capaUrl(),
+                null, jogo.anoLancamento(), jogo.plataformas(), jogo.genero());
+        Documento documento = new Documento(resumo, TextNormalizer.normalizar(jogo.titulo()),
+                generosJogo.keySet(), plataformasJogo.keySet());
+
+        int docId;
+        if (docIdsLivres.isEmpty()) {
+            docId = documentos.size();
+            documentos.add(documento);
+        } else {
+            docId = docIdsLivres.pop();
+            documentos.set(docId, documento);
+        }
+        docIds.put(jogo.id(), docId);
+        todos.add(docId);
+
+        generosJogo.forEach((chave, rotulo) -> generos.adicionar(chave, rotulo, docId));
+        plataformasJogo.forEach((chave, rotulo) -> plataformas.adicionar(chave, rotulo, docId));
+        if (jogo.anoLancamento() != null) {
+            anos.adicionar(jogo.anoLancamento(), String.valueOf(jogo.anoLancamento()), docId);
+        }
+        ordemPorTitulo = null;
+    }
+
+    private void removerSemLock(UUID id) {
+        Integer docId = docIds.remove(id);
+        if (docId == null) return;
+
+        Documento documento = documentos.set(docId, null);
+        todos.remove(docId);
+        documento.generos().forEach(chave -> generos.remover(chave, docId));
+        documento.plataformas().forEach(chave -> plataformas.remover(chave, docId));
+        if (documento.resumo().anoLancamento() != null) {
+            anos.remover(documento.resumo().anoLancamento(), docId);
+        }
+        docIdsLivres.push(docId);
+        ordemPorTitulo = null;
+    }
+
+    /**
+     * Quebra um campo livre ("PC, PlayStation 4") em valores de faceta: chave normalizada -> rótulo original.
+     */
+    private static Map<String, String> valores(String texto) {
+        Map<String, String> valores = new LinkedHashMap<>();
+        if (texto == null) return valores;
+        for (String valor : SEPARADOR_VALORES.split(texto)) {
+            String chave = TextNormalizer.normalizar(valor);
+            if (!chave.isEmpty()) {
+                valores.putIfAbsent(chave, valor.trim());
+            }
+        }
+        return valores;
+    }
+
+    private static Set<String> normalizar(Collection<String> filtro) {
+        Set<String> chaves = new HashSet<>();
+        if (filtro == null) return chaves;
+        for (String valor : filtro) {
+            String chave = TextNormalizer.normalizar(valor);
+            if (!chave.isEmpty()) {
+                chaves.add(chave);
+            }
+        }
+        return chaves;
+    }
+
+    /**
+     * Uma faceta: bitmap de docIds e rótulo de exibição por valor.
+     *
+     * @param <K> Tipo da chave (texto normalizado ou ano).
+     */
+    private static class Faceta<K> {
+        private final Map<K, RoaringBitmap> bitmaps = new HashMap<>();
+        private final Map<K, String> rotulos = new HashMap<>();
+        // Ordem das contagens: pela chave, ou (se nulo) pela quantidade decrescente
+        private final Comparator<K> ordemChaves;
+
+        private Faceta(Comparator<K> ordemChaves) {
+            this.ordemChaves = ordemChaves;
+        }
+
+        private void adicionar(K chave, String rotulo, int docId) {
+            bitmaps.computeIfAbsent(chave, k -> new RoaringBitmap()).add(docId);
+            rotulos.putIfAbsent(chave, rotulo);
+        }
+
+        private void remover(K chave, int docId) {
+            RoaringBitmap bitmap = bitmaps.get(chave);
+            if (bitmap == null) return;
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(chave);
+                rotulos.remove(chave);
+            }
+        }
+
+        private void limpar() {
+            bitmaps.clear();
+            rotulos.clear();
+        }
+
+        /**
+         * União dos valores pedidos, ou nulo se a faceta não foi filtrada.
+         * Valores inexistentes resultam em bitmap vazio (nenhum jogo).
+         */
+        private RoaringBitmap uniao(Set<K> chaves) {
+            if (chaves.isEmpty()) return null;
+            RoaringBitmap uniao = new RoaringBitmap();
+            for (K chave : chaves) {
+                RoaringBitmap bitmap = bitmaps.get(chave);
+                if (bitmap != null) {
+                    uniao.or(bitmap);
+                }
+            }
+            return uniao;
+        }
+
+        private List<FacetaValorDTO> contar(RoaringBitmap base) {
+            List<Map.Entry<K, Integer>> contagens = new ArrayList<>(bitmaps.size());
+            bitmaps.forEach((chave, bitmap) -> {
+                int quantidade = RoaringBitmap.andCardinality(bitmap, base);
+                if (quantidade > 0) {
+                    contagens.add(Map.entry(chave, quantidade));
+                }
+            });
+
+            contagens.sort(ordemChaves != null
+                    ? Map.Entry.comparingByKey(ordemChaves)
+                    : Map.Entry.<K, Integer>comparingByValue().reversed()
+                            .thenComparing(e -> rotulos.get(e.getKey())));
+
+            return contagens.stream()
+                    .map(e -> new FacetaValorDTO(rotulos.get(e.getKey()), e.getValue()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.infrastructure.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre o catálogo de jogos (título, gênero e plataformas).
+ * <p>
+ * Permite buscas ranqueadas sem ir ao banco nem à RAWG: os termos são normalizados
+ * (sem acentos/maiúsculas) e termos parecidos são encontrados por similaridade de
+ * trigramas, tolerando erros de digitação ("zelad" -> "zelda").
+ * </p>
+ * <p>
+ * O índice é carregado na inicialização e atualizado de forma incremental a cada
+ * {@link JogoAlteradoEvent}, após o commit da transação.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JogoSearchIndex {
+
+    // Peso de cada campo no ranking
+    private static final float PESO_TITULO = 3.0f;
+    private static final float PESO_GENERO = 1.5f;
+    private static final float PESO_PLATAFORMA = 1.0f;
+
+    // Similaridade mínima de trigramas para aceitar um termo aproximado
+    private static final double SIMILARIDADE_MINIMA = 0.4;
+    private static final int MAX_TERMOS_APROXIMADOS = 20;
+
+    private final IJogoRepository repository;
+    private final JogoMapper mapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Documento> documentos = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<String, Set<String>> vocabularioPorTrigrama = new HashMap<>();
+
+    /**
+     * Documento indexado: o resumo devolvido na busca e o peso de cada termo.
+     */
+    private record Documento(JogoResponseDTO resumo, String tituloNormalizado, Map<String, Float> pesos) {}
+
+    /**
+     * Carrega todo o catálogo no índice quando a aplicação sobe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reindexar() {
+        List<JogoResponseDTO> jogos = repository.findAll().stream()
+                .map(mapper::toResponse)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            documentos.clear();
+            postings.clear();
+            vocabularioPorTrigrama.clear();
+            jogos.forEach(this::indexarSemLock);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de busca de jogos carregado com {} jogos.", jogos.size());
+    }
+
+    /**
+     * Mantém o índice sincronizado com as alterações do catálogo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarJogo(JogoAlteradoEvent event) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(event.jogoId());
+            if (!event.removido()) {
+                indexarSemLock(event.jogo());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca jogos no índice, ordenados por relevância.
+     *
+     * @param consulta Texto livre (título, gênero ou plataforma).
+     * @param pageable Página desejada (a ordenação é sempre por relevância).
+     * @return Página de jogos (sem a descrição, para manter a resposta leve).
+     */
+    public Page<JogoResponseDTO> buscar(String consulta, Pageable pageable) {
+        List<String> termosConsulta = TextNormalizer.tokenizar(consulta);
+        if (termosConsulta.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String consultaNormalizada = String.join(" ", termosConsulta);
+
+        lock.readLock().lock();
+        try {
+            int totalDocumentos = documentos.size();
+            Map<UUID, Double> pontuacao = new HashMap<>();
+            Map<UUID, Integer> termosAtendidos = new HashMap<>();
+
+            for (String termoConsulta : termosConsulta) {
+                // Melhor contribuição de cada documento para este termo da consulta
+                Map<UUID, Double> melhorPorDocumento = new HashMap<>();
+
+                for (Map.Entry<String, Double> candidato : termosCandidatos(termoConsulta).entrySet()) {
+                    Set<UUID> ids = postings.get(candidato.getKey());
+                    double idf = Math.log(1.0 + (double) totalDocumentos / ids.size());
+
+                    for (UUID id : ids) {
+                        double contribuicao = candidato.getValue() * idf * documentos.get(id).pesos().get(candidato.getKey());
+                        melhorPorDocumento.merge(id, contribuicao, Math::max);
+                    }
+                }
+
+                melhorPorDocumento.forEach((id, valor) -> {
+                    pontuacao.merge(id, valor, Double::sum);
+                    termosAtendidos.merge(id, 1, Integer::sum);
+                });
+            }
+
+            List<Map.Entry<UUID, Double>> ranking = new ArrayList<>(pontuacao.size());
+            for (Map.Entry<UUID, Double> entry : pontuacao.entrySet()) {
+                Documento documento = documentos.get(entry.getKey());
+                // Penaliza documentos que não atendem todos os termos da consulta
+                double cobertura = (double) termosAtendidos.get(entry.getKey()) / termosConsulta.size();
+                double score = entry.getValue() * cobertura;
+                // Bônus para título que contém a consulta inteira
+                if (documento.tituloNormalizado().contains(consultaNormalizada)) {
+                    score *= 2;
+                }
+                ranking.add(Map.entry(entry.getKey(), score));
+            }
+
+            ranking.sort(Map.Entry.<UUID, Double>comparingByValue().reversed()
+                    .thenComparing(e -> documentos.get(e.getKey()).tituloNormalizado()));
+
+            int inicio = (int) Math.min(pageable.getOffset(), ranking.size());
+            int fim = Math.min(inicio + pageable.getPageSize(), ranking.size());
+            List<JogoResponseDTO> conteudo = ranking.subList(inicio, fim).stream()
+                    .map(e -> documentos.get(e.getKey()).resumo())
+                    .toList();
+
+            return new PageImpl<>(conteudo, pageable, ranking.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Encontra os termos do vocabulário que correspondem ao termo da consulta:
+     * o próprio termo (similaridade 1), termos que começam com ele e termos parecidos
+     * por trigramas.
+     */
+    private Map<String, Double> termosCandidatos(String termoConsulta) {
+        Map<String, Double> candidatos = new HashMap<>();
+        if (postings.containsKey(termoConsulta)) {
+            candidatos.put(termoConsulta, 1.0);
+        }
+
+        Set<String> trigramasConsulta = TextNormalizer.trigramas(termoConsulta);
+        Map<String, Integer> emComum = new HashMap<>();
+        for (String trigrama : trigramasConsulta) {
+            for (String termo : vocabularioPorTrigrama.getOrDefault(trigrama, Set.of())) {
+                emComum.merge(termo, 1, Integer::sum);
+            }
+        }
+
+        emComum.forEach((termo, comuns) -> {
+            if (termo.equals(termoConsulta)) return;
+            int trigramasTermo = termo.length() + 1;
+            double similaridade = (double) comuns / (trigramasConsulta.size() + trigramasTermo - comuns);
+            if (termoConsulta.length() >= 2 && termo.startsWith(termoConsulta)) {
+                similaridade = Math.max(similaridade, 0.8);
+            }
+            if (similaridade >= SIMILARIDADE_MINIMA) {
+                candidatos.put(termo, similaridade);
+            }
+        });
+
+        if (candidatos.size() <= MAX_TERMOS_APROXIMADOS) {
+            return candidatos;
+        }
+        Map<String, Double> melhores = new HashMap<>();
+        candidatos.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(MAX_TERMOS_APROXIMADOS)
+                .forEach(e -> melhores.put(e.getKey(), e.getValue()));
+        return melhores;
+    }
+
+    private void indexarSemLock(JogoResponseDTO jogo) {
+        Map<String, Float> pesos = new HashMap<>();
+        TextNormalizer.tokenizar(jogo.titulo()).forEach(t -> pesos.merge(t, PESO_TITULO, Float::sum));
+        TextNormalizer.tokenizar(jogo.genero()).forEach(t -> pesos.merge(t, PESO_GENERO, Float::sum));
+        TextNormalizer.tokenizar(jogo.plataformas()).forEach(t -> pesos.merge(t, PESO_PLATAFORMA, Float::sum));
+
+        JogoResponseDTO resumo = new JogoResponseDTO(
+                jogo.id(), jogo.idExterno(), jogo.titulo(), jogo.capaUrl(),
+                null, jogo.anoLancamento(), jogo.plataformas(), jogo.genero());
+        String tituloNormalizado = String.join(" ", TextNormalizer.tokenizar(jogo.titulo()));
+
+        documentos.put(jogo.id(), new Documento(resumo, tituloNormalizado, pesos));
+        for (String termo : pesos.keySet()) {
+            Set<UUID> ids = postings.computeIfAbsent(termo, k -> new HashSet<>());
+            if (ids.isEmpty()) {
+                TextNormalizer.trigramas(termo)
+                        .forEach(tri -> vocabularioPorTrigrama.computeIfAbsent(tri, k -> new HashSet<>()).add(termo));
+            }
+            ids.add(jogo.id());
+        }
+    }
+
+    private void removerSemLock(UUID id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) return;
+
+        for (String termo : documento.pesos().keySet()) {
+            Set<UUID> ids = postings.get(termo);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(termo);
+                for (String tri : TextNormalizer.trigramas(termo)) {
+                    Set<String> termos = vocabularioPorTrigrama.get(tri);
+                    termos.remove(termo);
+                    if (termos.isEmpty()) {
+                        vocabularioPorTrigrama.remove(tri);
+                    }
+                }
+            }
+        }
+    }
+}
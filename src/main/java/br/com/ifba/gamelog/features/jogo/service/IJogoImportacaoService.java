@@ -0,0 +1,23 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.request.JogoImportacaoRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoImportacaoResponseDTO;
+
+import java.util.UUID;
+
+public interface IJogoImportacaoService {
+
+    /**
+     * Inicia a importação em lote de jogos da RAWG em segundo plano.
+     * @param dto IDs Externos a importar.
+     * @return Estado inicial da importação (use o ID para acompanhar o progresso).
+     */
+    JogoImportacaoResponseDTO iniciar(JogoImportacaoRequestDTO dto);
+
+    /**
+     * Consulta o progresso de uma importação.
+     * @param id ID da importação.
+     * @return Estado atual da importação.
+     */
+    JogoImportacaoResponseDTO findById(UUID id);
+}
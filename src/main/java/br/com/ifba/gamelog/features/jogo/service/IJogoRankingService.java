@@ -0,0 +1,21 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
+
+public interface IJogoRankingService {
+
+    /**
+     * Busca um ranking já calculado (sem consultar o banco).
+     * @param genero Gênero (nulo = todos).
+     * @param ano Ano de lançamento (nulo = todos).
+     * @param limite Quantidade máxima de jogos.
+     * @return Ranking solicitado (vazio se não houver jogos avaliados no recorte).
+     */
+    JogoRankingResponseDTO buscar(String genero, Integer ano, int limite);
+
+    /**
+     * Recalcula todos os rankings imediatamente.
+     * @return Ranking geral recalculado.
+     */
+    JogoRankingResponseDTO reconstruir();
+}
@@ -1,19 +1,88 @@
 package br.com.ifba.gamelog.features.jogo.service;
 
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoCriarRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoFiltroResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
 import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page; // 👈 NOVO IMPORT
 import org.springframework.data.domain.Pageable; // 👈 NOVO IMPORT
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IJogoService {
     JogoResponseDTO save(JogoCriarRequestDTO dto);
     List<JogoResponseDTO> findAll();
+
+    /**
+     * Percorre todos os jogos, entregando um DTO por vez (streaming), sem montar a lista em memória.
+     * @param consumidor Recebe cada DTO assim que é lido do banco.
+     */
+    void streamAll(Consumer<JogoResponseDTO> consumidor);
+
     Page<JogoResponseDTO> findAllPaged(Pageable pageable);
+
+    /**
+     * Lista os jogos com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<JogoResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+    Page<JogoResponseDTO> search(String consulta, Pageable pageable);
+
+    /**
+     * Filtra o catálogo por facetas, devolvendo a página de jogos e a contagem de cada faceta.
+     * @param generos Gêneros aceitos (nulo ou vazio = sem filtro).
+     * @param plataformas Plataformas aceitas (nulo ou vazio = sem filtro).
+     * @param anos Anos de lançamento aceitos (nulo ou vazio = sem filtro).
+     * @param pageable Página desejada (ordenada pelo título).
+     * @return Jogos filtrados e contagens por faceta.
+     */
+    JogoFiltroResponseDTO filter(List<String> generos, List<String> plataformas, List<Integer> anos, Pageable pageable);
+
+    /**
+     * Sugere jogos cujo título começa com o prefixo digitado, dos mais populares para os menos populares.
+     * @param prefixo Texto digitado até o momento.
+     * @param limite Quantidade máxima de sugestões.
+     * @return Sugestões (sem a descrição).
+     */
+    List<JogoResponseDTO> autocomplete(String prefixo, int limite);
     JogoResponseDTO findById(UUID id);
+
+    /**
+     * Busca as estatísticas de avaliação do jogo (quantidade, média e histograma das notas).
+     * @param id ID do jogo.
+     * @return Estatísticas do jogo.
+     */
+    AvaliacaoEstatisticasResponseDTO findEstatisticas(UUID id);
+
+    /**
+     * Busca o ranking dos jogos mais bem avaliados (média bayesiana).
+     * @param genero Gênero (nulo = todos).
+     * @param ano Ano de lançamento (nulo = todos).
+     * @param limite Quantidade máxima de jogos.
+     * @return Ranking pré-calculado.
+     */
+    JogoRankingResponseDTO ranking(String genero, Integer ano, int limite);
+
+    /**
+     * Busca os jogos em alta (atividade recente).
+     * @param limite Quantidade máxima de jogos.
+     * @return Jogos em alta pré-calculados.
+     */
+    JogoTendenciaResponseDTO tendencias(int limite);
+
+    /**
+     * Conta uma visualização da página do jogo para as tendências.
+     * @param id ID do jogo.
+     */
+    void registrarVisualizacao(UUID id);
     JogoResponseDTO update(JogoAtualizarRequestDTO dto);
     UUID delete(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+public interface IJogoSincronizacaoService {
+
+    /**
+     * Sincroniza com a RAWG o próximo lote de jogos desatualizados (os de {@code updatedAt}
+     * mais antigo). Executado periodicamente em segundo plano.
+     */
+    void sincronizar();
+}
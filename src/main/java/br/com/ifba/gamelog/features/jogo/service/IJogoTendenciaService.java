@@ -0,0 +1,28 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
+
+import java.util.UUID;
+
+public interface IJogoTendenciaService {
+
+    /**
+     * Conta uma atividade do jogo na janela de tempo atual (somente em memória).
+     * @param jogoId ID do jogo.
+     * @param tipo Tipo da atividade.
+     */
+    void registrar(UUID jogoId, JogoAtividadeTipo tipo);
+
+    /**
+     * Busca os jogos em alta já calculados (sem consultar o banco).
+     * @param limite Quantidade máxima de jogos.
+     * @return Jogos em alta, do mais ativo para o menos ativo.
+     */
+    JogoTendenciaResponseDTO buscar(int limite);
+
+    /**
+     * Grava no banco as contagens acumuladas em memória e recalcula os jogos em alta.
+     */
+    void descarregar();
+}
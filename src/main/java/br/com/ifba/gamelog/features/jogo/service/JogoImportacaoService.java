@@ -0,0 +1,208 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.client.RawgApiClient;
+import br.com.ifba.gamelog.features.jogo.dto.request.JogoImportacaoRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoImportacaoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço de importação em lote do catálogo a partir de IDs Externos da RAWG.
+ * <p>
+ * Os IDs já cadastrados são resolvidos com uma única consulta {@code IN}; os demais
+ * têm os detalhes buscados na RAWG com concorrência limitada e são inseridos em lotes
+ * (JDBC batching do Hibernate), um lote por transação.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JogoImportacaoService implements IJogoImportacaoService {
+
+    private static final int TAMANHO_LOTE = 100;
+    private static final Duration RETENCAO_IMPORTACOES = Duration.ofHours(1);
+
+    private final IJogoRepository repository;
+    private final RawgApiClient rawgApiClient;
+    private final JogoMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int concorrencia;
+
+    // Importações em andamento/recentes, para consulta de progresso
+    private final Map<UUID, Importacao> importacoes = new ConcurrentHashMap<>();
+
+    public JogoImportacaoService(
+            IJogoRepository repository,
+            RawgApiClient rawgApiClient,
+            JogoMapper mapper,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${rawg.api.import.concurrency:8}") int concorrencia
+    ) {
+        this.repository = repository;
+        this.rawgApiClient = rawgApiClient;
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.concorrencia = concorrencia;
+    }
+
+    /**
+     * Inicia a importação e retorna imediatamente; o processamento segue em segundo plano.
+     */
+    @Override
+    public JogoImportacaoResponseDTO iniciar(JogoImportacaoRequestDTO dto) {
+        importacoes.values().removeIf(i -> i.fim != null && i.fim.isBefore(Instant.now().minus(RETENCAO_IMPORTACOES)));
+
+        List<Long> ids = dto.idsExternos().stream().distinct().toList();
+
+        // 1. Uma única consulta para descobrir o que já existe
+        Set<Long> existentes = new HashSet<>(repository.findIdsExternosExistentes(ids));
+        List<Long> novos = ids.stream().filter(id -> !existentes.contains(id)).toList();
+
+        Importacao importacao = new Importacao(ids.size());
+        importacao.jaExistentes.set(existentes.size());
+        importacoes.put(importacao.id, importacao);
+
+        // 2. Busca na RAWG com fan-out limitado e grava em lotes. Sem cache (jogos novos não
+        // seriam lidos de novo) e sem hedge; as falhas não abrem o circuito das buscas interativas
+        Flux.fromIterable(novos)
+                .flatMap(idExterno -> rawgApiClient.getGameByIdUncached(idExterno)
+                        .onErrorResume(e -> {
+                            importacao.falhas.incrementAndGet();
+                            return Mono.empty();
+                        }), concorrencia)
+                .map(mapper::toEntity)
+                .buffer(TAMANHO_LOTE)
+                .concatMap(lote -> Mono.fromRunnable(() -> salvarLote(lote, importacao))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .doFinally(signal -> importacao.concluir())
+                .subscribe(
+                        null,
+                        e -> log.error("Erro na importação em lote [id={}]: {}", importacao.id, e.getMessage()),
+                        () -> log.info("Importação {} concluída: {} importados, {} já existentes, {} falhas.",
+                                importacao.id, importacao.importados.get(), importacao.jaExistentes.get(), importacao.falhas.get())
+                );
+
+        return importacao.toResponse();
+    }
+
+    /**
+     * Consulta o progresso de uma importação.
+     */
+    @Override
+    public JogoImportacaoResponseDTO findById(UUID id) {
+        Importacao importacao = importacoes.get(id);
+        if (importacao == null) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+        return importacao.toResponse();
+    }
+
+    private void salvarLote(List<Jogo> lote, Importacao importacao) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAll(lote).forEach(this::publicarAlteracao);
+            });
+            importacao.importados.addAndGet(lote.size());
+        } catch (DataIntegrityViolationException e) {
+            // Algum jogo do lote foi cadastrado em paralelo: grava um a um (upsert), contando os duplicados
+            for (Jogo jogo : lote) {
+                salvarIndividual(jogo, importacao);
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar lote da importação [id={}]: {}", importacao.id, e.getMessage());
+            importacao.falhas.addAndGet(lote.size());
+        }
+    }
+
+    private void salvarIndividual(Jogo jogo, Importacao importacao) {
+        // O lote anterior sofreu rollback: descarta o ID gerado para inserir como novo
+        jogo.setId(null);
+        try {
+            Boolean inserido = transactionTemplate.execute(status -> {
+                Jogo salvo = repository.upsertByIdExterno(jogo);
+                if (!salvo.getId().equals(jogo.getId())) {
+                    return false;
+                }
+                publicarAlteracao(salvo);
+                return true;
+            });
+            if (Boolean.TRUE.equals(inserido)) {
+                importacao.importados.incrementAndGet();
+            } else {
+                importacao.jaExistentes.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar jogo da importação [id={}, idExterno={}]: {}", importacao.id, jogo.getIdExterno(), e.getMessage());
+            importacao.falhas.incrementAndGet();
+        }
+    }
+
+    private void publicarAlteracao(Jogo jogo) {
+        eventPublisher.publishEvent(new JogoAlteradoEvent(jogo.getId(), mapper.toResponse(jogo)));
+    }
+
+    /**
+     * Estado mutável (thread-safe) de uma importação em andamento.
+     */
+    private static class Importacao {
+        private final UUID id = UUID.randomUUID();
+        private final int total;
+        private final Instant inicio = Instant.now();
+        private final AtomicInteger jaExistentes = new AtomicInteger();
+        private final AtomicInteger importados = new AtomicInteger();
+        private final AtomicInteger falhas = new AtomicInteger();
+        private volatile Instant fim;
+
+        private Importacao(int total) {
+            this.total = total;
+        }
+
+        private void concluir() {
+            this.fim = Instant.now();
+        }
+
+        private JogoImportacaoResponseDTO toResponse() {
+            int existentes = jaExistentes.get();
+            int novos = importados.get();
+            int erros = falhas.get();
+            return new JogoImportacaoResponseDTO(
+                    id,
+                    fim == null ? "EM_ANDAMENTO" : "CONCLUIDA",
+                    total,
+                    existentes + novos + erros,
+                    existentes,
+                    novos,
+                    erros,
+                    inicio,
+                    fim
+            );
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoEstatisticaRepository;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingItemDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.repository.JogoRankingProjection;
+import br.com.ifba.gamelog.infrastructure.util.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Rankings dos jogos mais bem avaliados, pré-calculados e servidos da memória.
+ * <p>
+ * A nota de cada jogo é a média bayesiana {@code (soma + m * C) / (avaliacoes + m)}, em que
+ * {@code C} é a média global e {@code m} o peso da média global ({@code jogos.ranking.votos-minimos}):
+ * um jogo com poucas avaliações fica perto da média geral até acumular avaliações suficientes.
+ * </p>
+ * <p>
+ * O cálculo divide o catálogo em faixas de ID processadas em paralelo; cada faixa mantém os
+ * melhores de cada recorte (geral, gênero, ano e gênero + ano) e os parciais são combinados no final.
+ * O resultado substitui o anterior de uma vez, então as leituras nunca veem um ranking pela metade.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JogoRankingService implements IJogoRankingService {
+
+    private static final Pattern SEPARADOR_VALORES = Pattern.compile(",");
+
+    // Do melhor para o pior; empates favorecem quem tem mais avaliações
+    private static final Comparator<Pontuado> ORDEM_RANKING = Comparator
+            .comparingDouble(Pontuado::pontuacao).reversed()
+            .thenComparing(Comparator.comparingLong(Pontuado::avaliacoes).reversed())
+            .thenComparing(Pontuado::titulo, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Pontuado::id);
+
+    private final IJogoRepository repository;
+    private final IAvaliacaoEstatisticaRepository estatisticaRepository;
+    private final int tamanho;
+    private final double votosMinimos;
+    private final int particoes;
+
+    private volatile Ranking ranking = new Ranking(null, Map.of());
+
+    /**
+     * Recorte do ranking: gênero normalizado e/ou ano (nulo = todos).
+     */
+    private record Recorte(String genero, Integer ano) {}
+
+    private record Pontuado(UUID id, String titulo, String capaUrl, String genero, Integer ano,
+                            long avaliacoes, double media, double pontuacao) {}
+
+    private record Ranking(Instant atualizadoEm, Map<Recorte, List<JogoRankingItemDTO>> listas) {}
+
+    public JogoRankingService(
+            IJogoRepository repository,
+            IAvaliacaoEstatisticaRepository estatisticaRepository,
+            @Value("${jogos.ranking.size:100}") int tamanho,
+            @Value("${jogos.ranking.min-votes:10}") double votosMinimos,
+            @Value("${jogos.ranking.partitions:4}") int particoes
+    ) {
+        this.repository = repository;
+        this.estatisticaRepository = estatisticaRepository;
+        this.tamanho = tamanho;
+        this.votosMinimos = votosMinimos;
+        this.particoes = Math.max(1, particoes);
+    }
+
+    @Override
+    public JogoRankingResponseDTO buscar(String genero, Integer ano, int limite) {
+        Ranking atual = ranking;
+        String generoNormalizado = genero == null || genero.isBlank() ? null : TextNormalizer.normalizar(genero);
+        List<JogoRankingItemDTO> lista = atual.listas().getOrDefault(new Recorte(generoNormalizado, ano), List.of());
+        return new JogoRankingResponseDTO(genero, ano, atual.atualizadoEm(),
+                lista.subList(0, Math.max(0, Math.min(limite, lista.size()))));
+    }
+
+    /**
+     * Carrega os rankings na inicialização e os recalcula no intervalo configurado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${jogos.ranking.refresh-interval:PT15M}",
+            fixedDelayString = "${jogos.ranking.refresh-interval:PT15M}"
+    )
+    public void atualizar() {
+        reconstruir();
+    }
+
+    /**
+     * Recalcula todos os rankings. Execuções simultâneas (agendada e sob demanda) são serializadas.
+     */
+    @Override
+    public synchronized JogoRankingResponseDTO reconstruir() {
+        long inicio = System.nanoTime();
+        Double mediaGlobal = estatisticaRepository.calcularMediaGlobal();
+
+        Map<Recorte, PriorityQueue<Pontuado>> melhores = new HashMap<>();
+        if (mediaGlobal != null) {
+            List<Map<Recorte, PriorityQueue<Pontuado>>> parciais = Flux.fromIterable(faixas())
+                    .flatMap(faixa -> Mono.fromCallable(() -> calcularFaixa(faixa[0], faixa[1], mediaGlobal))
+                            .subscribeOn(Schedulers.boundedElastic()), particoes)
+                    .collectList()
+                    .block();
+            parciais.forEach(parcial -> parcial.forEach((recorte, fila) -> fila.forEach(p -> oferecer(melhores, recorte, p))));
+        }
+
+        Map<Recorte, List<JogoRankingItemDTO>> listas = new HashMap<>(melhores.size());
+        melhores.forEach((recorte, fila) -> {
+            List<Pontuado> ordenados = new ArrayList<>(fila);
+            ordenados.sort(ORDEM_RANKING);
+            List<JogoRankingItemDTO> itens = new ArrayList<>(ordenados.size());
+            for (Pontuado p : ordenados) {
+                itens.add(new JogoRankingItemDTO(itens.size() + 1, p.id(), p.titulo(), p.capaUrl(), p.ano(),
+                        p.genero(), p.avaliacoes(), p.media(), p.pontuacao()));
+            }
+            listas.put(recorte, List.copyOf(itens));
+        });
+
+        ranking = new Ranking(Instant.now(), listas);
+        log.info("Rankings de jogos recalculados: {} recortes em {} ms.", listas.size(), (System.nanoTime() - inicio) / 1_000_000);
+        return buscar(null, null, tamanho);
+    }
+
+    /**
+     * Divide o espaço de UUIDs em faixas contíguas e disjuntas (pelos 64 bits mais significativos,
+     * sem sinal, que é a ordem de comparação de UUIDs no banco).
+     */
+    private List<UUID[]> faixas() {
+        long passo = Long.divideUnsigned(-1L, particoes) + 1;
+        List<UUID[]> faixas = new ArrayList<>(particoes);
+        for (int i = 0; i < particoes; i++) {
+            long inicio = i * passo;
+            long fim = i == particoes - 1 ? -1L : (i + 1) * passo - 1;
+            faixas.add(new UUID[]{new UUID(inicio, 0L), new UUID(fim, -1L)});
+        }
+        return faixas;
+    }
+
+    private Map<Recorte, PriorityQueue<Pontuado>> calcularFaixa(UUID inicio, UUID fim, double mediaGlobal) {
+        Map<Recorte, PriorityQueue<Pontuado>> melhores = new HashMap<>();
+        for (JogoRankingProjection jogo : repository.findParaRanking(inicio, fim)) {
+            long avaliacoes = jogo.getTotal();
+            double pontuacao = (jogo.getSoma() + votosMinimos * mediaGlobal) / (avaliacoes + votosMinimos);
+            Pontuado pontuado = new Pontuado(jogo.getJogoId(), jogo.getTitulo(), jogo.getCapaUrl(), jogo.getGenero(),
+                    jogo.getAnoLancamento(), avaliacoes, (double) jogo.getSoma() / avaliacoes, pontuacao);
+
+            Set<String> generos = new HashSet<>();
+            if (jogo.getGenero() != null) {
+                for (String genero : SEPARADOR_VALORES.split(jogo.getGenero())) {
+                    String normalizado = TextNormalizer.normalizar(genero);
+                    if (!normalizado.isEmpty()) generos.add(normalizado);
+                }
+            }
+
+            oferecer(melhores, new Recorte(null, null), pontuado);
+            generos.forEach(genero -> oferecer(melhores, new Recorte(genero, null), pontuado));
+            if (jogo.getAnoLancamento() != null) {
+                oferecer(melhores, new Recorte(null, jogo.getAnoLancamento()), pontuado);
+                generos.forEach(genero -> oferecer(melhores, new Recorte(genero, jogo.getAnoLancamento()), pontuado));
+            }
+        }
+        return melhores;
+    }
+
+    /**
+     * Mantém os N melhores de cada recorte em um heap cujo topo é o pior deles.
+     */
+    private void oferecer(Map<Recorte, PriorityQueue<Pontuado>> melhores, Recorte recorte, Pontuado pontuado) {
+        PriorityQueue<Pontuado> fila = melhores.computeIfAbsent(recorte, r -> new PriorityQueue<>(ORDEM_RANKING.reversed()));
+        fila.add(pontuado);
+        if (fila.size() > tamanho) {
+            fila.poll();
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package br.com.ifba.gamelog.features.jogo.service;
 
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.service.IAvaliacaoEstatisticaService;
+import br.com.ifba.gamelog.features.biblioteca.service.IBibliotecaResumoService;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.jogo.dto.request.JogoCriarRequestDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoFiltroResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingResponseDTO;
 import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
 import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.search.JogoAutocompleteIndex;
+import br.com.ifba.gamelog.features.jogo.search.JogoFacetIndex;
+import br.com.ifba.gamelog.features.jogo.search.JogoSearchIndex;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Serviço responsável pelas regras de negócio de Jogos.
@@ -30,28 +49,34 @@ public class JogoService implements IJogoService {
 
     private final IJogoRepository repository;
     private final JogoMapper mapper;
+    private final JogoSearchIndex searchIndex;
+    private final JogoFacetIndex facetIndex;
+    private final JogoAutocompleteIndex autocompleteIndex;
+    private final IAvaliacaoEstatisticaService estatisticaService;
+    private final IJogoRankingService rankingService;
+    private final IJogoTendenciaService tendenciaService;
+    private final IBibliotecaResumoService bibliotecaResumoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * Cadastra um novo jogo no banco de dados.
-     * Verifica se o ID Externo já existe para evitar duplicatas.
+     * Se o ID Externo já existir, retorna o jogo já cadastrado (operação idempotente).
      */
     @Override
     @Transactional
     public JogoResponseDTO save(JogoCriarRequestDTO dto) {
-        // 1. VERIFICA SE JÁ EXISTE PELO ID EXTERNO
-        if (dto.idExterno() != null) {
-            var jogoExistente = repository.findByIdExterno(dto.idExterno());
-
-            // SE JÁ EXISTE: Não dá erro! Retorna o jogo que já estava lá.
-            if (jogoExistente.isPresent()) {
-                return mapper.toResponse(jogoExistente.get());
-            }
-        }
-
-        // 2. SE NÃO EXISTE: Cria um novo normalmente
         Jogo entity = mapper.toEntity(dto);
-        Jogo savedEntity = repository.save(entity);
-        return mapper.toResponse(savedEntity);
+
+        // Um único comando (INSERT ... ON CONFLICT): seguro mesmo com cadastros simultâneos
+        Jogo savedEntity = repository.upsertByIdExterno(entity);
+        JogoResponseDTO response = mapper.toResponse(savedEntity);
+
+        // Mesmo ID gerado = inserido agora; outro ID = já existia
+        if (savedEntity.getId().equals(entity.getId())) {
+            eventPublisher.publishEvent(new JogoAlteradoEvent(response.id(), response));
+        }
+        return response;
     }
 
     /**
@@ -65,6 +90,20 @@ public class JogoService implements IJogoService {
                 .toList();
     }
 
+    /**
+     * Percorre todos os jogos entregando um DTO por vez ao consumidor (modo NDJSON).
+     * O contexto de persistência é limpo periodicamente, então o uso de memória
+     * não cresce com o tamanho da tabela.
+     *
+     * @param consumidor Recebe cada DTO assim que a linha é lida do banco.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<JogoResponseDTO> consumidor) {
+        EntityStreams.forEach(repository.streamAll(), entityManager,
+                jogo -> consumidor.accept(mapper.toResponse(jogo)));
+    }
+
     /**
      * Lista jogos com paginação.
      */
@@ -75,6 +114,46 @@ public class JogoService implements IJogoService {
                 .map(mapper::toResponse);
     }
 
+    /**
+     * Lista jogos com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JogoResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<Jogo> window = repository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), Jogo.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
+    /**
+     * Busca ranqueada no catálogo local (título, gênero e plataformas).
+     * Atendida pelo índice em memória, sem consultar o banco.
+     */
+    @Override
+    public Page<JogoResponseDTO> search(String consulta, Pageable pageable) {
+        return searchIndex.buscar(consulta, pageable);
+    }
+
+    /**
+     * Navegação por facetas (gênero, plataforma e ano).
+     * Atendida pelo índice de bitmaps em memória, sem consultar o banco.
+     */
+    @Override
+    public JogoFiltroResponseDTO filter(List<String> generos, List<String> plataformas, List<Integer> anos, Pageable pageable) {
+        return facetIndex.filtrar(generos, plataformas, anos, pageable);
+    }
+
+    /**
+     * Sugestões de títulos para o autocomplete (busca enquanto digita).
+     * Atendida pela trie em memória, sem consultar o banco.
+     */
+    @Override
+    public List<JogoResponseDTO> autocomplete(String prefixo, int limite) {
+        return autocompleteIndex.sugerir(prefixo, limite);
+    }
+
     /**
      * Busca um jogo por ID.
      */
@@ -102,7 +181,44 @@ public class JogoService implements IJogoService {
         // Adicione outros campos conforme necessário (genero, desenvolvedor, etc.)
 
         Jogo updatedEntity = repository.save(entity);
-        return mapper.toResponse(updatedEntity);
+        JogoResponseDTO response = mapper.toResponse(updatedEntity);
+        eventPublisher.publishEvent(new JogoAlteradoEvent(response.id(), response));
+        return response;
+    }
+
+    /**
+     * Quantidade, média e histograma das notas do jogo.
+     * Lê o resumo mantido a cada avaliação, sem percorrer as avaliações.
+     */
+    @Override
+    public AvaliacaoEstatisticasResponseDTO findEstatisticas(UUID id) {
+        return estatisticaService.findByJogo(id);
+    }
+
+    /**
+     * Jogos mais bem avaliados (média bayesiana), geral ou por gênero/ano.
+     * Servido pelo ranking pré-calculado em memória, sem consultar o banco.
+     */
+    @Override
+    public JogoRankingResponseDTO ranking(String genero, Integer ano, int limite) {
+        return rankingService.buscar(genero, ano, limite);
+    }
+
+    /**
+     * Jogos em alta pela atividade recente (avaliações, bibliotecas e visualizações).
+     * Servido pelos contadores já agregados, sem consultar avaliações e bibliotecas.
+     */
+    @Override
+    public JogoTendenciaResponseDTO tendencias(int limite) {
+        return tendenciaService.buscar(limite);
+    }
+
+    /**
+     * Conta uma visualização da página do jogo (somente em memória, gravada em lote depois).
+     */
+    @Override
+    public void registrarVisualizacao(UUID id) {
+        tendenciaService.registrar(id, JogoAtividadeTipo.VISUALIZACAO);
     }
 
     /**
@@ -116,7 +232,11 @@ public class JogoService implements IJogoService {
         }
         // Poderia adicionar validação aqui: "Se o jogo estiver em bibliotecas, não delete"
         // Mas por enquanto, segue a exclusão padrão.
+        // Os itens de biblioteca saem em cascata: desconta dos resumos dos usuários antes de excluí-los.
+        bibliotecaResumoService.removerJogo(id);
         repository.deleteById(id);
+        estatisticaService.remover(id);
+        eventPublisher.publishEvent(new JogoAlteradoEvent(id, null));
         return id;
     }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.client.RawgApiClient;
+import br.com.ifba.gamelog.features.jogo.client.RawgGameDetailResponse;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sincronização periódica dos metadados do catálogo com a RAWG (capa, descrição, ano...).
+ * <p>
+ * A cada execução pega o lote de jogos com {@code updatedAt} mais antigo e busca os detalhes
+ * na RAWG respeitando um orçamento de requisições por segundo. As chamadas são sequenciais,
+ * espaçadas e não passam pelo cache, então não disputam com as buscas dos usuários.
+ * Apenas os campos alterados são gravados; os jogos sem mudança só têm o {@code updatedAt}
+ * avançado (um único UPDATE), para que a próxima execução siga para o próximo lote.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JogoSincronizacaoService implements IJogoSincronizacaoService {
+
+    private final IJogoRepository repository;
+    private final RawgApiClient rawgApiClient;
+    private final JogoMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean habilitada;
+    private final Duration intervaloEntreRequisicoes;
+    private final int tamanhoLote;
+    private final Duration idadeMinima;
+
+    // Evita execuções sobrepostas (o processamento é assíncrono)
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+
+    public JogoSincronizacaoService(
+            IJogoRepository repository,
+            RawgApiClient rawgApiClient,
+            JogoMapper mapper,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${rawg.api.refresh.enabled:true}") boolean habilitada,
+            @Value("${rawg.api.refresh.requests-per-second:1}") double requisicoesPorSegundo,
+            @Value("${rawg.api.refresh.batch-size:100}") int tamanhoLote,
+            @Value("${rawg.api.refresh.min-age:P7D}") Duration idadeMinima
+    ) {
+        this.repository = repository;
+        this.rawgApiClient = rawgApiClient;
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.habilitada = habilitada;
+        this.intervaloEntreRequisicoes = Duration.ofNanos((long) (1_000_000_000L / requisicoesPorSegundo));
+        this.tamanhoLote = tamanhoLote;
+        this.idadeMinima = idadeMinima;
+    }
+
+    /**
+     * Dispara a sincronização do próximo lote e retorna imediatamente;
+     * as chamadas à RAWG e a gravação seguem em segundo plano.
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${rawg.api.refresh.initial-delay:PT5M}",
+            fixedDelayString = "${rawg.api.refresh.interval:PT15M}"
+    )
+    public void sincronizar() {
+        if (!habilitada || !emExecucao.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Jogo> lote;
+        try {
+            lote = repository.findDesatualizados(Instant.now().minus(idadeMinima), Limit.of(tamanhoLote));
+        } catch (RuntimeException e) {
+            log.error("Erro ao buscar jogos para sincronização: {}", e.getMessage());
+            emExecucao.set(false);
+            return;
+        }
+        if (lote.isEmpty()) {
+            emExecucao.set(false);
+            return;
+        }
+
+        Map<Long, RawgGameDetailResponse> detalhes = new ConcurrentHashMap<>();
+
+        // Uma requisição por vez, cada uma aguardando o intervalo do orçamento (requisições/segundo)
+        Flux.fromIterable(lote)
+                .concatMap(jogo -> Mono.delay(intervaloEntreRequisicoes)
+                        .then(rawgApiClient.getGameByIdUncached(jogo.getIdExterno()))
+                        .doOnNext(detalhe -> detalhes.put(jogo.getIdExterno(), detalhe))
+                        .onErrorResume(e -> Mono.empty()))
+                .then(Mono.fromRunnable(() -> salvar(lote, detalhes))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .doFinally(signal -> emExecucao.set(false))
+                .subscribe(
+                        null,
+                        e -> log.error("Erro na sincronização do catálogo com a RAWG: {}", e.getMessage())
+                );
+    }
+
+    private void salvar(List<Jogo> lote, Map<Long, RawgGameDetailResponse> detalhes) {
+        if (detalhes.isEmpty()) {
+            // RAWG indisponível: mantém o lote para a próxima execução
+            log.warn("Sincronização com a RAWG sem respostas para {} jogos; lote mantido.", lote.size());
+            return;
+        }
+
+        List<UUID> ids = lote.stream().map(Jogo::getId).toList();
+        Integer alterados = transactionTemplate.execute(status -> {
+            List<UUID> inalterados = new ArrayList<>();
+            int quantidade = 0;
+
+            for (Jogo jogo : repository.findAllById(ids)) {
+                RawgGameDetailResponse detalhe = detalhes.get(jogo.getIdExterno());
+                if (detalhe != null && aplicarAlteracoes(jogo, mapper.toEntity(detalhe))) {
+                    // Gravado no commit (UPDATE em lote, apenas com as colunas alteradas)
+                    eventPublisher.publishEvent(new JogoAlteradoEvent(jogo.getId(), mapper.toResponse(jogo)));
+                    quantidade++;
+                } else {
+                    // Sem mudança (ou falha na RAWG): só avança na fila de sincronização
+                    inalterados.add(jogo.getId());
+                }
+            }
+
+            if (!inalterados.isEmpty()) {
+                repository.marcarSincronizados(inalterados, Instant.now());
+            }
+            return quantidade;
+        });
+
+        log.info("Sincronização com a RAWG: {} jogos verificados, {} atualizados.", lote.size(), alterados);
+    }
+
+    /**
+     * Copia para o jogo apenas os campos que mudaram na RAWG. Valores vazios da RAWG
+     * não apagam os dados existentes.
+     *
+     * @return {@code true} se algum campo foi alterado.
+     */
+    private boolean aplicarAlteracoes(Jogo jogo, Jogo rawg) {
+        boolean alterado = atualizar(jogo::getTitulo, jogo::setTitulo, rawg.getTitulo());
+        alterado |= atualizar(jogo::getCapaUrl, jogo::setCapaUrl, rawg.getCapaUrl());
+        alterado |= atualizar(jogo::getDescricao, jogo::setDescricao, rawg.getDescricao());
+        alterado |= atualizar(jogo::getAnoLancamento, jogo::setAnoLancamento, rawg.getAnoLancamento());
+        alterado |= atualizar(jogo::getPlataformas, jogo::setPlataformas, rawg.getPlataformas());
+        alterado |= atualizar(jogo::getGenero, jogo::setGenero, rawg.getGenero());
+        return alterado;
+    }
+
+    private static <T> boolean atualizar(Supplier<T> atual, Consumer<T> setter, T novo) {
+        if (novo == null || (novo instanceof String texto && StringUtils.isBlank(texto)) || Objects.equals(atual.get(), novo)) {
+            return false;
+        }
+        setter.accept(novo);
+        return true;
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaItemDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividade;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoAtividadeRepository;
+import br.com.ifba.gamelog.features.jogo.repository.JogoTendenciaProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jogos em alta, a partir da atividade recente: avaliações, inclusões em bibliotecas e
+ * visualizações da página do jogo.
+ * <p>
+ * Cada atividade incrementa um contador em memória da janela de tempo atual. Os contadores são
+ * {@link LongAdder} (células separadas por thread sob disputa) em mapas concorrentes, então
+ * requisições simultâneas não disputam um bloqueio nem a mesma variável.
+ * </p>
+ * <p>
+ * Periodicamente as contagens acumuladas são gravadas em lote na tabela {@code jogo_atividades}
+ * (e também no encerramento da aplicação) e os jogos em alta são recalculados somando as janelas
+ * do período. A consulta lê apenas essa tabela, nunca as tabelas de avaliações e bibliotecas.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class JogoTendenciaService implements IJogoTendenciaService {
+
+    private static final long PESO_AVALIACAO = 3;
+    private static final long PESO_BIBLIOTECA = 2;
+    private static final long PESO_VISUALIZACAO = 1;
+
+    private final IJogoAtividadeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long duracaoJanela;
+    private final long janelasNoPeriodo;
+    private final int tamanho;
+
+    // Janela (início em milissegundos / duração) -> contadores por jogo
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<UUID, Contadores>> janelas = new ConcurrentHashMap<>();
+
+    private volatile JogoTendenciaResponseDTO tendencias = new JogoTendenciaResponseDTO(null, null, List.of());
+
+    /**
+     * Contagens não gravadas de um jogo em uma janela, uma por tipo de atividade.
+     */
+    private static final class Contadores {
+        private final LongAdder[] porTipo = new LongAdder[JogoAtividadeTipo.values().length];
+
+        private Contadores() {
+            for (int i = 0; i < porTipo.length; i++) {
+                porTipo[i] = new LongAdder();
+            }
+        }
+
+        private long drenar(JogoAtividadeTipo tipo) {
+            return porTipo[tipo.ordinal()].sumThenReset();
+        }
+    }
+
+    public JogoTendenciaService(
+            IJogoAtividadeRepository repository,
+            TransactionTemplate transactionTemplate,
+            @Value("${jogos.trending.bucket:PT1H}") Duration janela,
+            @Value("${jogos.trending.period:PT24H}") Duration periodo,
+            @Value("${jogos.trending.size:50}") int tamanho
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.duracaoJanela = janela.toMillis();
+        this.janelasNoPeriodo = Math.max(1, periodo.toMillis() / duracaoJanela);
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public void registrar(UUID jogoId, JogoAtividadeTipo tipo) {
+        if (jogoId == null) {
+            return;
+        }
+        long janela = janelaAtual();
+        // get antes do computeIfAbsent: o caminho comum (janela e jogo já presentes) não bloqueia nada
+        ConcurrentHashMap<UUID, Contadores> contadores = janelas.get(janela);
+        if (contadores == null) {
+            contadores = janelas.computeIfAbsent(janela, j -> new ConcurrentHashMap<>());
+        }
+        Contadores doJogo = contadores.get(jogoId);
+        if (doJogo == null) {
+            doJogo = contadores.computeIfAbsent(jogoId, id -> new Contadores());
+        }
+        doJogo.porTipo[tipo.ordinal()].increment();
+    }
+
+    @Override
+    public JogoTendenciaResponseDTO buscar(int limite) {
+        JogoTendenciaResponseDTO atual = tendencias;
+        List<JogoTendenciaItemDTO> jogos = atual.jogos();
+        return new JogoTendenciaResponseDTO(atual.desde(), atual.atualizadoEm(),
+                jogos.subList(0, Math.max(0, Math.min(limite, jogos.size()))));
+    }
+
+    /**
+     * Carrega os jogos em alta gravados antes da inicialização.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        recalcular(inicioDoPeriodo(janelaAtual()));
+    }
+
+    /**
+     * Grava as contagens em lote, remove as janelas fora do período e recalcula os jogos em alta.
+     * Se a gravação falhar, as contagens voltam aos contadores e entram na próxima descarga.
+     */
+    @Override
+    @PreDestroy
+    @Scheduled(
+            initialDelayString = "${jogos.trending.flush-interval:PT1M}",
+            fixedDelayString = "${jogos.trending.flush-interval:PT1M}"
+    )
+    public synchronized void descarregar() {
+        long atual = janelaAtual();
+        List<JogoAtividade> variacoes = new ArrayList<>();
+
+        Iterator<Map.Entry<Long, ConcurrentHashMap<UUID, Contadores>>> iterator = janelas.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, ConcurrentHashMap<UUID, Contadores>> janela = iterator.next();
+            // Encerrada há mais de uma janela: não recebe mais incrementos, sai do mapa após esta descarga
+            if (janela.getKey() < atual - 1) {
+                iterator.remove();
+            }
+            Instant inicio = Instant.ofEpochMilli(janela.getKey() * duracaoJanela);
+            janela.getValue().forEach((jogoId, contadores) -> {
+                long avaliacoes = contadores.drenar(JogoAtividadeTipo.AVALIACAO);
+                long bibliotecas = contadores.drenar(JogoAtividadeTipo.BIBLIOTECA);
+                long visualizacoes = contadores.drenar(JogoAtividadeTipo.VISUALIZACAO);
+                if (avaliacoes != 0 || bibliotecas != 0 || visualizacoes != 0) {
+                    variacoes.add(new JogoAtividade(jogoId, inicio, avaliacoes, bibliotecas, visualizacoes));
+                }
+            });
+        }
+
+        Instant desde = inicioDoPeriodo(atual);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.somar(variacoes);
+                repository.deleteAnteriores(desde);
+            });
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar a atividade dos jogos ({} contagens serão reenviadas): {}", variacoes.size(), e.getMessage());
+            variacoes.forEach(this::devolver);
+            return;
+        }
+        recalcular(desde);
+    }
+
+    private void recalcular(Instant desde) {
+        List<JogoTendenciaProjection> somas = repository.somarDesde(desde);
+
+        List<JogoTendenciaItemDTO> ordenados = new ArrayList<>(somas.size());
+        for (JogoTendenciaProjection soma : somas) {
+            long pontuacao = soma.getAvaliacoes() * PESO_AVALIACAO
+                    + soma.getBibliotecas() * PESO_BIBLIOTECA
+                    + soma.getVisualizacoes() * PESO_VISUALIZACAO;
+            ordenados.add(new JogoTendenciaItemDTO(0, soma.getJogoId(), soma.getTitulo(), soma.getCapaUrl(),
+                    soma.getAvaliacoes(), soma.getBibliotecas(), soma.getVisualizacoes(), pontuacao));
+        }
+        ordenados.sort(Comparator.comparingLong(JogoTendenciaItemDTO::pontuacao).reversed()
+                .thenComparing(JogoTendenciaItemDTO::id));
+
+        List<JogoTendenciaItemDTO> jogos = new ArrayList<>(Math.min(tamanho, ordenados.size()));
+        for (JogoTendenciaItemDTO item : ordenados.subList(0, Math.min(tamanho, ordenados.size()))) {
+            jogos.add(new JogoTendenciaItemDTO(jogos.size() + 1, item.id(), item.titulo(), item.capaUrl(),
+                    item.avaliacoes(), item.bibliotecas(), item.visualizacoes(), item.pontuacao()));
+        }
+        tendencias = new JogoTendenciaResponseDTO(desde, Instant.now(), List.copyOf(jogos));
+    }
+
+    private void devolver(JogoAtividade variacao) {
+        Contadores contadores = janelas
+                .computeIfAbsent(variacao.getInicio().toEpochMilli() / duracaoJanela, j -> new ConcurrentHashMap<>())
+                .computeIfAbsent(variacao.getJogoId(), id -> new Contadores());
+        contadores.porTipo[JogoAtividadeTipo.AVALIACAO.ordinal()].add(variacao.getAvaliacoes());
+        contadores.porTipo[JogoAtividadeTipo.BIBLIOTECA.ordinal()].add(variacao.getBibliotecas());
+        contadores.porTipo[JogoAtividadeTipo.VISUALIZACAO.ordinal()].add(variacao.getVisualizacoes());
+    }
+
+    private long janelaAtual() {
+        return Math.floorDiv(System.currentTimeMillis(), duracaoJanela);
+    }
+
+    /**
+     * Início da janela mais antiga do período (o período inclui a janela atual).
+     */
+    private Instant inicioDoPeriodo(long janelaAtual) {
+        return Instant.ofEpochMilli((janelaAtual - janelasNoPeriodo + 1) * duracaoJanela);
+    }
+}
@@ -1,12 +1,20 @@
 package br.com.ifba.gamelog.features.lista.controller;
 
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemMoverRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaItemResponseDTO;
 import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResponseDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
 import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaRetornarIdResponseDTO;
+import br.com.ifba.gamelog.features.lista.model.ListaPublicaOrdem;
 import br.com.ifba.gamelog.features.lista.service.IListaPersonalizadaService;
+import br.com.ifba.gamelog.features.lista.service.IListaPublicaService;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -25,6 +33,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -46,6 +55,8 @@ import java.util.UUID;
 public class ListaPersonalizadaController {
 
     private final IListaPersonalizadaService listaService;
+    private final IListaPublicaService listaPublicaService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Cria uma nova lista personalizada.
@@ -82,6 +93,24 @@ public class ListaPersonalizadaController {
         return ResponseEntity.ok(listaService.findAll());
     }
 
+    /**
+     * Recupera todas as listas em streaming (NDJSON): um objeto JSON por linha,
+     * escrito à medida que é lido do banco. Selecionado com {@code Accept: application/x-ndjson}.
+     *
+     * @return Corpo escrito de forma incremental.
+     */
+    @Operation(summary = "Listar Tudo (Streaming NDJSON)", description = "Mesmo conteúdo da listagem completa, enviado como NDJSON (um objeto por linha) à medida que é lido do banco. Envie o header Accept: application/x-ndjson.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming iniciado com sucesso.",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ListaPersonalizadaResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.<ListaPersonalizadaResponseDTO>write(listaService::streamAll));
+    }
+
     /**
      * Recupera todas as listas cadastradas no sistema com paginação.
      *
@@ -99,6 +128,71 @@ public class ListaPersonalizadaController {
         return ResponseEntity.ok(listaService.findAllPaged(pageable));
     }
 
+    /**
+     * Recupera listas com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<ListaPersonalizadaResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            @PageableDefault(size = 10, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(listaService.findAllByCursor(cursor, pageable));
+    }
+
+    /**
+     * Feed de listas públicas, paginado por cursor.
+     *
+     * @param ordem    Mais recentes ou mais visualizadas.
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior (vazio na primeira).
+     * @param pageable Tamanho da página (número e ordenação são ignorados).
+     * @return Página de resumos com o cursor da próxima.
+     */
+    @Operation(summary = "Feed de Listas Públicas", description = "Listas públicas em forma de resumo (quantidade de jogos e capas), ordenadas por RECENTES ou POPULARES (visualizações, ranking atualizado periodicamente). Até 50 por página. Paginação por cursor: envie o 'nextCursor' recebido para a próxima página. A primeira página é servida de cache por alguns segundos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/publicas", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<ListaPersonalizadaResumoResponseDTO>> findPublicas(
+            @RequestParam(defaultValue = "RECENTES") ListaPublicaOrdem ordem,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(listaPublicaService.findPublicas(ordem, cursor, pageable.getPageSize()));
+    }
+
+    /**
+     * Listas públicas que contêm um jogo, paginadas por cursor.
+     *
+     * @param jogoId   UUID do jogo.
+     * @param ordem    Mais recentes ou mais visualizadas.
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior (vazio na primeira).
+     * @param pageable Tamanho da página (número e ordenação são ignorados).
+     * @return Página de resumos com o cursor da próxima.
+     */
+    @Operation(summary = "Listas Públicas com o Jogo", description = "Listas públicas que contêm o jogo, em forma de resumo, ordenadas por RECENTES ou POPULARES. Paginação por cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos."),
+            @ApiResponse(responseCode = "404", description = "Jogo não encontrado.")
+    })
+    @GetMapping(value = "/publicas/jogo/{jogoId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<ListaPersonalizadaResumoResponseDTO>> findPublicasByJogo(
+            @PathVariable UUID jogoId,
+            @RequestParam(defaultValue = "RECENTES") ListaPublicaOrdem ordem,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(listaPublicaService.findPublicasByJogo(jogoId, ordem, cursor, pageable.getPageSize()));
+    }
+
     /**
      * Recupera os detalhes de uma lista específica.
      *
@@ -131,6 +225,26 @@ public class ListaPersonalizadaController {
         return ResponseEntity.ok(listaService.findByUsuario(usuarioId));
     }
 
+    /**
+     * Recupera as listas de um usuário em forma de resumo (para telas de listagem).
+     * Ativado por {@code ?modo=resumo}; os jogos completos ficam para a abertura da lista.
+     *
+     * @param usuarioId UUID do usuário.
+     * @param capas     Quantidade de capas por lista.
+     * @return Resumos das listas desse usuário.
+     */
+    @Operation(summary = "Listas do Usuário (Resumo)", description = "Com ?modo=resumo, retorna nome, visibilidade, quantidade de jogos e as primeiras capas (parâmetro 'capas', padrão 4, máximo 12) de cada lista, sem os dados completos dos jogos. Use GET /lista/{id} para abrir uma lista.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumos recuperados com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
+    })
+    @GetMapping(value = "/usuario/{usuarioId}", params = "modo=resumo", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ListaPersonalizadaResumoResponseDTO>> findResumosByUsuario(
+            @PathVariable UUID usuarioId,
+            @RequestParam(defaultValue = "4") int capas) {
+        return ResponseEntity.ok(listaService.findResumosByUsuario(usuarioId, capas));
+    }
+
     /**
      * Atualiza uma lista existente.
      *
@@ -160,6 +274,70 @@ public class ListaPersonalizadaController {
         return ResponseEntity.ok(listaService.update(dto));
     }
 
+    /**
+     * Adiciona um jogo à lista, no fim ou antes de outro jogo.
+     *
+     * @param id     UUID da lista.
+     * @param dto    Jogo a adicionar e a posição desejada.
+     * @param result Validação.
+     * @return Item criado com a sua posição.
+     */
+    @Operation(summary = "Adicionar Jogo à Lista", description = "Adiciona um jogo à lista. Informe 'antesDeJogoId' para inserir antes de um jogo da lista; sem ele, o jogo entra no fim. Os demais itens não são alterados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Jogo adicionado com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Lista ou jogo não encontrado."),
+            @ApiResponse(responseCode = "422", description = "Erro de validação ou jogo já presente na lista.")
+    })
+    @PostMapping(value = "/lista/{id}/jogos", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> adicionarJogo(
+            @PathVariable UUID id,
+            @RequestBody @Valid ListaItemAdicionarRequestDTO dto,
+            BindingResult result) {
+
+        if (result.hasErrors()) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ResultError.getResultErrors(result));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(listaService.adicionarJogo(id, dto));
+    }
+
+    /**
+     * Move um jogo para outra posição da lista.
+     *
+     * @param id     UUID da lista.
+     * @param jogoId UUID do jogo movido.
+     * @param dto    Jogo que ficará logo depois do item.
+     * @return Item com a nova posição.
+     */
+    @Operation(summary = "Mover Jogo na Lista", description = "Move um jogo para antes de 'antesDeJogoId' (ou para o fim, se ausente). Apenas a linha do item movido é alterada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogo movido com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Lista ou jogo não encontrado na lista.")
+    })
+    @PutMapping(value = "/lista/{id}/jogos/{jogoId}/posicao", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ListaItemResponseDTO> moverJogo(
+            @PathVariable UUID id,
+            @PathVariable UUID jogoId,
+            @RequestBody ListaItemMoverRequestDTO dto) {
+        return ResponseEntity.ok(listaService.moverJogo(id, jogoId, dto));
+    }
+
+    /**
+     * Remove um jogo da lista.
+     *
+     * @param id     UUID da lista.
+     * @param jogoId UUID do jogo removido.
+     * @return Identificação do item removido.
+     */
+    @Operation(summary = "Remover Jogo da Lista", description = "Remove um jogo da lista; os demais itens mantêm as suas posições.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogo removido com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Jogo não encontrado na lista.")
+    })
+    @DeleteMapping(value = "/lista/{id}/jogos/{jogoId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ListaItemResponseDTO> removerJogo(@PathVariable UUID id, @PathVariable UUID jogoId) {
+        return ResponseEntity.ok(listaService.removerJogo(id, jogoId));
+    }
+
     /**
      * Remove uma lista do sistema.
      *
@@ -0,0 +1,13 @@
+package br.com.ifba.gamelog.features.lista.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record ListaItemAdicionarRequestDTO(
+        @NotNull(message = "O ID do jogo é obrigatório")
+        UUID jogoId,
+
+        // Opcional: jogo da lista que ficará logo depois do novo item. Se ausente, entra no fim.
+        UUID antesDeJogoId
+) {}
@@ -0,0 +1,8 @@
+package br.com.ifba.gamelog.features.lista.dto.request;
+
+import java.util.UUID;
+
+public record ListaItemMoverRequestDTO(
+        // Jogo da lista que ficará logo depois do item movido. Se ausente, o item vai para o fim.
+        UUID antesDeJogoId
+) {}
@@ -0,0 +1,18 @@
+package br.com.ifba.gamelog.features.lista.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ListaItemResponseDTO(
+        @JsonProperty("listaId")
+        UUID listaId,
+
+        @JsonProperty("jogoId")
+        UUID jogoId,
+
+        @JsonProperty("posicao")
+        Long posicao
+) {}
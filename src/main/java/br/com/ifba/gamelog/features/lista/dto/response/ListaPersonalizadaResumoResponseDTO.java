@@ -0,0 +1,26 @@
+package br.com.ifba.gamelog.features.lista.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ListaPersonalizadaResumoResponseDTO(
+        @JsonProperty("id")
+        UUID id,
+
+        @JsonProperty("nome")
+        String nome,
+
+        @JsonProperty("publica")
+        boolean publica,
+
+        @JsonProperty("usuarioId")
+        UUID usuarioId,
+
+        @JsonProperty("totalJogos")
+        long totalJogos,
+
+        @JsonProperty("capas")
+        List<String> capas
+) {}
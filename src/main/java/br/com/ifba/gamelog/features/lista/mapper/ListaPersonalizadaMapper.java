@@ -4,13 +4,20 @@ import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
 import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResponseDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.features.lista.model.ItemLista;
 import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.features.lista.repository.ListaResumoLinhaProjection;
 import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -25,10 +32,11 @@ public class ListaPersonalizadaMapper {
     public ListaPersonalizadaResponseDTO toResponse(ListaPersonalizada entity) {
         if (entity == null) return null;
 
-        // Usa o JogoMapper para converter cada jogo da lista.
+        // Usa o JogoMapper para converter cada jogo da lista, na ordem das posições.
         // Isso evita erros de reflexão, pois o JogoMapper já sabe instanciar o Record JogoResponseDTO.
-        List<JogoResponseDTO> jogosDTO = entity.getJogos() == null ? Collections.emptyList() :
-                entity.getJogos().stream()
+        List<JogoResponseDTO> jogosDTO = entity.getItens() == null ? Collections.emptyList() :
+                entity.getItens().stream()
+                        .map(ItemLista::getJogo)
                         .map(jogoMapper::toResponse)
                         .toList();
 
@@ -41,6 +49,23 @@ public class ListaPersonalizadaMapper {
         );
     }
 
+    /**
+     * Junta as linhas da consulta de resumo (uma por capa) em um resumo por lista,
+     * mantendo a ordem em que as listas chegam.
+     */
+    public Map<UUID, ListaPersonalizadaResumoResponseDTO> toResumos(List<ListaResumoLinhaProjection> linhas) {
+        Map<UUID, ListaPersonalizadaResumoResponseDTO> resumos = new LinkedHashMap<>();
+        for (ListaResumoLinhaProjection linha : linhas) {
+            ListaPersonalizadaResumoResponseDTO resumo = resumos.computeIfAbsent(linha.getId(), id ->
+                    new ListaPersonalizadaResumoResponseDTO(id, linha.getNome(), linha.isPublica(), linha.getUsuarioId(),
+                            linha.getTotalJogos(), new ArrayList<>()));
+            if (linha.getCapaUrl() != null) {
+                resumo.capas().add(linha.getCapaUrl());
+            }
+        }
+        return resumos;
+    }
+
     /**
      * Converte o DTO de criação para a Entidade.
      * Mapeia os dados simples (nome, publica).
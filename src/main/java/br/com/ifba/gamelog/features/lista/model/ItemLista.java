@@ -0,0 +1,65 @@
+package br.com.ifba.gamelog.features.lista.model;
+
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Jogo dentro de uma lista personalizada, com a sua posição.
+ * <p>
+ * A posição é um rank com intervalos ({@link #INTERVALO}) entre itens vizinhos: inserir ou mover
+ * um jogo calcula um valor entre os vizinhos e altera apenas a linha do próprio item. Só quando
+ * não há espaço entre dois vizinhos a lista é renumerada. Empates (linhas anteriores à coluna
+ * de posição) são desfeitos pelo ID do jogo.
+ * </p>
+ */
+@Entity
+@Table(name = "itens_lista", indexes = {
+        @Index(name = "idx_itens_lista_posicao", columnList = "lista_id, posicao, jogo_id"),
+        @Index(name = "idx_itens_lista_jogo", columnList = "jogo_id")
+})
+@IdClass(ItemLista.Chave.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemLista {
+
+    /**
+     * Distância entre posições consecutivas ao acrescentar no fim ou renumerar a lista.
+     */
+    public static final long INTERVALO = 1024;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lista_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ListaPersonalizada lista;
+
+    // Carregado junto com os itens da lista (mesma consulta), pois a resposta sempre exibe o jogo
+    @Id
+    @ManyToOne
+    @JoinColumn(name = "jogo_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Jogo jogo;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long posicao;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private UUID lista;
+        private UUID jogo;
+    }
+}
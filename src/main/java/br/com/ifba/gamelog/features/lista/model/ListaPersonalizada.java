@@ -1,10 +1,10 @@
 package br.com.ifba.gamelog.features.lista.model;
 
-import br.com.ifba.gamelog.features.jogo.model.Jogo;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.infrastructure.model.PersistenceEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -12,7 +12,6 @@ import java.util.List;
 @Table(name = "listas_personalizadas")
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class ListaPersonalizada extends PersistenceEntity {
@@ -27,11 +26,26 @@ public class ListaPersonalizada extends PersistenceEntity {
     @JoinColumn(name = "usuario_id", nullable = false)
     private Usuario usuario;
 
-    @ManyToMany
-    @JoinTable(
-            name = "itens_lista",
-            joinColumns = @JoinColumn(name = "lista_id"),
-            inverseJoinColumns = @JoinColumn(name = "jogo_id")
-    )
-    private List<Jogo> jogos;
+    // Somente leitura: os itens são incluídos, movidos e removidos um a um pelo serviço
+    @OneToMany(mappedBy = "lista")
+    @OrderBy("posicao ASC, jogo.id ASC")
+    private List<ItemLista> itens;
+
+    // Popularidade no feed de listas públicas: incrementado em lote pelo ListaPublicaService
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long visualizacoes;
+
+    // Cópia periódica das visualizações, usada como chave do feed POPULARES: o keyset pagina
+    // sobre um valor que não muda entre as páginas (as visualizações mudam a cada descarga)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long popularidade;
+
+    public ListaPersonalizada(String nome, boolean publica, Usuario usuario, List<ItemLista> itens) {
+        this.nome = nome;
+        this.publica = publica;
+        this.usuario = usuario;
+        this.itens = itens;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package br.com.ifba.gamelog.features.lista.model;
+
+/**
+ * Ordenação do feed de listas públicas.
+ */
+public enum ListaPublicaOrdem {
+    /** Mais recentes primeiro. */
+    RECENTES,
+    /** Mais visualizadas primeiro, pela contagem da última atualização do ranking (empate pela mais recente). */
+    POPULARES
+}
@@ -0,0 +1,79 @@
+package br.com.ifba.gamelog.features.lista.repository;
+
+import br.com.ifba.gamelog.features.lista.model.ItemLista;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IItemListaRepository extends JpaRepository<ItemLista, ItemLista.Chave> {
+
+    /**
+     * Posição de um jogo na lista.
+     *
+     * @return Posição, ou vazio se o jogo não estiver na lista.
+     */
+    @Query("SELECT i.posicao FROM ItemLista i WHERE i.lista.id = :listaId AND i.jogo.id = :jogoId")
+    Optional<Long> findPosicao(@Param("listaId") UUID listaId, @Param("jogoId") UUID jogoId);
+
+    /**
+     * Maior posição da lista, desconsiderando um jogo (o que está sendo movido).
+     *
+     * @return Última posição, ou nulo se não houver outros itens.
+     */
+    @Query("SELECT MAX(i.posicao) FROM ItemLista i WHERE i.lista.id = :listaId AND i.jogo.id <> :ignorar")
+    Long findUltimaPosicao(@Param("listaId") UUID listaId, @Param("ignorar") UUID ignorar);
+
+    /**
+     * Posição do item imediatamente anterior a (posicao, jogoId) na ordem da lista
+     * (posição e, em empate, ID do jogo), desconsiderando o jogo que está sendo movido.
+     *
+     * @return Posição do vizinho anterior, ou nulo se (posicao, jogoId) for o primeiro.
+     */
+    @Query("""
+            SELECT MAX(i.posicao) FROM ItemLista i
+            WHERE i.lista.id = :listaId AND i.jogo.id <> :ignorar
+                AND (i.posicao < :posicao OR (i.posicao = :posicao AND i.jogo.id < :jogoId))""")
+    Long findPosicaoAnterior(@Param("listaId") UUID listaId, @Param("posicao") long posicao,
+                             @Param("jogoId") UUID jogoId, @Param("ignorar") UUID ignorar);
+
+    /**
+     * Itens da lista na ordem de exibição, para renumeração.
+     */
+    @Query("SELECT i FROM ItemLista i WHERE i.lista.id = :listaId ORDER BY i.posicao, i.jogo.id")
+    List<ItemLista> findOrdenados(@Param("listaId") UUID listaId);
+
+    /**
+     * Move um item alterando apenas a sua linha.
+     *
+     * @return Quantidade de linhas atualizadas (0 se o jogo não estiver na lista).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ItemLista i SET i.posicao = :posicao WHERE i.lista.id = :listaId AND i.jogo.id = :jogoId")
+    int atualizarPosicao(@Param("listaId") UUID listaId, @Param("jogoId") UUID jogoId, @Param("posicao") long posicao);
+
+    /**
+     * Remove jogos da lista em um único DELETE.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ItemLista i WHERE i.lista.id = :listaId AND i.jogo.id IN :jogoIds")
+    int deleteJogos(@Param("listaId") UUID listaId, @Param("jogoIds") Collection<UUID> jogoIds);
+
+    /**
+     * Remove todos os itens de uma lista em um único DELETE.
+     *
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ItemLista i WHERE i.lista.id = :listaId")
+    int deleteByListaId(@Param("listaId") UUID listaId);
+}
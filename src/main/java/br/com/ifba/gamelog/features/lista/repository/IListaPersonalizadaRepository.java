@@ -1,11 +1,25 @@
 package br.com.ifba.gamelog.features.lista.repository;
 
 import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IListaPersonalizadaRepository extends JpaRepository<ListaPersonalizada, UUID> {
@@ -17,4 +31,132 @@ public interface IListaPersonalizadaRepository extends JpaRepository<ListaPerson
      * @return Lista de listas personalizadas.
      */
     List<ListaPersonalizada> findAllByUsuarioId(UUID usuarioId);
-}
\ No newline at end of file
+
+    /**
+     * Resumo das listas de um usuário em uma única consulta, sem carregar entidades nem a
+     * descrição dos jogos: a contagem de jogos e as primeiras capas (na ordem das posições)
+     * vêm de funções de janela sobre os itens, unidas à lista pelo LEFT JOIN.
+     * A primeira linha de cada lista é sempre unida (e tem a capa omitida se {@code capas} for 0),
+     * para que a contagem venha mesmo sem capas.
+     *
+     * @param usuarioId UUID do usuário.
+     * @param capas     Quantidade máxima de capas por lista.
+     * @return Uma linha por capa (ou uma linha sem capa para a lista vazia), ordenadas por lista e posição.
+     */
+    @Query("""
+            SELECT l.id AS id, l.nome AS nome, l.publica AS publica, l.usuario.id AS usuarioId,
+                   COALESCE(r.total, 0) AS totalJogos,
+                   CASE WHEN r.ordem <= :capas THEN r.capaUrl END AS capaUrl
+            FROM ListaPersonalizada l
+            LEFT JOIN (
+                SELECT i.lista.id AS listaId, j.capaUrl AS capaUrl,
+                       COUNT(*) OVER (PARTITION BY i.lista.id) AS total,
+                       ROW_NUMBER() OVER (PARTITION BY i.lista.id ORDER BY i.posicao, j.id) AS ordem
+                FROM ItemLista i JOIN i.jogo j
+                WHERE i.lista.usuario.id = :usuarioId
+            ) r ON r.listaId = l.id AND r.ordem <= GREATEST(:capas, 1)
+            WHERE l.usuario.id = :usuarioId
+            ORDER BY l.nome, l.id, r.ordem""")
+    List<ListaResumoLinhaProjection> findResumosByUsuarioId(@Param("usuarioId") UUID usuarioId, @Param("capas") long capas);
+
+    /**
+     * Mesmo resumo de {@link #findResumosByUsuarioId}, para as listas de uma página já selecionada.
+     *
+     * @param ids   IDs das listas.
+     * @param capas Quantidade máxima de capas por lista.
+     * @return Uma linha por capa (ou uma linha sem capa para a lista vazia), agrupadas por lista.
+     */
+    @Query("""
+            SELECT l.id AS id, l.nome AS nome, l.publica AS publica, l.usuario.id AS usuarioId,
+                   COALESCE(r.total, 0) AS totalJogos,
+                   CASE WHEN r.ordem <= :capas THEN r.capaUrl END AS capaUrl
+            FROM ListaPersonalizada l
+            LEFT JOIN (
+                SELECT i.lista.id AS listaId, j.capaUrl AS capaUrl,
+                       COUNT(*) OVER (PARTITION BY i.lista.id) AS total,
+                       ROW_NUMBER() OVER (PARTITION BY i.lista.id ORDER BY i.posicao, j.id) AS ordem
+                FROM ItemLista i JOIN i.jogo j
+                WHERE i.lista.id IN :ids
+            ) r ON r.listaId = l.id AND r.ordem <= GREATEST(:capas, 1)
+            WHERE l.id IN :ids
+            ORDER BY l.id, r.ordem""")
+    List<ListaResumoLinhaProjection> findResumosByIdIn(@Param("ids") Collection<UUID> ids, @Param("capas") long capas);
+
+    /**
+     * Soma visualizações acumuladas em memória ao contador da lista.
+     *
+     * @param id         UUID da lista.
+     * @param quantidade Visualizações a somar.
+     */
+    @Modifying
+    @Query("UPDATE ListaPersonalizada l SET l.visualizacoes = l.visualizacoes + :quantidade WHERE l.id = :id")
+    void somarVisualizacoes(@Param("id") UUID id, @Param("quantidade") long quantidade);
+
+    /**
+     * Copia as visualizações atuais para a popularidade usada no ranking das listas públicas.
+     * Só reescreve as linhas cuja contagem mudou desde a última cópia.
+     *
+     * @return Quantidade de listas atualizadas.
+     */
+    @Modifying
+    @Query("UPDATE ListaPersonalizada l SET l.popularidade = l.visualizacoes WHERE l.publica = true AND l.popularidade <> l.visualizacoes")
+    int materializarPopularidade();
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    Window<ListaPersonalizada> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Janela do feed de listas públicas (keyset), coberta pelos índices parciais
+     * {@code WHERE publica} criados pelo {@code ListaPublicaService}.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de listas públicas.
+     */
+    Window<ListaPersonalizada> findByPublicaTrue(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Janela das listas públicas que contêm um jogo (keyset), a partir do índice de itens por jogo.
+     *
+     * @param jogoId   UUID do jogo.
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de listas públicas com o jogo.
+     */
+    Window<ListaPersonalizada> findByPublicaTrueAndItensJogoId(UUID jogoId, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Percorre todas as listas sem carregá-las de uma vez na memória.
+     * As linhas chegam do driver em blocos ({@link EntityStreams#FETCH_SIZE}) e as entidades
+     * não guardam snapshot para dirty checking (somente leitura).
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreams.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM ListaPersonalizada l")
+    Stream<ListaPersonalizada> streamAll();
+
+    /**
+     * Bloqueia a linha da lista (SELECT ... FOR UPDATE) até o fim da transação.
+     * Serializa as alterações de itens de uma mesma lista, para que duas inclusões ou
+     * movimentações simultâneas não calculem a mesma posição.
+     *
+     * @return ID da lista, ou vazio se ela não existir.
+     */
+    @Query(value = "SELECT id FROM listas_personalizadas WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> bloquearPorId(@Param("id") UUID id);
+}
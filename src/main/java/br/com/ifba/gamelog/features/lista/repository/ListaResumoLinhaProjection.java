@@ -0,0 +1,22 @@
+package br.com.ifba.gamelog.features.lista.repository;
+
+import java.util.UUID;
+
+/**
+ * Linha da consulta de resumo das listas: os dados da lista repetidos para cada uma das
+ * primeiras capas (ou uma linha só, sem capa, para a lista vazia).
+ */
+public interface ListaResumoLinhaProjection {
+
+    UUID getId();
+
+    String getNome();
+
+    boolean isPublica();
+
+    UUID getUsuarioId();
+
+    Long getTotalJogos();
+
+    String getCapaUrl();
+}
@@ -1,13 +1,19 @@
 package br.com.ifba.gamelog.features.lista.service;
 
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemMoverRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaItemResponseDTO;
 import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResponseDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page; // Adicionado import
 import org.springframework.data.domain.Pageable; // Adicionado import
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IListaPersonalizadaService {
 
@@ -24,6 +30,12 @@ public interface IListaPersonalizadaService {
      */
     List<ListaPersonalizadaResponseDTO> findAll();
 
+    /**
+     * Percorre todas as listas, entregando um DTO por vez (streaming), sem montar a lista em memória.
+     * @param consumidor Recebe cada DTO assim que é lido do banco.
+     */
+    void streamAll(Consumer<ListaPersonalizadaResponseDTO> consumidor);
+
     /**
      * Lista todas as listas do sistema com suporte a paginação.
      * @param pageable Parâmetros de paginação.
@@ -31,6 +43,14 @@ public interface IListaPersonalizadaService {
      */
     Page<ListaPersonalizadaResponseDTO> findAllPaged(Pageable pageable); // NOVO MÉTODO
 
+    /**
+     * Lista os listas com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<ListaPersonalizadaResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+
     /**
      * Lista as listas de um usuário específico.
      * @param usuarioId ID do usuário.
@@ -38,6 +58,15 @@ public interface IListaPersonalizadaService {
      */
     List<ListaPersonalizadaResponseDTO> findByUsuario(UUID usuarioId);
 
+    /**
+     * Lista as listas de um usuário em forma de resumo: dados da lista, quantidade de jogos
+     * e as primeiras capas, sem os dados completos dos jogos.
+     * @param usuarioId ID do usuário.
+     * @param capas Quantidade de capas por lista (limitada a {@code ListaPersonalizadaService.MAX_CAPAS}).
+     * @return Resumos das listas do usuário.
+     */
+    List<ListaPersonalizadaResumoResponseDTO> findResumosByUsuario(UUID usuarioId, int capas);
+
     /**
      * Busca uma lista pelo ID.
      * @param id ID da lista.
@@ -58,4 +87,29 @@ public interface IListaPersonalizadaService {
      * @return ID removido.
      */
     UUID delete(UUID id);
+
+    /**
+     * Adiciona um jogo à lista em uma posição (sem alterar os demais itens).
+     * @param listaId ID da lista.
+     * @param dto Jogo e, opcionalmente, o jogo que ficará logo depois dele.
+     * @return Item criado com a sua posição.
+     */
+    ListaItemResponseDTO adicionarJogo(UUID listaId, ListaItemAdicionarRequestDTO dto);
+
+    /**
+     * Move um jogo para outra posição da lista (sem alterar os demais itens).
+     * @param listaId ID da lista.
+     * @param jogoId ID do jogo movido.
+     * @param dto Jogo que ficará logo depois do item (ausente = fim da lista).
+     * @return Item com a nova posição.
+     */
+    ListaItemResponseDTO moverJogo(UUID listaId, UUID jogoId, ListaItemMoverRequestDTO dto);
+
+    /**
+     * Remove um jogo da lista.
+     * @param listaId ID da lista.
+     * @param jogoId ID do jogo removido.
+     * @return Identificação do item removido.
+     */
+    ListaItemResponseDTO removerJogo(UUID listaId, UUID jogoId);
 }
\ No newline at end of file
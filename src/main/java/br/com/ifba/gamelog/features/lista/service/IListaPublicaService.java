@@ -0,0 +1,45 @@
+package br.com.ifba.gamelog.features.lista.service;
+
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.features.lista.model.ListaPublicaOrdem;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+
+import java.util.UUID;
+
+public interface IListaPublicaService {
+
+    /**
+     * Conta uma visualização da lista (somente em memória, gravada em lote).
+     * @param listaId ID da lista.
+     */
+    void registrarVisualizacao(UUID listaId);
+
+    /**
+     * Feed de listas públicas com paginação por cursor. A primeira página fica em cache.
+     * @param ordem Mais recentes ou mais visualizadas.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param tamanho Tamanho da página (limitado a {@code ListaPublicaService.MAX_TAMANHO_PAGINA}).
+     * @return Página de resumos com o cursor da próxima.
+     */
+    CursorPage<ListaPersonalizadaResumoResponseDTO> findPublicas(ListaPublicaOrdem ordem, String cursor, int tamanho);
+
+    /**
+     * Listas públicas que contêm um jogo, com paginação por cursor.
+     * @param jogoId ID do jogo.
+     * @param ordem Mais recentes ou mais visualizadas.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param tamanho Tamanho da página (limitado a {@code ListaPublicaService.MAX_TAMANHO_PAGINA}).
+     * @return Página de resumos com o cursor da próxima.
+     */
+    CursorPage<ListaPersonalizadaResumoResponseDTO> findPublicasByJogo(UUID jogoId, ListaPublicaOrdem ordem, String cursor, int tamanho);
+
+    /**
+     * Grava no banco as visualizações acumuladas em memória.
+     */
+    void descarregar();
+
+    /**
+     * Atualiza a popularidade usada no ranking (cópia das visualizações gravadas).
+     */
+    void materializarPopularidade();
+}
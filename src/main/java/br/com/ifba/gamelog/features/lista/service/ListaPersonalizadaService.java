@@ -1,26 +1,44 @@
 package br.com.ifba.gamelog.features.lista.service;
 
-import br.com.ifba.gamelog.features.jogo.model.Jogo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemMoverRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaItemResponseDTO;
 import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResponseDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
 import br.com.ifba.gamelog.features.lista.mapper.ListaPersonalizadaMapper;
+import br.com.ifba.gamelog.features.lista.model.ItemLista;
 import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.features.lista.repository.IItemListaRepository;
 import br.com.ifba.gamelog.features.lista.repository.IListaPersonalizadaRepository;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável por gerenciar listas personalizadas de jogos (ex: "Top 10 RPGs").
@@ -32,10 +50,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ListaPersonalizadaService implements IListaPersonalizadaService {
 
+    /** Limite de capas por lista no resumo (a consulta traz uma linha por capa). */
+    public static final int MAX_CAPAS = 12;
+
     private final IListaPersonalizadaRepository repository;
     private final IUsuarioRepository usuarioRepository;
     private final IJogoRepository jogoRepository;
+    private final IItemListaRepository itemRepository;
+    private final IListaPublicaService listaPublicaService;
     private final ListaPersonalizadaMapper mapper;
+    private final EntityManager entityManager;
 
     /**
      * Cria uma nova lista, associando ao usuário e opcionalmente adicionando jogos.
@@ -54,16 +78,17 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
         entity.setPublica(dto.publica());
         entity.setUsuario(usuario);
 
-        // Se vieram IDs de jogos, busca e adiciona à lista
-        if (dto.jogosIds() != null && !dto.jogosIds().isEmpty()) {
-            List<Jogo> jogos = jogoRepository.findAllById(dto.jogosIds());
-            // Opcional: Validar se todos os jogos foram encontrados
-            entity.setJogos(jogos);
-        } else {
-            entity.setJogos(new ArrayList<>());
-        }
-
         ListaPersonalizada savedEntity = repository.save(entity);
+
+        // Se vieram IDs de jogos, adiciona à lista na ordem enviada (IDs inexistentes são ignorados)
+        List<ItemLista> itens = new ArrayList<>();
+        List<UUID> jogosIds = jogosExistentes(dto.jogosIds());
+        for (int i = 0; i < jogosIds.size(); i++) {
+            ItemLista item = new ItemLista(savedEntity, jogoRepository.getReferenceById(jogosIds.get(i)), i * ItemLista.INTERVALO);
+            entityManager.persist(item);
+            itens.add(item);
+        }
+        savedEntity.setItens(itens);
         return mapper.toResponse(savedEntity);
     }
 
@@ -78,6 +103,20 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
                 .toList();
     }
 
+    /**
+     * Percorre todas as listas entregando um DTO por vez ao consumidor (modo NDJSON).
+     * O contexto de persistência é limpo periodicamente, então o uso de memória
+     * não cresce com o tamanho da tabela.
+     *
+     * @param consumidor Recebe cada DTO assim que a linha é lida do banco.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ListaPersonalizadaResponseDTO> consumidor) {
+        EntityStreams.forEach(repository.streamAll(), entityManager,
+                lista -> consumidor.accept(mapper.toResponse(lista)));
+    }
+
     /**
      * Retorna todas as listas do sistema com suporte a paginação.
      */
@@ -88,6 +127,19 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
                 .map(mapper::toResponse);
     }
 
+    /**
+     * Lista listas com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ListaPersonalizadaResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<ListaPersonalizada> window = repository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), ListaPersonalizada.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
     /**
      * Retorna as listas de um usuário específico.
      */
@@ -102,19 +154,39 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
                 .toList();
     }
 
+    /**
+     * Retorna o resumo das listas de um usuário a partir de uma única consulta agregada
+     * (uma linha por capa, agrupadas pelo mapper).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ListaPersonalizadaResumoResponseDTO> findResumosByUsuario(UUID usuarioId, int capas) {
+        if (!usuarioRepository.existsById(usuarioId)) {
+            throw new BusinessException(BusinessExceptionMessage.USER_NOT_FOUND.getMessage());
+        }
+        return List.copyOf(mapper.toResumos(
+                repository.findResumosByUsuarioId(usuarioId, Math.clamp(capas, 0, MAX_CAPAS))).values());
+    }
+
     /**
      * Busca detalhes de uma lista pelo ID.
+     * A abertura de uma lista pública conta como visualização (em memória, gravada em lote).
      */
     @Override
     @Transactional(readOnly = true)
     public ListaPersonalizadaResponseDTO findById(UUID id) {
-        return repository.findById(id)
-                .map(mapper::toResponse)
+        ListaPersonalizada entity = repository.findById(id)
                 .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
+        if (entity.isPublica()) {
+            listaPublicaService.registrarVisualizacao(id);
+        }
+        return mapper.toResponse(entity);
     }
 
     /**
      * Atualiza o nome, visibilidade e os jogos da lista.
+     * A nova lista de jogos é aplicada como diferença: um DELETE para os jogos que saíram,
+     * UPDATE apenas dos itens cuja posição muda e INSERT dos novos (em batch).
      */
     @Override
     @Transactional
@@ -127,8 +199,7 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
 
         // Atualiza a lista de jogos APENAS se a lista de IDs foi enviada no JSON (não nula).
         if (dto.jogosIds() != null) {
-            List<Jogo> jogos = jogoRepository.findAllById(dto.jogosIds());
-            entity.setJogos(jogos);
+            substituirJogos(entity, jogosExistentes(dto.jogosIds()));
         }
 
         ListaPersonalizada updatedEntity = repository.save(entity);
@@ -144,7 +215,140 @@ public class ListaPersonalizadaService implements IListaPersonalizadaService {
         if (!repository.existsById(id)) {
             throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
         }
+        itemRepository.deleteByListaId(id);
         repository.deleteById(id);
         return id;
     }
+
+    /**
+     * Adiciona um jogo à lista alterando apenas a linha do novo item:
+     * a posição é calculada entre os vizinhos, sem deslocar os demais.
+     */
+    @Override
+    @Transactional
+    public ListaItemResponseDTO adicionarJogo(UUID listaId, ListaItemAdicionarRequestDTO dto) {
+        bloquear(listaId);
+        if (!jogoRepository.existsById(dto.jogoId())) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+        if (itemRepository.findPosicao(listaId, dto.jogoId()).isPresent()) {
+            throw new BusinessException(
+                    BusinessExceptionMessage.ATTRIBUTE_VALUE_ALREADY_EXISTS.getAttributeValueAlreadyExistsMessage("Jogo na Lista")
+            );
+        }
+
+        long posicao = posicaoAntesDe(listaId, dto.antesDeJogoId(), dto.jogoId());
+        entityManager.persist(new ItemLista(repository.getReferenceById(listaId),
+                jogoRepository.getReferenceById(dto.jogoId()), posicao));
+        return new ListaItemResponseDTO(listaId, dto.jogoId(), posicao);
+    }
+
+    /**
+     * Move um jogo dentro da lista com um único UPDATE na linha do item
+     * (salvo quando não há espaço entre os vizinhos e a lista precisa ser renumerada).
+     */
+    @Override
+    @Transactional
+    public ListaItemResponseDTO moverJogo(UUID listaId, UUID jogoId, ListaItemMoverRequestDTO dto) {
+        bloquear(listaId);
+        if (itemRepository.findPosicao(listaId, jogoId).isEmpty()) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+
+        long posicao = posicaoAntesDe(listaId, dto.antesDeJogoId(), jogoId);
+        itemRepository.atualizarPosicao(listaId, jogoId, posicao);
+        return new ListaItemResponseDTO(listaId, jogoId, posicao);
+    }
+
+    /**
+     * Remove um jogo da lista com um único DELETE; os demais itens mantêm as suas posições.
+     */
+    @Override
+    @Transactional
+    public ListaItemResponseDTO removerJogo(UUID listaId, UUID jogoId) {
+        if (itemRepository.deleteJogos(listaId, List.of(jogoId)) == 0) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+        return new ListaItemResponseDTO(listaId, jogoId, null);
+    }
+
+    private void bloquear(UUID listaId) {
+        if (repository.bloquearPorId(listaId).isEmpty()) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+    }
+
+    /**
+     * Calcula a posição para um item que deve ficar logo antes de {@code antesDeJogoId}
+     * (ou no fim da lista, se nulo), desconsiderando a posição atual do próprio item.
+     */
+    private long posicaoAntesDe(UUID listaId, UUID antesDeJogoId, UUID jogoId) {
+        if (antesDeJogoId == null) {
+            Long ultima = itemRepository.findUltimaPosicao(listaId, jogoId);
+            return ultima == null ? 0 : ultima + ItemLista.INTERVALO;
+        }
+        if (antesDeJogoId.equals(jogoId)) {
+            throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage());
+        }
+        long proxima = itemRepository.findPosicao(listaId, antesDeJogoId)
+                .orElseThrow(() -> new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage()));
+        Long anterior = itemRepository.findPosicaoAnterior(listaId, proxima, antesDeJogoId, jogoId);
+        if (anterior == null) {
+            return proxima - ItemLista.INTERVALO;
+        }
+        if (proxima - anterior > 1) {
+            return anterior + (proxima - anterior) / 2;
+        }
+        // Sem espaço entre os vizinhos: renumera a lista uma vez e recalcula
+        renumerar(listaId);
+        return posicaoAntesDe(listaId, antesDeJogoId, jogoId);
+    }
+
+    /**
+     * Redistribui as posições da lista com o intervalo padrão, mantendo a ordem atual.
+     * Só os itens cuja posição muda são atualizados (UPDATEs em batch).
+     */
+    private void renumerar(UUID listaId) {
+        List<ItemLista> itens = itemRepository.findOrdenados(listaId);
+        for (int i = 0; i < itens.size(); i++) {
+            itens.get(i).setPosicao(i * ItemLista.INTERVALO);
+        }
+        itemRepository.flush();
+    }
+
+    private void substituirJogos(ListaPersonalizada entity, List<UUID> jogosIds) {
+        Map<UUID, ItemLista> atuais = itemRepository.findOrdenados(entity.getId()).stream()
+                .collect(Collectors.toMap(item -> item.getJogo().getId(), Function.identity()));
+
+        Set<UUID> removidos = new HashSet<>(atuais.keySet());
+        jogosIds.forEach(removidos::remove);
+        if (!removidos.isEmpty()) {
+            itemRepository.deleteJogos(entity.getId(), removidos);
+        }
+
+        for (int i = 0; i < jogosIds.size(); i++) {
+            long posicao = i * ItemLista.INTERVALO;
+            ItemLista atual = atuais.get(jogosIds.get(i));
+            if (atual == null) {
+                entityManager.persist(new ItemLista(entity, jogoRepository.getReferenceById(jogosIds.get(i)), posicao));
+            } else if (atual.getPosicao() != posicao) {
+                atual.setPosicao(posicao);
+            }
+        }
+        // Grava antes de a coleção de itens (ainda não carregada) ser lida para a resposta
+        itemRepository.flush();
+    }
+
+    /**
+     * IDs dos jogos existentes no catálogo, sem repetições e na ordem recebida.
+     */
+    private List<UUID> jogosExistentes(List<UUID> jogosIds) {
+        if (jogosIds == null || jogosIds.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> existentes = new HashSet<>(jogoRepository.findIdsExistentes(jogosIds));
+        return new LinkedHashSet<>(jogosIds).stream()
+                .filter(existentes::contains)
+                .toList();
+    }
 }
\ No newline at end of file
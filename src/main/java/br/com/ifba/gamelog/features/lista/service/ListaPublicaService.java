@@ -0,0 +1,220 @@
+package br.com.ifba.gamelog.features.lista.service;
+
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.features.lista.mapper.ListaPersonalizadaMapper;
+import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.features.lista.model.ListaPublicaOrdem;
+import br.com.ifba.gamelog.features.lista.repository.IListaPersonalizadaRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Descoberta de listas públicas: feed por recência ou popularidade e busca reversa
+ * ("listas públicas com este jogo").
+ * <p>
+ * As páginas são por cursor (keyset) sobre índices parciais {@code WHERE publica}, então listas
+ * privadas não ocupam espaço no índice e páginas profundas custam o mesmo que a primeira. Cada
+ * página são duas consultas: a janela de IDs e o resumo agregado (quantidade de jogos e capas),
+ * sem carregar usuário nem jogos por linha. A primeira página de cada ordenação, a mais pedida,
+ * fica em cache por um intervalo curto.
+ * </p>
+ * <p>
+ * A popularidade é o número de visualizações da lista, contado em memória ({@link LongAdder})
+ * e somado ao contador da tabela em lote, como na tendência dos jogos. O ranking usa uma cópia
+ * desse contador atualizada periodicamente ({@code popularidade}), e não o contador vivo: entre
+ * duas cópias a ordem não muda, então a navegação por cursor não repete nem pula listas.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ListaPublicaService implements IListaPublicaService {
+
+    // Criados fora do Hibernate: @Index não expressa índice parcial. A ordem das colunas segue o
+    // ORDER BY do keyset (o Spring Data acrescenta o ID ascendente como desempate).
+    private static final List<String> INDICES_PARCIAIS = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_listas_publicas_recentes ON listas_personalizadas (created_at DESC, id) WHERE publica",
+            "CREATE INDEX IF NOT EXISTS idx_listas_publicas_populares ON listas_personalizadas (popularidade DESC, created_at DESC, id) WHERE publica"
+    );
+
+    // O tamanho faz parte da chave do cache da primeira página: sem limite, cada valor viraria uma entrada
+    public static final int MAX_TAMANHO_PAGINA = 50;
+
+    private final IListaPersonalizadaRepository repository;
+    private final IJogoRepository jogoRepository;
+    private final ListaPersonalizadaMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int capas;
+    private final Cache<String, CursorPage<ListaPersonalizadaResumoResponseDTO>> primeirasPaginas;
+
+    private final ConcurrentHashMap<UUID, LongAdder> visualizacoes = new ConcurrentHashMap<>();
+
+    public ListaPublicaService(
+            IListaPersonalizadaRepository repository,
+            IJogoRepository jogoRepository,
+            ListaPersonalizadaMapper mapper,
+            TransactionTemplate transactionTemplate,
+            JdbcTemplate jdbcTemplate,
+            @Value("${listas.publicas.capas:4}") int capas,
+            @Value("${listas.publicas.cache-ttl:PT30S}") Duration cacheTtl
+    ) {
+        this.repository = repository;
+        this.jogoRepository = jogoRepository;
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.capas = capas;
+        this.primeirasPaginas = Caffeine.newBuilder()
+                .maximumSize(64)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @Override
+    public void registrarVisualizacao(UUID listaId) {
+        LongAdder contador = visualizacoes.get(listaId);
+        if (contador == null) {
+            contador = visualizacoes.computeIfAbsent(listaId, id -> new LongAdder());
+        }
+        contador.increment();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ListaPersonalizadaResumoResponseDTO> findPublicas(ListaPublicaOrdem ordem, String cursor, int tamanhoPedido) {
+        int tamanho = Math.clamp(tamanhoPedido, 1, MAX_TAMANHO_PAGINA);
+        if (cursor == null || cursor.isBlank()) {
+            return primeirasPaginas.get(ordem + ":" + tamanho, chave -> pagina(
+                    repository.findByPublicaTrue(CursorCodec.decode(null), ordenacao(ordem), Limit.of(tamanho)), tamanho));
+        }
+        return pagina(repository.findByPublicaTrue(CursorCodec.decode(cursor), ordenacao(ordem), Limit.of(tamanho)), tamanho);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ListaPersonalizadaResumoResponseDTO> findPublicasByJogo(UUID jogoId, ListaPublicaOrdem ordem,
+                                                                             String cursor, int tamanhoPedido) {
+        int tamanho = Math.clamp(tamanhoPedido, 1, MAX_TAMANHO_PAGINA);
+        Window<ListaPersonalizada> window = repository.findByPublicaTrueAndItensJogoId(
+                jogoId, CursorCodec.decode(cursor), ordenacao(ordem), Limit.of(tamanho));
+        // Só uma página vazia precisa distinguir "jogo sem listas" de "jogo inexistente"
+        if (window.isEmpty() && !jogoRepository.existsById(jogoId)) {
+            throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
+        }
+        return pagina(window, tamanho);
+    }
+
+    /**
+     * Soma as visualizações acumuladas aos contadores das listas.
+     * Se a gravação falhar, as contagens voltam aos contadores e entram na próxima descarga.
+     */
+    @Override
+    @PreDestroy
+    @Scheduled(
+            initialDelayString = "${listas.publicas.flush-interval:PT1M}",
+            fixedDelayString = "${listas.publicas.flush-interval:PT1M}"
+    )
+    public synchronized void descarregar() {
+        Map<UUID, Long> pendentes = new HashMap<>();
+        visualizacoes.forEach((listaId, contador) -> {
+            long quantidade = contador.sumThenReset();
+            if (quantidade > 0) {
+                pendentes.put(listaId, quantidade);
+            } else {
+                // Sem visualizações desde a última descarga: sai do mapa para não crescer indefinidamente
+                visualizacoes.remove(listaId, contador);
+            }
+        });
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> pendentes.forEach(repository::somarVisualizacoes));
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar as visualizações das listas ({} listas serão reenviadas): {}", pendentes.size(), e.getMessage());
+            pendentes.forEach((listaId, quantidade) ->
+                    visualizacoes.computeIfAbsent(listaId, id -> new LongAdder()).add(quantidade));
+        }
+    }
+
+    /**
+     * Copia as visualizações gravadas para a popularidade do ranking. Só aqui a ordem do feed
+     * POPULARES muda; a primeira página em cache é descartada para refletir a nova ordem.
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${listas.publicas.popularidade-interval:PT15M}",
+            fixedDelayString = "${listas.publicas.popularidade-interval:PT15M}"
+    )
+    public void materializarPopularidade() {
+        try {
+            Integer atualizadas = transactionTemplate.execute(status -> repository.materializarPopularidade());
+            if (atualizadas != null && atualizadas > 0) {
+                primeirasPaginas.invalidateAll();
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao atualizar a popularidade das listas públicas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cria os índices parciais do feed no PostgreSQL (outros bancos usam a varredura da tabela).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void criarIndices() {
+        try {
+            String banco = jdbcTemplate.execute((ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equals(banco)) {
+                return;
+            }
+            INDICES_PARCIAIS.forEach(jdbcTemplate::execute);
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível criar os índices parciais das listas públicas: {}", e.getMessage());
+        }
+    }
+
+    private CursorPage<ListaPersonalizadaResumoResponseDTO> pagina(Window<ListaPersonalizada> window, int tamanho) {
+        List<UUID> ids = window.getContent().stream().map(ListaPersonalizada::getId).toList();
+        Map<UUID, ListaPersonalizadaResumoResponseDTO> resumos = ids.isEmpty()
+                ? Map.of()
+                : mapper.toResumos(repository.findResumosByIdIn(ids, capas));
+        return CursorPage.of(window, tamanho, lista -> resumos.get(lista.getId()));
+    }
+
+    private static Sort ordenacao(ListaPublicaOrdem ordem) {
+        return switch (ordem) {
+            case RECENTES -> Sort.by(Sort.Direction.DESC, "createdAt");
+            case POPULARES -> Sort.by(Sort.Direction.DESC, "popularidade", "createdAt");
+        };
+    }
+}
@@ -1,13 +1,14 @@
 package br.com.ifba.gamelog.features.perfil.controller;
 
+import br.com.ifba.gamelog.config.security.UsuarioAutenticado;
 import br.com.ifba.gamelog.features.perfil.dto.request.PerfilAtualizarMeusDadosRequestDTO;
 import br.com.ifba.gamelog.features.perfil.dto.request.PerfilAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.perfil.dto.request.PerfilCriarRequestDTO;
 import br.com.ifba.gamelog.features.perfil.dto.response.PerfilResponseDTO;
 import br.com.ifba.gamelog.features.perfil.service.IPerfilService;
-import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -124,6 +125,27 @@ public class PerfilController {
         return ResponseEntity.ok(perfilService.findAllPaged(pageable));
     }
 
+    /**
+     * Recupera perfis com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<PerfilResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            // O nome de exibição é opcional e não serve de chave do cursor: ordena pelo nome do usuário
+            @PageableDefault(size = 10, sort = "usuario.nome") Pageable pageable) {
+        return ResponseEntity.ok(perfilService.findAllByCursor(cursor, pageable));
+    }
+
     /**
      * Atualiza os dados de um perfil existente.
      *
@@ -223,12 +245,12 @@ public class PerfilController {
 
         Object principal = auth.getPrincipal();
 
-        // Cenário 1: O Filtro carregou o Objeto Usuario (Seu caso atual)
-        if (principal instanceof Usuario) {
-            return ((Usuario) principal).getId();
+        // Cenário 1: O Filtro montou o principal a partir das claims do token
+        if (principal instanceof UsuarioAutenticado usuarioAutenticado) {
+            return usuarioAutenticado.id();
         }
 
-        // Cenário 2: O Filtro carregou apenas o ID String (Caso mude no futuro)
+        // Cenário 2: Apenas o ID String
         if (principal instanceof String) {
             return UUID.fromString((String) principal);
         }
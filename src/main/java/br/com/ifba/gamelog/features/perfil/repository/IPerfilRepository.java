@@ -1,6 +1,10 @@
 package br.com.ifba.gamelog.features.perfil.repository;
 
 import br.com.ifba.gamelog.features.perfil.model.Perfil;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -25,4 +29,15 @@ public interface IPerfilRepository extends JpaRepository<Perfil, Long> {
      * @return true se existir, false caso contrário.
      */
     boolean existsByUsuarioId(UUID usuarioId);
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    Window<Perfil> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
\ No newline at end of file
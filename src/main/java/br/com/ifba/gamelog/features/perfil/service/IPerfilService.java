@@ -5,6 +5,7 @@ import br.com.ifba.gamelog.features.perfil.dto.request.PerfilAtualizarRequestDTO
 import br.com.ifba.gamelog.features.perfil.dto.request.PerfilCriarRequestDTO;
 import br.com.ifba.gamelog.features.perfil.dto.response.PerfilResponseDTO;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -56,6 +57,14 @@ public interface IPerfilService {
      */
     Page<PerfilResponseDTO> findAllPaged(Pageable pageable);
 
+    /**
+     * Lista os perfis com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<PerfilResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+
     /**
      * Atualiza os dados de um perfil existente.
      *
@@ -11,9 +11,13 @@ import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -95,6 +99,19 @@ public class PerfilService implements IPerfilService {
                 .map(mapper::toResponse);
     }
 
+    /**
+     * Lista perfis com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PerfilResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<Perfil> window = perfilRepository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), Perfil.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
     /**
      * Atualiza dados de um perfil (Admin/Geral).
      */
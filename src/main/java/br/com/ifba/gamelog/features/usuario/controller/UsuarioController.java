@@ -7,6 +7,8 @@ import br.com.ifba.gamelog.features.usuario.dto.response.UsuarioRetornarIdRespon
 import br.com.ifba.gamelog.features.usuario.service.IUsuarioService;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
 import br.com.ifba.gamelog.infrastructure.util.ResultError;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -25,6 +27,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -47,6 +50,7 @@ import java.util.UUID;
 public class UsuarioController {
 
     private final IUsuarioService usuarioService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Registra um novo usuário no sistema.
@@ -92,6 +96,24 @@ public class UsuarioController {
         return ResponseEntity.ok(usuarioService.findAll());
     }
 
+    /**
+     * Recupera todos os usuários em streaming (NDJSON): um objeto JSON por linha,
+     * escrito à medida que é lido do banco. Selecionado com {@code Accept: application/x-ndjson}.
+     *
+     * @return Corpo escrito de forma incremental.
+     */
+    @Operation(summary = "Listar Tudo (Streaming NDJSON)", description = "Mesmo conteúdo da listagem completa, enviado como NDJSON (um objeto por linha) à medida que é lido do banco. Envie o header Accept: application/x-ndjson.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming iniciado com sucesso.",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = UsuarioResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.<UsuarioResponseDTO>write(usuarioService::streamAll));
+    }
+
     /**
      * Recupera uma lista de usuários com paginação e ordenação.
      *
@@ -109,6 +131,26 @@ public class UsuarioController {
         return ResponseEntity.ok(usuarioService.findAllPaged(pageable));
     }
 
+    /**
+     * Recupera usuários com paginação por cursor (keyset).
+     * Ativado pela presença do parâmetro {@code cursor} (vazio na primeira página).
+     *
+     * @param cursor   Cursor opaco retornado em {@code nextCursor} pela página anterior.
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Uma página com o cursor da próxima.
+     */
+    @Operation(summary = "Listar Paginado por Cursor", description = "Paginação por cursor (keyset): envie ?cursor= na primeira página e depois o 'nextCursor' recebido. Não calcula o total, e páginas profundas custam o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página recuperada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos.")
+    })
+    @GetMapping(value = "/paginado", params = "cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<UsuarioResponseDTO>> findAllByCursor(
+            @RequestParam String cursor,
+            @PageableDefault(size = 10, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(usuarioService.findAllByCursor(cursor, pageable));
+    }
+
     /**
      * Busca os detalhes de um usuário pelo seu ID único (UUID).
      *
@@ -0,0 +1,18 @@
+package br.com.ifba.gamelog.features.usuario.event;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@code UsuarioService} quando o papel do usuário muda ou o usuário é removido.
+ * <p>
+ * O cache de papéis da autenticação escuta este evento após o commit da transação: descartar a
+ * entrada antes disso deixaria uma requisição concorrente recarregar (e guardar por todo o TTL)
+ * o estado ainda não confirmado.
+ * </p>
+ *
+ * @param usuarioId ID do usuário alterado.
+ */
+public record UsuarioAcessoAlteradoEvent(
+        UUID usuarioId
+) {
+}
@@ -1,14 +1,26 @@
 package br.com.ifba.gamelog.features.usuario.repository;
 
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IUsuarioRepository extends JpaRepository<Usuario, UUID> {
@@ -29,7 +41,53 @@ public interface IUsuarioRepository extends JpaRepository<Usuario, UUID> {
      */
     Optional<Usuario> findByEmail(String email);
 
+    /**
+     * Busca apenas o papel atual do usuário (autenticação), sem carregar a entidade.
+     *
+     * @param id UUID do usuário.
+     * @return Papel do usuário, ou vazio se ele não existir.
+     */
+    @Query("SELECT u.papel FROM Usuario u WHERE u.id = :id")
+    Optional<UsuarioRole> findPapelById(@Param("id") UUID id);
+
     @Override
     @EntityGraph(attributePaths = {"perfil"})
     Page<Usuario> findAll(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Busca uma janela de registros a partir de uma posição (keyset/seek pagination).
+     * Não executa {@code count(*)} e o custo independe da profundidade da página.
+     *
+     * @param position Posição após o último item da página anterior.
+     * @param sort     Ordenação (o ID é adicionado como desempate).
+     * @param limit    Tamanho da janela.
+     * @return Janela de registros.
+     */
+    @EntityGraph(attributePaths = {"perfil"})
+    Window<Usuario> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Percorre todos os usuários sem carregá-los de uma vez na memória.
+     * As linhas chegam do driver em blocos ({@link EntityStreams#FETCH_SIZE}) e as entidades
+     * não guardam snapshot para dirty checking (somente leitura).
+     * O perfil vem na mesma linha (JOIN FETCH), evitando uma consulta por usuário.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EntityStreams.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.perfil")
+    Stream<Usuario> streamAll();
+
+    /**
+     * Bloqueia a linha do usuário (SELECT ... FOR UPDATE) até o fim da transação.
+     * Serializa operações que precisam criar dados derivados do usuário uma única vez.
+     *
+     * @return ID do usuário, ou vazio se ele não existir.
+     */
+    @Query(value = "SELECT id FROM usuarios WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> bloquearPorId(@Param("id") UUID id);
+}
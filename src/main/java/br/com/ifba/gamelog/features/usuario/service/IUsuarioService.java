@@ -4,11 +4,13 @@ import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioAtualizarRequestD
 import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioCriarRequestDTO;
 import br.com.ifba.gamelog.features.usuario.dto.response.UsuarioResponseDTO;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface que define o contrato para o serviço de gerenciamento de usuários.
@@ -35,6 +37,12 @@ public interface IUsuarioService {
      */
     List<UsuarioResponseDTO> findAll();
 
+    /**
+     * Percorre todos os usuários, entregando um DTO por vez (streaming), sem montar a lista em memória.
+     * @param consumidor Recebe cada DTO assim que é lido do banco.
+     */
+    void streamAll(Consumer<UsuarioResponseDTO> consumidor);
+
     /**
      * Lista os usuários com suporte a paginação.
      *
@@ -43,6 +51,14 @@ public interface IUsuarioService {
      */
     Page<UsuarioResponseDTO> findAllPaged(Pageable pageable);
 
+    /**
+     * Lista os usuários com paginação por cursor (keyset), sem {@code count(*)}.
+     * @param cursor Cursor opaco retornado pela página anterior (vazio na primeira página).
+     * @param pageable Tamanho e ordenação (o número da página é ignorado).
+     * @return Página com o cursor da próxima.
+     */
+    CursorPage<UsuarioResponseDTO> findAllByCursor(String cursor, Pageable pageable);
+
     /**
      * Busca um usuário específico pelo seu ID.
      *
@@ -1,26 +1,36 @@
 package br.com.ifba.gamelog.features.usuario.service;
 
+import br.com.ifba.gamelog.features.biblioteca.service.IBibliotecaResumoService;
 import br.com.ifba.gamelog.features.perfil.model.Perfil;
 import br.com.ifba.gamelog.features.perfil.repository.IPerfilRepository;
 import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioAtualizarRequestDTO;
 import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioCriarRequestDTO;
 import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioPapelRequestDTO;
 import br.com.ifba.gamelog.features.usuario.dto.response.UsuarioResponseDTO;
+import br.com.ifba.gamelog.features.usuario.event.UsuarioAcessoAlteradoEvent;
 import br.com.ifba.gamelog.features.usuario.mapper.UsuarioMapper;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
 import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
 import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.streaming.EntityStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +48,9 @@ public class UsuarioService implements IUsuarioService {
     private final IPerfilRepository perfilRepository;
     private final UsuarioMapper mapper;
     private final PasswordEncoder passwordEncoder;
+    private final IBibliotecaResumoService bibliotecaResumoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     /**
      * Cria um novo usuário e automaticamente gera um perfil vazio associado.
@@ -83,6 +96,20 @@ public class UsuarioService implements IUsuarioService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Percorre todos os usuários entregando um DTO por vez ao consumidor (modo NDJSON).
+     * O contexto de persistência é limpo periodicamente, então o uso de memória
+     * não cresce com o tamanho da tabela.
+     *
+     * @param consumidor Recebe cada DTO assim que a linha é lida do banco.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UsuarioResponseDTO> consumidor) {
+        EntityStreams.forEach(repository.streamAll(), entityManager,
+                usuario -> consumidor.accept(mapper.toResponse(usuario)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<UsuarioResponseDTO> findAllPaged(Pageable pageable) {
@@ -90,6 +117,19 @@ public class UsuarioService implements IUsuarioService {
                 .map(mapper::toResponse);
     }
 
+    /**
+     * Lista usuários com paginação por cursor (keyset).
+     * Cada página busca apenas os registros após o cursor, sem OFFSET e sem count(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UsuarioResponseDTO> findAllByCursor(String cursor, Pageable pageable) {
+        Window<Usuario> window = repository.findAllBy(
+                CursorCodec.decode(cursor), CursorCodec.validarOrdenacao(pageable.getSort(), Usuario.class),
+                Limit.of(pageable.getPageSize()));
+        return CursorPage.of(window, pageable.getPageSize(), mapper::toResponse);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UsuarioResponseDTO findById(UUID id) {
@@ -129,6 +169,9 @@ public class UsuarioService implements IUsuarioService {
             throw new BusinessException(BusinessExceptionMessage.NOT_FOUND.getMessage());
         }
         repository.deleteById(id);
+        bibliotecaResumoService.remover(id);
+        // Tokens do usuário deixam de autenticar assim que a exclusão é confirmada
+        eventPublisher.publishEvent(new UsuarioAcessoAlteradoEvent(id));
         return id;
     }
 
@@ -140,6 +183,8 @@ public class UsuarioService implements IUsuarioService {
 
         usuario.setPapel(dto.papel());
         Usuario usuarioAtualizado = repository.save(usuario);
+        // Após o commit, o próximo request do usuário já é autorizado com o novo papel
+        eventPublisher.publishEvent(new UsuarioAcessoAlteradoEvent(id));
 
         return mapper.toResponse(usuarioAtualizado);
     }
@@ -15,7 +15,9 @@ public enum BusinessExceptionMessage {
     INVALID_CREDENTIALS("Credenciais inválidas."),
     USER_NOT_FOUND("Usuário não encontrado."),
     ID_MISMATCH("O ID informado na URL não corresponde ao ID informado no corpo da requisição."),
-    CLASS_IN_USE("O registro não pode ser excluído pois está vinculado a outros dados.");
+    CLASS_IN_USE("O registro não pode ser excluído pois está vinculado a outros dados."),
+    INVALID_CURSOR_SORT("A ordenação por '%s' não é suportada na paginação por cursor."),
+    EXTERNAL_SERVICE_UNAVAILABLE("O serviço externo está temporariamente indisponível. Tente novamente em instantes.");
 
     private final String message;
 
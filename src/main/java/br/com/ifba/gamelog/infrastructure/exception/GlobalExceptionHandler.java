@@ -1,5 +1,6 @@
 package br.com.ifba.gamelog.infrastructure.exception;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils; // Precisa da dependencia commons-lang3 no pom.xml
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +16,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.TimeoutException;
+
 @Slf4j(topic = "GLOBAL_EXCEPTION_HANDLER")
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
@@ -59,6 +62,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildErrorMessage(exception, errorMessage, HttpStatus.INTERNAL_SERVER_ERROR, request);
     }
 
+    /**
+     * Serviço externo indisponível: circuito aberto ou tempo de resposta esgotado (Erro 503)
+     */
+    @ExceptionHandler({CallNotPermittedException.class, TimeoutException.class})
+    public ResponseEntity<Object> handleExternalServiceUnavailable(Exception ex, WebRequest request) {
+        final String errorMessage = BusinessExceptionMessage.EXTERNAL_SERVICE_UNAVAILABLE.getMessage();
+        log.warn("Serviço externo indisponível: {}", ex.getMessage());
+        return buildErrorMessage(ex, errorMessage, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     /**
      * Trata as exceções de negócio (BusinessException)
      */
@@ -76,6 +89,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         } else if (errorMessage.contains("já está em uso") ||
                 errorMessage.contains(BusinessExceptionMessage.CLASS_IN_USE.getMessage())) {
             status = HttpStatus.CONFLICT;
+        } else if (errorMessage.contains(BusinessExceptionMessage.EXTERNAL_SERVICE_UNAVAILABLE.getMessage())) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
         }
 
         log.error("Erro de Negócio: {}", errorMessage);
@@ -1,5 +1,6 @@
 package br.com.ifba.gamelog.infrastructure.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.MappedSuperclass;
@@ -20,8 +21,10 @@ public class PersistenceEntity implements Serializable {
     @UuidGenerator(style = UuidGenerator.Style.AUTO)
     private UUID id;
 
-    // Campos de Auditoria
+    // Campos de Auditoria (sempre preenchidos no @PrePersist)
+    @Column(nullable = false)
     private Instant createdAt;
+    @Column(nullable = false)
     private Instant updatedAt;
 
     // Métodos para preencher automaticamente as datas
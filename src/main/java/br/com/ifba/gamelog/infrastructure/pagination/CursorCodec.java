@@ -0,0 +1,201 @@
+package br.com.ifba.gamelog.infrastructure.pagination;
+
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Codifica/decodifica a posição de uma página por cursor em uma string opaca (Base64 URL-safe).
+ * <p>
+ * O cursor guarda o valor das chaves de ordenação do último item (ex: título + id),
+ * junto com o tipo de cada valor, para que a próxima consulta compare os tipos corretos.
+ * Enums guardam o nome da constante e o tipo do enum.
+ * </p>
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final String PREFIXO_ENUM = "enum:";
+
+    // Só enums da própria aplicação podem ser reconstruídos a partir do cursor
+    private static final String PACOTE_BASE = "br.com.ifba.gamelog.";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Gera o cursor opaco a partir da posição do último item da página.
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Apenas posições keyset são suportadas.");
+        }
+        Map<String, List<String>> chaves = new LinkedHashMap<>();
+        keyset.getKeys().forEach((chave, valor) -> chaves.put(chave, Arrays.asList(tipo(valor), texto(valor))));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(JSON.writeValueAsBytes(chaves));
+        } catch (Exception e) {
+            throw new IllegalStateException("Erro ao gerar cursor de paginação.", e);
+        }
+    }
+
+    /**
+     * Converte o cursor recebido na posição de início da consulta.
+     * Cursor vazio ou nulo significa a primeira página.
+     *
+     * @throws BusinessException se o cursor for inválido.
+     */
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, List<String>> chaves = JSON.readValue(new String(json, StandardCharsets.UTF_8), new TypeReference<>() {});
+            Map<String, Object> valores = new LinkedHashMap<>();
+            chaves.forEach((chave, tipoValor) -> valores.put(chave, valor(tipoValor.get(0), tipoValor.get(1))));
+            return ScrollPosition.forward(valores);
+        } catch (Exception e) {
+            throw new BusinessException(BusinessExceptionMessage.INVALID_DATA.getMessage(), e);
+        }
+    }
+
+    /**
+     * Valida a ordenação pedida para uma consulta por cursor. Cada propriedade precisa existir
+     * na entidade, ter um tipo que o cursor sabe guardar e não aceitar nulo: uma chave nula
+     * viraria um predicado {@code x > null}, que nunca é verdadeiro e encerraria a paginação
+     * sem erro. Caminhos como {@code jogo.titulo} só passam por associações obrigatórias.
+     *
+     * @param sort     Ordenação recebida na requisição.
+     * @param entidade Classe da entidade consultada.
+     * @return A própria ordenação, se válida.
+     * @throws BusinessException se alguma propriedade não puder ser chave do cursor.
+     */
+    public static Sort validarOrdenacao(Sort sort, Class<?> entidade) {
+        for (Sort.Order ordem : sort) {
+            Field campo = campoObrigatorio(entidade, ordem.getProperty());
+            if (campo == null || !tipoSuportado(campo.getType())) {
+                throw new BusinessException(String.format(
+                        BusinessExceptionMessage.INVALID_CURSOR_SORT.getMessage(), ordem.getProperty()));
+            }
+        }
+        return sort;
+    }
+
+    /**
+     * Segue o caminho da propriedade, devolvendo o último campo se todos os campos do
+     * caminho forem obrigatórios (ou nulo se algum não existir ou aceitar nulo).
+     */
+    private static Field campoObrigatorio(Class<?> entidade, String caminho) {
+        Field campo = null;
+        Class<?> tipo = entidade;
+        for (String propriedade : caminho.split("\\.")) {
+            campo = campo(tipo, propriedade);
+            if (campo == null || !obrigatorio(campo)) {
+                return null;
+            }
+            tipo = campo.getType();
+        }
+        return campo;
+    }
+
+    private static Field campo(Class<?> entidade, String propriedade) {
+        for (Class<?> tipo = entidade; tipo != null && tipo != Object.class; tipo = tipo.getSuperclass()) {
+            for (Field campo : tipo.getDeclaredFields()) {
+                if (campo.getName().equals(propriedade)) {
+                    return campo;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean tipoSuportado(Class<?> tipo) {
+        return tipo.isEnum() || List.of(UUID.class, Instant.class, Long.class, long.class, Integer.class, int.class,
+                Boolean.class, boolean.class, String.class, BigDecimal.class, Double.class, double.class).contains(tipo);
+    }
+
+    private static boolean obrigatorio(Field campo) {
+        Column coluna = campo.getAnnotation(Column.class);
+        JoinColumn juncao = campo.getAnnotation(JoinColumn.class);
+        return campo.getType().isPrimitive()
+                || campo.isAnnotationPresent(Id.class)
+                || campo.isAnnotationPresent(NotNull.class)
+                || coluna != null && !coluna.nullable()
+                || juncao != null && !juncao.nullable();
+    }
+
+    private static String texto(Object valor) {
+        if (valor == null) return null;
+        if (valor instanceof Enum<?> constante) return constante.name();
+        return valor.toString();
+    }
+
+    private static String tipo(Object valor) {
+        if (valor == null) return "null";
+        if (valor instanceof UUID) return "uuid";
+        if (valor instanceof Instant) return "instant";
+        if (valor instanceof Long) return "long";
+        if (valor instanceof Integer) return "int";
+        if (valor instanceof Boolean) return "bool";
+        if (valor instanceof String) return "str";
+        if (valor instanceof BigDecimal) return "decimal";
+        if (valor instanceof Double) return "double";
+        if (valor instanceof Enum<?> constante) return PREFIXO_ENUM + constante.getDeclaringClass().getName();
+        throw new IllegalArgumentException("Tipo de chave de ordenação não suportado: " + valor.getClass().getSimpleName());
+    }
+
+    private static Object valor(String tipo, String valor) {
+        if (tipo.startsWith(PREFIXO_ENUM)) {
+            return constante(tipo.substring(PREFIXO_ENUM.length()), valor);
+        }
+        return switch (tipo) {
+            case "uuid" -> UUID.fromString(valor);
+            case "instant" -> Instant.parse(valor);
+            case "long" -> Long.valueOf(valor);
+            case "int" -> Integer.valueOf(valor);
+            case "bool" -> Boolean.valueOf(valor);
+            case "str" -> valor;
+            case "decimal" -> new BigDecimal(valor);
+            case "double" -> Double.valueOf(valor);
+            case "null" -> null;
+            default -> throw new IllegalArgumentException("Tipo de chave desconhecido: " + tipo);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object constante(String classe, String nome) {
+        if (!classe.startsWith(PACOTE_BASE)) {
+            throw new IllegalArgumentException("Tipo de enum não permitido no cursor: " + classe);
+        }
+        try {
+            Class<?> tipo = Class.forName(classe, false, CursorCodec.class.getClassLoader());
+            if (!tipo.isEnum()) {
+                throw new IllegalArgumentException("Tipo de chave não é um enum: " + classe);
+            }
+            return Enum.valueOf((Class<? extends Enum>) tipo, nome);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Tipo de enum desconhecido: " + classe, e);
+        }
+    }
+}
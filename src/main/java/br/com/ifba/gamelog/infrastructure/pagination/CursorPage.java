@@ -0,0 +1,49 @@
+package br.com.ifba.gamelog.infrastructure.pagination;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados navegada por cursor (keyset/seek pagination).
+ * <p>
+ * Diferente de {@link org.springframework.data.domain.Page}, não informa o total de registros
+ * (evitando o {@code count(*)}) e cada página custa o mesmo, independente da profundidade.
+ * </p>
+ *
+ * @param content    Itens da página.
+ * @param size       Tamanho solicitado.
+ * @param hasNext    Indica se existe uma próxima página.
+ * @param nextCursor Cursor opaco para buscar a próxima página (null na última).
+ * @param <T>        Tipo do item.
+ */
+public record CursorPage<T>(
+        @JsonProperty("content")
+        List<T> content,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("hasNext")
+        boolean hasNext,
+
+        @JsonProperty("nextCursor")
+        String nextCursor
+) {
+
+    /**
+     * Converte um {@link Window} do Spring Data em página por cursor, mapeando os itens.
+     *
+     * @param window Janela retornada pelo repositório.
+     * @param size   Tamanho solicitado.
+     * @param mapper Conversão entidade -> DTO.
+     */
+    public static <E, T> CursorPage<T> of(Window<E> window, int size, Function<E, T> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? CursorCodec.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPage<>(window.getContent().stream().map(mapper).toList(), size, window.hasNext(), nextCursor);
+    }
+}
@@ -19,12 +19,13 @@ public class TokenAuthenticationService {
         String token = recoverToken(request);
 
         if (token != null) {
-            // 1. Valida o token e recupera o ID (Subject)
-            String usuarioId = tokenService.validateToken(token);
+            // 1. Valida o token uma única vez e recupera ID (Subject) e Papel (Role)
+            TokenClaims claims = tokenService.getVerifiedClaims(token);
 
-            if (usuarioId != null) {
+            if (claims != null && claims.subject() != null) {
+                String usuarioId = claims.subject();
                 // 2. Recupera o Papel (Role)
-                String role = tokenService.getRoleFromToken(token);
+                String role = claims.role();
 
                 // 3. Monta a autoridade com prefixo ROLE_ (Obrigatório para o Spring)
                 String authorityName = "ROLE_" + (role != null ? role : "USUARIO");
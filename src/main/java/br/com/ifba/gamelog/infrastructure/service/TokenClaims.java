@@ -0,0 +1,25 @@
+package br.com.ifba.gamelog.infrastructure.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Claims de um JWT já verificado (assinatura e expiração), lidas uma única vez.
+ *
+ * @param subject   ID do usuário.
+ * @param email     Email do usuário.
+ * @param role      Papel no momento da emissão do token.
+ * @param expiracao Instante de expiração do token.
+ */
+public record TokenClaims(String subject, String email, String role, Instant expiracao) {
+
+    static TokenClaims of(Claims claims) {
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+}
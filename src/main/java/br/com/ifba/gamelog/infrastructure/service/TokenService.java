@@ -1,16 +1,35 @@
 package br.com.ifba.gamelog.infrastructure.service;
 
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
-import io.jsonwebtoken.Claims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 
+/**
+ * Emissão e verificação dos JWT da API.
+ * <p>
+ * O parser é montado uma vez na inicialização (é imutável e seguro entre threads) e cada token é
+ * lido uma única vez por verificação, devolvendo um {@link TokenClaims}. Tokens verificados
+ * recentemente ficam em um cache limitado, chaveado pelo token completo (cabeçalho, payload e
+ * assinatura), então um acerto exige exatamente os mesmos bytes já verificados; a entrada expira
+ * no TTL do cache ou na expiração do próprio token, o que vier primeiro.
+ * </p>
+ */
+@Slf4j
 @Service
 public class TokenService {
 
@@ -19,12 +38,46 @@ public class TokenService {
     private static final String SECRET_STRING = "5v8y/B?E(H+MbQeThWmZq4t7w9z$C&F)J@NcRfUjXn2r5u8x/A%D*G-KaPdSgVkY";
 
     private Key secretKey;
+    private JwtParser parser;
     private static final long EXPIRATION_TIME = 864_000_000; // 10 dias
 
+    private final Cache<String, TokenClaims> verificados;
+
+    public TokenService(
+            @Value("${security.jwt.verified-cache.max-size:10000}") long tamanhoCache,
+            @Value("${security.jwt.verified-cache.ttl:PT5M}") Duration ttlCache
+    ) {
+        long ttlNanos = ttlCache.toNanos();
+        this.verificados = tamanhoCache > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(tamanhoCache)
+                        .expireAfter(new Expiry<String, TokenClaims>() {
+                            @Override
+                            public long expireAfterCreate(String token, TokenClaims claims, long agora) {
+                                return Math.min(ttlNanos, nanosAteExpirar(claims));
+                            }
+
+                            @Override
+                            public long expireAfterUpdate(String token, TokenClaims claims, long agora, long restante) {
+                                return expireAfterCreate(token, claims, agora);
+                            }
+
+                            @Override
+                            public long expireAfterRead(String token, TokenClaims claims, long agora, long restante) {
+                                return restante;
+                            }
+                        })
+                        .build()
+                : null;
+    }
+
     @PostConstruct
     public void init() {
         // Converte a string segura em uma chave criptográfica real
         this.secretKey = Keys.hmacShaKeyFor(SECRET_STRING.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey) // Valida com a MESMA chave
+                .build();
     }
 
     public String generateToken(Usuario usuario) {
@@ -39,30 +92,53 @@ public class TokenService {
                 .compact();
     }
 
-    public String validateToken(String token) {
-        try {
-            // Se o token estiver expirado ou a assinatura não bater, lança exceção
-            return getClaims(token).getSubject();
-        } catch (Exception e) {
-            // Log para debug (opcional)
-            System.err.println("Token inválido: " + e.getMessage());
+    /**
+     * Valida assinatura e expiração e devolve as claims em uma única leitura do token.
+     *
+     * @return Claims verificadas, ou null se o token for inválido ou estiver expirado.
+     */
+    public TokenClaims getVerifiedClaims(String token) {
+        if (token == null || token.isBlank()) {
             return null;
         }
+        if (verificados != null) {
+            TokenClaims emCache = verificados.getIfPresent(token);
+            // A remoção de entradas expiradas é preguiçosa: a expiração do token é conferida no acerto
+            if (emCache != null && nanosAteExpirar(emCache) > 0) {
+                return emCache;
+            }
+        }
+        TokenClaims claims = verificar(token);
+        if (claims != null && verificados != null) {
+            verificados.put(token, claims);
+        }
+        return claims;
+    }
+
+    public String validateToken(String token) {
+        TokenClaims claims = getVerifiedClaims(token);
+        return claims != null ? claims.subject() : null;
     }
 
     public String getRoleFromToken(String token) {
+        TokenClaims claims = getVerifiedClaims(token);
+        return claims != null ? claims.role() : null;
+    }
+
+    private TokenClaims verificar(String token) {
         try {
-            return getClaims(token).get("role", String.class);
-        } catch (Exception e) {
+            // Se o token estiver expirado ou a assinatura não bater, lança exceção
+            return TokenClaims.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token inválido: {}", e.getMessage());
             return null;
         }
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey) // Valida com a MESMA chave
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static long nanosAteExpirar(TokenClaims claims) {
+        if (claims.expiracao() == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, Duration.between(Instant.now(), claims.expiracao()).toNanos());
     }
-}
\ No newline at end of file
+}
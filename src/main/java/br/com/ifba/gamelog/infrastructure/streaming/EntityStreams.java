@@ -0,0 +1,43 @@
+package br.com.ifba.gamelog.infrastructure.streaming;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Utilitário para percorrer resultados de consultas {@link Stream} do Spring Data
+ * mantendo o uso de memória constante.
+ * <p>
+ * O contexto de persistência é limpo periodicamente, pois caso contrário todas as
+ * entidades lidas continuariam referenciadas pelo {@link EntityManager} até o fim da transação.
+ * </p>
+ */
+public final class EntityStreams {
+
+    // Mesmo valor do fetch size das consultas de streaming
+    public static final int TAMANHO_LOTE = 500;
+    public static final String FETCH_SIZE = "500";
+
+    private EntityStreams() {
+    }
+
+    /**
+     * Consome o stream (fechando-o ao final), entregando cada entidade ao consumidor
+     * e limpando o contexto de persistência a cada {@link #TAMANHO_LOTE} entidades.
+     * Deve ser chamado dentro de uma transação.
+     */
+    public static <E> void forEach(Stream<E> stream, EntityManager entityManager, Consumer<E> consumidor) {
+        try (stream) {
+            Iterator<E> iterator = stream.iterator();
+            int lidos = 0;
+            while (iterator.hasNext()) {
+                consumidor.accept(iterator.next());
+                if (++lidos % TAMANHO_LOTE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.ifba.gamelog.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Escreve respostas no formato NDJSON ({@code application/x-ndjson}): um objeto JSON por linha,
+ * enviado ao cliente à medida que é lido do banco.
+ * <p>
+ * Usa o {@link ObjectMapper} do Spring, então o JSON de cada linha é idêntico ao
+ * dos endpoints tradicionais.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NdjsonResponseWriter {
+
+    // Força o envio ao cliente a cada N linhas
+    private static final int FLUSH_A_CADA = 100;
+
+    private final ObjectWriter writer;
+
+    public NdjsonResponseWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * Cria o corpo da resposta a partir de um produtor que entrega os itens um a um.
+     *
+     * @param produtor Função que percorre os dados e chama o consumidor para cada item
+     *                 (normalmente um método {@code streamAll} de serviço).
+     * @return Corpo da resposta para ser devolvido pelo controller.
+     */
+    public <T> StreamingResponseBody write(Consumer<Consumer<T>> produtor) {
+        return outputStream -> {
+            int[] linhas = {0};
+            try {
+                produtor.accept(item -> escreverLinha(outputStream, item, ++linhas[0]));
+            } catch (UncheckedIOException e) {
+                // Cliente desconectou no meio do streaming
+                log.warn("Streaming NDJSON interrompido após {} linhas: {}", linhas[0], e.getMessage());
+                return;
+            }
+            outputStream.flush();
+        };
+    }
+
+    private void escreverLinha(OutputStream outputStream, Object item, int linha) {
+        try {
+            outputStream.write(writer.writeValueAsBytes(item));
+            outputStream.write('\n');
+            if (linha % FLUSH_A_CADA == 0) {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.ifba.gamelog.infrastructure.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utilitário de normalização de texto para os índices de busca em memória.
+ * <p>
+ * Remove acentos, converte para minúsculas e quebra o texto em termos alfanuméricos,
+ * de forma que "Pokémon", "POKEMON" e "pokemon" resultem no mesmo termo.
+ * </p>
+ */
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas, preservando os espaços.
+     *
+     * @param texto Texto original (pode ser nulo).
+     * @return Texto normalizado, ou string vazia se o texto for nulo.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) return "";
+        String semAcento = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcento.toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Quebra o texto em termos normalizados (sem acentos, minúsculos e sem pontuação).
+     *
+     * @param texto Texto original (pode ser nulo).
+     * @return Lista de termos na ordem em que aparecem.
+     */
+    public static List<String> tokenizar(String texto) {
+        List<String> termos = new ArrayList<>();
+        for (String termo : SEPARADORES.split(normalizar(texto))) {
+            if (!termo.isEmpty()) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    /**
+     * Gera os trigramas de um termo (com bordas), usados para tolerância a erros de digitação.
+     * Exemplo: "zelda" -> {"  z", " ze", "zel", "eld", "lda", "da "}.
+     *
+     * @param termo Termo já normalizado.
+     * @return Conjunto de trigramas.
+     */
+    public static Set<String> trigramas(String termo) {
+        String comBordas = "  " + termo + " ";
+        Set<String> trigramas = new HashSet<>();
+        for (int i = 0; i + 3 <= comBordas.length(); i++) {
+            trigramas.add(comBordas.substring(i, i + 3));
+        }
+        return trigramas;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.ifba.gamelog.config.security;
+
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@DisplayName("Testes para JWTLoginFilter")
+class JWTLoginFilterTest {
+
+    private final IUsuarioRepository repository = Mockito.mock(IUsuarioRepository.class);
+    private final TokenService tokenService = new TokenService(100, Duration.ofMinutes(5));
+    private final UUID usuarioId = UUID.randomUUID();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        tokenService.init();
+        Usuario usuario = new Usuario("User", "jwt@test.com", "123", UsuarioRole.USUARIO, null, null, null, null);
+        usuario.setId(usuarioId);
+        token = tokenService.generateToken(usuario);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("monta o principal pelas claims e consulta o papel no banco uma vez até a invalidação")
+    void doFilter_WhenCacheEnabled_LoadsRoleOncePerInvalidation() throws Exception {
+        UsuarioPapelCache papelCache = new UsuarioPapelCache(repository, new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 100);
+        JWTLoginFilter filter = new JWTLoginFilter(tokenService, papelCache);
+        Mockito.when(repository.findPapelById(usuarioId)).thenReturn(Optional.of(UsuarioRole.USUARIO));
+
+        for (int i = 0; i < 3; i++) {
+            Authentication auth = filtrar(filter);
+            Assertions.assertThat(auth.getName()).isEqualTo(usuarioId.toString());
+            Assertions.assertThat(((UsuarioAutenticado) auth.getPrincipal()).email()).isEqualTo("jwt@test.com");
+        }
+        Mockito.verify(repository, Mockito.times(1)).findPapelById(usuarioId);
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.any());
+
+        // Troca de papel: o token antigo passa a valer com o papel novo
+        Mockito.when(repository.findPapelById(usuarioId)).thenReturn(Optional.of(UsuarioRole.MODERADOR));
+        papelCache.invalidar(usuarioId);
+        Assertions.assertThat(filtrar(filter).getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_MODERADOR");
+
+        // Exclusão: o token deixa de autenticar
+        Mockito.when(repository.findPapelById(usuarioId)).thenReturn(Optional.empty());
+        papelCache.invalidar(usuarioId);
+        Assertions.assertThat(filtrar(filter)).isNull();
+    }
+
+    @Test
+    @DisplayName("com o cache desabilitado, o papel vem do token e o banco não é consultado")
+    void doFilter_WhenCacheDisabled_UsesTokenClaimsOnly() throws Exception {
+        JWTLoginFilter filter = new JWTLoginFilter(tokenService,
+                new UsuarioPapelCache(repository, new SimpleMeterRegistry(), false, Duration.ofMinutes(1), 100));
+
+        Assertions.assertThat(filtrar(filter).getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USUARIO");
+        token = token + "x";
+        Assertions.assertThat(filtrar(filter)).isNull();
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    private Authentication filtrar(JWTLoginFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/listas");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -1,18 +1,27 @@
 package br.com.ifba.gamelog.features.avaliacao.repository;
 
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
 import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
-@DataJpaTest
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @DisplayName("Testes para AvaliacaoRepository")
 class AvaliacaoRepositoryTest {
@@ -20,12 +29,14 @@ class AvaliacaoRepositoryTest {
     @Autowired private IAvaliacaoRepository avaliacaoRepository;
     @Autowired private IUsuarioRepository usuarioRepository;
     @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("existsByUsuarioIdAndJogoId retorna true quando avaliação existe")
     void existsByUsuarioIdAndJogoId_WhenReturnTrue() {
         // 1. Criar e salvar dependências
-        Usuario user = new Usuario("User", "user@test.com", "123", null, null, null);
+        Usuario user = new Usuario("User", "user@test.com", "123", UsuarioRole.USUARIO, null, null, null, null);
         usuarioRepository.save(user);
 
         Jogo jogo = new Jogo(999L, "Jogo Teste", "url", "desc", 2022, "PC", "RPG", null, null, null);
@@ -40,4 +51,31 @@ class AvaliacaoRepositoryTest {
 
         Assertions.assertThat(existe).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findPaginaByJogoId busca cada página com uma única consulta, independente da quantidade de avaliações")
+    void findPaginaByJogoId_WhenPaging_ExecutesOneStatementPerPage() {
+        Jogo jogo = jogoRepository.save(new Jogo(1000L, "Jogo Popular", "url", "desc", 2022, "PC", "RPG", null, null, null));
+        for (int i = 0; i < 6; i++) {
+            Usuario user = usuarioRepository.save(new Usuario("User " + i, "pag" + i + "@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+            avaliacaoRepository.save(new Avaliacao(i % 5 + 1, "Comentário " + i, user, jogo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<AvaliacaoResponseDTO> primeira = avaliacaoRepository.findPaginaByJogoId(jogo.getId(), Limit.of(4));
+        AvaliacaoResponseDTO ultima = primeira.get(primeira.size() - 1);
+        List<AvaliacaoResponseDTO> segunda = avaliacaoRepository.findPaginaByJogoId(jogo.getId(), ultima.createdAt(), ultima.id(), Limit.of(4));
+
+        Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+        Assertions.assertThat(primeira).hasSize(4);
+        Assertions.assertThat(segunda).hasSize(2);
+        Assertions.assertThat(primeira).extracting(AvaliacaoResponseDTO::id)
+                .doesNotContainAnyElementsOf(segunda.stream().map(AvaliacaoResponseDTO::id).toList());
+        // Sem perfil, o nome de exibição é o nome do usuário
+        Assertions.assertThat(primeira).allSatisfy(a -> Assertions.assertThat(a.nomeExibicao()).startsWith("User "));
+    }
+}
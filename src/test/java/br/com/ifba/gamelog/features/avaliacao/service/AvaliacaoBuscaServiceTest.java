@@ -0,0 +1,138 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoRepository;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoTermoRepository;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AvaliacaoBuscaService.class)
+@DisplayName("Testes para AvaliacaoBuscaService")
+class AvaliacaoBuscaServiceTest {
+
+    @Autowired private IAvaliacaoBuscaService buscaService;
+    @Autowired private IAvaliacaoRepository avaliacaoRepository;
+    @Autowired private IAvaliacaoTermoRepository termoRepository;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Jogo hades;
+    private Jogo doom;
+    private int usuarios;
+
+    @BeforeEach
+    void setUp() {
+        hades = jogoRepository.save(new Jogo(991L, "Hades", null, null, 2020, null, null, null, null, null));
+        doom = jogoRepository.save(new Jogo(992L, "Doom", null, null, 2016, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("buscar exige todos os termos, ignora acentos e ordena pela relevância")
+    void buscar_WhenTermsMatch_ReturnsRankedReviews() {
+        Avaliacao repetida = avaliar(hades, 5, "Boss fight incrível. Cada boss fight é única!");
+        Avaliacao longa = avaliar(hades, 4, "A boss fight final é boa, mas a performance cai bastante no último bioma do jogo");
+        avaliar(doom, 3, "Performance ótima, sem nenhum boss memorável");
+        avaliar(doom, 2, null);
+
+        Assertions.assertThat(buscar("BOSS FIGHT", null, null, null)).extracting(AvaliacaoResponseDTO::id)
+                .containsExactly(repetida.getId(), longa.getId());
+        Assertions.assertThat(buscar("performance", null, null, null)).hasSize(2);
+        Assertions.assertThat(buscar("performance", doom.getId(), null, null)).extracting(AvaliacaoResponseDTO::jogoId)
+                .containsExactly(doom.getId());
+        Assertions.assertThat(buscar("boss", null, 4, 5)).extracting(AvaliacaoResponseDTO::nota).containsOnly(4, 5);
+        Assertions.assertThat(buscar("boss inexistente", null, null, null)).isEmpty();
+        Assertions.assertThat(buscar("de que", null, null, null)).isEmpty();
+        // Palavras do domínio são ignoradas na consulta
+        Assertions.assertThat(buscar("jogo performance", null, null, null)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("buscar parte do termo mais raro e limita as candidatas às de maior peso")
+    void buscar_WhenCandidatesCapped_KeepsHeaviestReviews() {
+        Avaliacao curta = avaliar(hades, 5, "Roguelike viciante");
+        avaliar(hades, 4, "Roguelike com história boa e combate variado, arte bonita e trilha excelente");
+        Avaliacao repetida = avaliar(doom, 3, "Roguelike roguelike roguelike, tudo igual");
+
+        List<UUID> ids = termoRepository.buscar(Map.of("roguelike", 1.0), "roguelike", 2, null, null, null, 0, 10);
+
+        Assertions.assertThat(ids).containsExactlyInAnyOrder(curta.getId(), repetida.getId());
+        Assertions.assertThat(termoRepository.buscar(Map.of("roguelike", 1.0, "viciante", 2.0), "viciante", 2,
+                null, null, null, 0, 10)).containsExactly(curta.getId());
+    }
+
+    @Test
+    @DisplayName("buscar pagina sem contar o total, indicando se há próxima página")
+    void buscar_WhenMoreResultsThanPage_ReturnsSlice() {
+        for (int i = 0; i < 3; i++) {
+            avaliar(hades, 5, "Trilha sonora marcante");
+        }
+
+        Slice<AvaliacaoResponseDTO> primeira = buscaService.buscar("trilha", null, null, null, PageRequest.of(0, 2));
+        Slice<AvaliacaoResponseDTO> segunda = buscaService.buscar("trilha", null, null, null, PageRequest.of(1, 2));
+
+        Assertions.assertThat(primeira.getContent()).hasSize(2);
+        Assertions.assertThat(primeira.hasNext()).isTrue();
+        Assertions.assertThat(segunda.getContent()).hasSize(1);
+        Assertions.assertThat(segunda.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("o índice acompanha a edição e a exclusão das avaliações")
+    void atualizar_WhenReviewChanges_UpdatesIndex() {
+        Avaliacao avaliacao = avaliar(hades, 2, "Muitos bugs no lançamento");
+
+        String comentarioAnterior = avaliacao.getComentario();
+        avaliacao.setComentario("Depois do patch ficou excelente");
+        avaliacao.setNota(5);
+        buscaService.atualizar(avaliacaoRepository.save(avaliacao), comentarioAnterior, 2);
+
+        Assertions.assertThat(buscar("bugs", null, null, null)).isEmpty();
+        Assertions.assertThat(buscar("patch excelente", null, 5, 5)).hasSize(1);
+
+        String comentario = avaliacao.getComentario();
+        avaliacao.setNota(1);
+        buscaService.atualizar(avaliacaoRepository.save(avaliacao), comentario, 5);
+        Assertions.assertThat(buscar("patch", null, 5, 5)).isEmpty();
+        Assertions.assertThat(buscar("patch", null, 1, 1)).hasSize(1);
+
+        entityManager.flush();
+        entityManager.clear();
+        avaliacaoRepository.deleteById(avaliacao.getId());
+        avaliacaoRepository.flush();
+
+        Assertions.assertThat(termoRepository.count()).isZero();
+    }
+
+    private List<AvaliacaoResponseDTO> buscar(String consulta, UUID jogoId, Integer min, Integer max) {
+        return buscaService.buscar(consulta, jogoId, min, max, PageRequest.of(0, 10)).getContent();
+    }
+
+    private Avaliacao avaliar(Jogo jogo, int nota, String comentario) {
+        Usuario usuario = usuarioRepository.save(new Usuario("User", "busca" + usuarios++ + "@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        Avaliacao avaliacao = avaliacaoRepository.save(new Avaliacao(nota, comentario, usuario, jogo));
+        buscaService.indexar(avaliacao);
+        return avaliacao;
+    }
+}
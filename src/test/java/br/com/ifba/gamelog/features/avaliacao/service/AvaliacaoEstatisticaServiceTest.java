@@ -0,0 +1,86 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoEstatisticasResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.model.Avaliacao;
+import br.com.ifba.gamelog.features.avaliacao.repository.AvaliacaoEstatisticaProjection;
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoRepository;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AvaliacaoEstatisticaService.class)
+@DisplayName("Testes para AvaliacaoEstatisticaService")
+class AvaliacaoEstatisticaServiceTest {
+
+    @Autowired private IAvaliacaoEstatisticaService estatisticaService;
+    @Autowired private IAvaliacaoRepository avaliacaoRepository;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("registrar mantém quantidade, média e histograma ao criar, alterar e excluir avaliações")
+    void registrar_WhenReviewsChange_UpdatesSummary() {
+        Jogo jogo = jogoRepository.save(new Jogo(777L, "Hades", null, null, 2020, null, null, null, null, null));
+
+        estatisticaService.registrar(jogo.getId(), null, 5);
+        estatisticaService.registrar(jogo.getId(), null, 3);
+        estatisticaService.registrar(jogo.getId(), null, 4);
+        estatisticaService.registrar(jogo.getId(), 3, 1);
+        estatisticaService.registrar(jogo.getId(), 4, null);
+        // Os UPDATEs vão direto ao banco: a leitura deve vir de um contexto novo, como em outra requisição
+        entityManager.clear();
+
+        AvaliacaoEstatisticasResponseDTO estatisticas = estatisticaService.findByJogo(jogo.getId());
+
+        Assertions.assertThat(estatisticas.total()).isEqualTo(2);
+        Assertions.assertThat(estatisticas.media()).isEqualTo(3.0);
+        Assertions.assertThat(estatisticas.histograma()).isEqualTo(Map.of(1, 1L, 2, 0L, 3, 0L, 4, 0L, 5, 1L));
+    }
+
+    @Test
+    @DisplayName("findByJogo retorna estatísticas zeradas para jogo sem avaliações")
+    void findByJogo_WhenNoReviews_ReturnsEmptySummary() {
+        Jogo jogo = jogoRepository.save(new Jogo(778L, "Doom", null, null, 2016, null, null, null, null, null));
+
+        AvaliacaoEstatisticasResponseDTO estatisticas = estatisticaService.findByJogo(jogo.getId());
+
+        Assertions.assertThat(estatisticas.total()).isZero();
+        Assertions.assertThat(estatisticas.media()).isNull();
+    }
+
+    @Test
+    @DisplayName("calcularEstatisticas agrega as avaliações do jogo com o histograma das notas")
+    void calcularEstatisticas_WhenReviewsExist_ReturnsAggregate() {
+        Jogo jogo = jogoRepository.save(new Jogo(779L, "Celeste", null, null, 2018, null, null, null, null, null));
+        int i = 0;
+        for (int nota : new int[]{5, 5, 2}) {
+            Usuario usuario = usuarioRepository.save(new Usuario("User", "est" + i++ + "@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+            avaliacaoRepository.save(new Avaliacao(nota, null, usuario, jogo));
+        }
+        avaliacaoRepository.flush();
+
+        AvaliacaoEstatisticaProjection calculada = avaliacaoRepository.calcularEstatisticas(jogo.getId()).orElseThrow();
+
+        Assertions.assertThat(calculada.getTotal()).isEqualTo(3);
+        Assertions.assertThat(calculada.getSoma()).isEqualTo(12);
+        Assertions.assertThat(calculada.getNota5()).isEqualTo(2);
+        Assertions.assertThat(calculada.getNota2()).isEqualTo(1);
+        Assertions.assertThat(calculada.getNota1()).isZero();
+        Assertions.assertThat(avaliacaoRepository.calcularEstatisticas()).hasSize(1);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.ifba.gamelog.features.avaliacao.service;
+
+import br.com.ifba.gamelog.features.avaliacao.dto.request.AvaliacaoCriarRequestDTO;
+import br.com.ifba.gamelog.features.avaliacao.dto.response.AvaliacaoResponseDTO;
+import br.com.ifba.gamelog.features.avaliacao.mapper.AvaliacaoMapper;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.service.JogoTendenciaService;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({AvaliacaoService.class, AvaliacaoMapper.class, ObjectMapperUtil.class, AvaliacaoEstatisticaService.class,
+        AvaliacaoBuscaService.class, JogoTendenciaService.class})
+@DisplayName("Testes para AvaliacaoService")
+class AvaliacaoServiceTest {
+
+    @Autowired private IAvaliacaoService avaliacaoService;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Usuario usuario;
+    private Jogo jogo;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(new Usuario("User", "criar@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        jogo = jogoRepository.save(new Jogo(1101L, "Hades", null, null, 2020, null, null, null, null, null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("save grava a avaliação com referências e devolve o autor, sem carregar usuário nem jogo")
+    void save_WhenValid_DoesNotLoadReferences() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        AvaliacaoResponseDTO criada = avaliacaoService.save(new AvaliacaoCriarRequestDTO(5, "Ótimo", usuario.getId(), jogo.getId()));
+
+        Assertions.assertThat(criada.id()).isNotNull();
+        Assertions.assertThat(criada.usuarioId()).isEqualTo(usuario.getId());
+        Assertions.assertThat(criada.jogoId()).isEqualTo(jogo.getId());
+        Assertions.assertThat(criada.nomeExibicao()).isEqualTo("User");
+        Assertions.assertThat(criada.createdAt()).isNotNull();
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+        Assertions.assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("save recusa a segunda avaliação do mesmo usuário para o jogo pela restrição única")
+    void save_WhenDuplicate_ThrowsBusinessException() {
+        avaliacaoService.save(new AvaliacaoCriarRequestDTO(5, null, usuario.getId(), jogo.getId()));
+
+        Assertions.assertThatThrownBy(() -> avaliacaoService.save(new AvaliacaoCriarRequestDTO(3, null, usuario.getId(), jogo.getId())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("já avaliou este jogo");
+    }
+
+    @Test
+    @DisplayName("save traduz a chave estrangeira de jogo inexistente para registro não encontrado")
+    void save_WhenGameMissing_ThrowsNotFound() {
+        Assertions.assertThatThrownBy(() -> avaliacaoService.save(new AvaliacaoCriarRequestDTO(4, null, usuario.getId(), UUID.randomUUID())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(BusinessExceptionMessage.NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("save traduz a chave estrangeira de usuário inexistente para usuário não encontrado")
+    void save_WhenUserMissing_ThrowsUserNotFound() {
+        Assertions.assertThatThrownBy(() -> avaliacaoService.save(new AvaliacaoCriarRequestDTO(4, null, UUID.randomUUID(), jogo.getId())))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(BusinessExceptionMessage.USER_NOT_FOUND.getMessage());
+    }
+}
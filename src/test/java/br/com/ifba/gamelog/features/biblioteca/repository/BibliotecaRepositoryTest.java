@@ -1,21 +1,30 @@
 package br.com.ifba.gamelog.features.biblioteca.repository;
 
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
 import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
 import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
 import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @DisplayName("Testes para BibliotecaRepository")
 class BibliotecaRepositoryTest {
@@ -23,11 +32,13 @@ class BibliotecaRepositoryTest {
     @Autowired private IBibliotecaRepository bibliotecaRepository;
     @Autowired private IUsuarioRepository usuarioRepository;
     @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("findAllByUsuarioId retorna lista de itens da biblioteca")
     void findAllByUsuarioId_WhenSuccessful() {
-        Usuario user = usuarioRepository.save(new Usuario("User", "lib@test.com", "123", null, null, null));
+        Usuario user = usuarioRepository.save(new Usuario("User", "lib@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
         Jogo jogo = jogoRepository.save(new Jogo(888L, "Jogo Lib", "url", "desc", 2021, "PS5", "Ação", null, null, null));
 
         Biblioteca item = new Biblioteca(StatusJogo.JOGANDO, true, user, jogo);
@@ -39,4 +50,34 @@ class BibliotecaRepositoryTest {
         Assertions.assertThat(lista).hasSize(1);
         Assertions.assertThat(lista.get(0).getJogo().getTitulo()).isEqualTo("Jogo Lib");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findPaginaByUsuario filtra, ordena e pagina em uma consulta por página, sem carregar os jogos")
+    void findPaginaByUsuario_WhenFiltered_ReturnsDtoPage() {
+        Usuario user = usuarioRepository.save(new Usuario("User", "pagina@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        String[] titulos = {"Celeste", "Doom", "Hades", "Inside", "Limbo"};
+        for (int i = 0; i < titulos.length; i++) {
+            Jogo jogo = jogoRepository.save(new Jogo(900L + i, titulos[i], "capa" + i, null, 2020, null, null, null, null, null));
+            bibliotecaRepository.save(new Biblioteca(i < 4 ? StatusJogo.FINALIZADO : StatusJogo.JOGANDO, i % 2 == 0, user, jogo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        Page<BibliotecaResponseDTO> ultima = bibliotecaRepository.findPaginaByUsuario(user.getId(), StatusJogo.FINALIZADO, null,
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "jogo.titulo")));
+
+        Assertions.assertThat(ultima.getContent()).extracting(BibliotecaResponseDTO::tituloJogo).containsExactly("Celeste");
+        Assertions.assertThat(ultima.getTotalElements()).isEqualTo(4);
+        Assertions.assertThat(ultima.getContent().get(0).capaUrl()).isEqualTo("capa0");
+        // Última página incompleta: o total sai do offset, sem consulta de contagem
+        Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(estatisticas.getEntityLoadCount()).isZero();
+
+        Page<BibliotecaResponseDTO> favoritos = bibliotecaRepository.findPaginaByUsuario(user.getId(), null, true,
+                PageRequest.of(0, 2, Sort.by("jogo.titulo")));
+        Assertions.assertThat(favoritos.getContent()).extracting(BibliotecaResponseDTO::tituloJogo).containsExactly("Celeste", "Hades");
+        Assertions.assertThat(favoritos.getTotalElements()).isEqualTo(3);
+    }
+}
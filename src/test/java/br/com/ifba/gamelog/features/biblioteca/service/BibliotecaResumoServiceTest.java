@@ -0,0 +1,109 @@
+package br.com.ifba.gamelog.features.biblioteca.service;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.biblioteca.repository.BibliotecaResumoProjection;
+import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaRepository;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(BibliotecaResumoService.class)
+@DisplayName("Testes para BibliotecaResumoService")
+class BibliotecaResumoServiceTest {
+
+    @Autowired private IBibliotecaResumoService resumoService;
+    @Autowired private IBibliotecaRepository bibliotecaRepository;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("registrar mantém as contagens por status e favoritos ao adicionar, alterar e remover itens")
+    void registrar_WhenItemsChange_UpdatesSummary() {
+        Usuario usuario = usuarioRepository.save(new Usuario("User", "resumo1@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+
+        resumoService.registrar(usuario.getId(), null, false, StatusJogo.QUERO_JOGAR, false);
+        resumoService.registrar(usuario.getId(), null, false, StatusJogo.JOGANDO, true);
+        resumoService.registrar(usuario.getId(), null, false, StatusJogo.QUERO_JOGAR, true);
+        resumoService.registrar(usuario.getId(), StatusJogo.JOGANDO, true, StatusJogo.FINALIZADO, true);
+        resumoService.registrar(usuario.getId(), StatusJogo.QUERO_JOGAR, true, null, false);
+        // Os UPDATEs vão direto ao banco: a leitura deve vir de um contexto novo, como em outra requisição
+        entityManager.clear();
+
+        BibliotecaResumoResponseDTO resumo = resumoService.findByUsuario(usuario.getId());
+
+        Assertions.assertThat(resumo.total()).isEqualTo(2);
+        Assertions.assertThat(resumo.favoritos()).isEqualTo(1);
+        Assertions.assertThat(resumo.porStatus()).isEqualTo(Map.of(StatusJogo.QUERO_JOGAR, 1L, StatusJogo.JOGANDO, 0L,
+                StatusJogo.FINALIZADO, 1L, StatusJogo.DESISTIDO, 0L));
+    }
+
+    @Test
+    @DisplayName("removerJogo desconta os itens do jogo excluído dos resumos dos usuários")
+    void removerJogo_WhenGameInLibraries_DiscountsSummaries() {
+        Usuario usuario = usuarioRepository.save(new Usuario("User", "resumo2@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        Jogo hades = jogoRepository.save(new Jogo(1201L, "Hades", null, null, 2020, null, null, null, null, null));
+        Jogo doom = jogoRepository.save(new Jogo(1202L, "Doom", null, null, 2016, null, null, null, null, null));
+        adicionar(usuario, hades, StatusJogo.JOGANDO, true);
+        adicionar(usuario, doom, StatusJogo.JOGANDO, false);
+
+        resumoService.removerJogo(hades.getId());
+        entityManager.clear();
+
+        BibliotecaResumoResponseDTO resumo = resumoService.findByUsuario(usuario.getId());
+        Assertions.assertThat(resumo.total()).isEqualTo(1);
+        Assertions.assertThat(resumo.porStatus().get(StatusJogo.JOGANDO)).isEqualTo(1);
+        Assertions.assertThat(resumo.favoritos()).isZero();
+    }
+
+    @Test
+    @DisplayName("calcularResumo agrega os itens da biblioteca por status e favoritos")
+    void calcularResumo_WhenItemsExist_ReturnsAggregate() {
+        Usuario usuario = usuarioRepository.save(new Usuario("User", "resumo3@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        int i = 0;
+        for (StatusJogo status : new StatusJogo[]{StatusJogo.FINALIZADO, StatusJogo.FINALIZADO, StatusJogo.DESISTIDO}) {
+            Jogo jogo = jogoRepository.save(new Jogo(1210L + i, "Jogo " + i++, null, null, 2020, null, null, null, null, null));
+            Biblioteca item = new Biblioteca();
+            item.setUsuario(usuario);
+            item.setJogo(jogo);
+            item.setStatus(status);
+            item.setFavorito(status == StatusJogo.DESISTIDO);
+            bibliotecaRepository.save(item);
+        }
+        bibliotecaRepository.flush();
+
+        BibliotecaResumoProjection calculado = bibliotecaRepository.calcularResumo(usuario.getId()).orElseThrow();
+
+        Assertions.assertThat(calculado.getFinalizado()).isEqualTo(2);
+        Assertions.assertThat(calculado.getDesistido()).isEqualTo(1);
+        Assertions.assertThat(calculado.getQueroJogar()).isZero();
+        Assertions.assertThat(calculado.getFavoritos()).isEqualTo(1);
+        Assertions.assertThat(bibliotecaRepository.calcularResumos()).hasSize(1);
+    }
+
+    private void adicionar(Usuario usuario, Jogo jogo, StatusJogo status, boolean favorito) {
+        Biblioteca item = new Biblioteca();
+        item.setUsuario(usuario);
+        item.setJogo(jogo);
+        item.setStatus(status);
+        item.setFavorito(favorito);
+        bibliotecaRepository.save(item);
+        resumoService.registrar(usuario.getId(), null, false, status, favorito);
+    }
+}
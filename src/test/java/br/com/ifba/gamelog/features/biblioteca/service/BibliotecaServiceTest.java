@@ -0,0 +1,149 @@
+package br.com.ifba.gamelog.features.biblioteca.service;
+
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaAtualizarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteFavoritoRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.request.BibliotecaLoteStatusRequestDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaLoteResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.dto.response.BibliotecaResumoResponseDTO;
+import br.com.ifba.gamelog.features.biblioteca.mapper.BibliotecaMapper;
+import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaRepository;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.service.JogoTendenciaService;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessExceptionMessage;
+import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BibliotecaService.class, BibliotecaMapper.class, ObjectMapperUtil.class, BibliotecaResumoService.class,
+        JogoTendenciaService.class})
+@DisplayName("Testes para BibliotecaService")
+class BibliotecaServiceTest {
+
+    @Autowired private IBibliotecaService bibliotecaService;
+    @Autowired private IBibliotecaResumoService resumoService;
+    @Autowired private IBibliotecaRepository bibliotecaRepository;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Usuario usuario;
+    private Biblioteca hades;
+    private Biblioteca doom;
+    private Biblioteca celeste;
+    private Jogo hollow;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(new Usuario("User", "lote@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        hades = adicionar(new Jogo(1301L, "Hades", null, null, 2020, null, null, null, null, null), StatusJogo.JOGANDO, true);
+        doom = adicionar(new Jogo(1302L, "Doom", null, null, 2016, null, null, null, null, null), StatusJogo.QUERO_JOGAR, false);
+        celeste = adicionar(new Jogo(1303L, "Celeste", null, null, 2018, null, null, null, null, null), StatusJogo.QUERO_JOGAR, false);
+        hollow = jogoRepository.save(new Jogo(1304L, "Hollow Knight", null, null, 2017, null, null, null, null, null));
+        resumoService.registrar(usuario.getId(), Map.of(StatusJogo.JOGANDO, 1L, StatusJogo.QUERO_JOGAR, 2L), 1);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("aplicarLote move, favorita, remove e adiciona itens e mantém o resumo")
+    void aplicarLote_WhenValid_AppliesAllOperations() {
+        BibliotecaLoteResponseDTO resposta = bibliotecaService.aplicarLote(new BibliotecaLoteRequestDTO(usuario.getId(),
+                List.of(new BibliotecaLoteAdicionarRequestDTO(hollow.getId(), StatusJogo.QUERO_JOGAR, true)),
+                // Hades já está em JOGANDO: não conta como atualizado
+                List.of(new BibliotecaLoteStatusRequestDTO(StatusJogo.JOGANDO, List.of(doom.getId(), hades.getId()))),
+                List.of(new BibliotecaLoteFavoritoRequestDTO(false, List.of(hades.getId()))),
+                List.of(celeste.getId())));
+        entityManager.clear();
+
+        Assertions.assertThat(resposta).isEqualTo(new BibliotecaLoteResponseDTO(1, 2, 1));
+        Assertions.assertThat(bibliotecaRepository.findById(doom.getId()).orElseThrow().getStatus()).isEqualTo(StatusJogo.JOGANDO);
+        Assertions.assertThat(bibliotecaRepository.findById(hades.getId()).orElseThrow().isFavorito()).isFalse();
+        Assertions.assertThat(bibliotecaRepository.existsById(celeste.getId())).isFalse();
+        Assertions.assertThat(bibliotecaRepository.existsByUsuarioIdAndJogoId(usuario.getId(), hollow.getId())).isTrue();
+
+        BibliotecaResumoResponseDTO resumo = resumoService.findByUsuario(usuario.getId());
+        Assertions.assertThat(resumo.porStatus()).isEqualTo(Map.of(StatusJogo.QUERO_JOGAR, 1L, StatusJogo.JOGANDO, 2L,
+                StatusJogo.FINALIZADO, 0L, StatusJogo.DESISTIDO, 0L));
+        Assertions.assertThat(resumo.favoritos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("aplicarLote recusa itens de outro usuário ou operações contraditórias")
+    void aplicarLote_WhenInvalid_ThrowsBusinessException() {
+        Assertions.assertThatThrownBy(() -> bibliotecaService.aplicarLote(new BibliotecaLoteRequestDTO(usuario.getId(),
+                        null, null, null, List.of(UUID.randomUUID()))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(BusinessExceptionMessage.NOT_FOUND.getMessage());
+
+        Assertions.assertThatThrownBy(() -> bibliotecaService.aplicarLote(new BibliotecaLoteRequestDTO(usuario.getId(),
+                        null, List.of(new BibliotecaLoteStatusRequestDTO(StatusJogo.FINALIZADO, List.of(doom.getId()))),
+                        null, List.of(doom.getId()))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(BusinessExceptionMessage.INVALID_DATA.getMessage());
+
+        Assertions.assertThatThrownBy(() -> bibliotecaService.aplicarLote(new BibliotecaLoteRequestDTO(usuario.getId(),
+                        List.of(new BibliotecaLoteAdicionarRequestDTO(hades.getJogo().getId(), StatusJogo.FINALIZADO, false)),
+                        null, null, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Jogo na Biblioteca");
+    }
+
+    @Test
+    @DisplayName("update e delete aplicam ao resumo a variação a partir do estado atual do item")
+    void update_WhenStatusChanges_KeepsSummaryConsistent() {
+        bibliotecaService.update(new BibliotecaAtualizarRequestDTO(doom.getId(), StatusJogo.FINALIZADO, true));
+        // Repetir a mesma alteração não muda mais nada
+        bibliotecaService.update(new BibliotecaAtualizarRequestDTO(doom.getId(), StatusJogo.FINALIZADO, true));
+        bibliotecaService.delete(hades.getId());
+        entityManager.clear();
+
+        BibliotecaResumoResponseDTO resumo = resumoService.findByUsuario(usuario.getId());
+        Assertions.assertThat(resumo.porStatus()).isEqualTo(Map.of(StatusJogo.QUERO_JOGAR, 1L, StatusJogo.JOGANDO, 0L,
+                StatusJogo.FINALIZADO, 1L, StatusJogo.DESISTIDO, 0L));
+        Assertions.assertThat(resumo.favoritos()).isEqualTo(1);
+        Assertions.assertThatThrownBy(() -> bibliotecaService.delete(hades.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(BusinessExceptionMessage.NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("findAllByUsuario sem paginação devolve a biblioteca inteira ordenada pelo título")
+    void findAllByUsuario_WhenUnpaged_ReturnsWholeLibrary() {
+        List<BibliotecaResponseDTO> itens = bibliotecaService.findAllByUsuario(usuario.getId());
+
+        Assertions.assertThat(itens).extracting(BibliotecaResponseDTO::id)
+                .containsExactly(celeste.getId(), doom.getId(), hades.getId());
+    }
+
+    private Biblioteca adicionar(Jogo jogo, StatusJogo status, boolean favorito) {
+        Biblioteca item = new Biblioteca();
+        item.setUsuario(usuario);
+        item.setJogo(jogoRepository.save(jogo));
+        item.setStatus(status);
+        item.setFavorito(favorito);
+        return bibliotecaRepository.save(item);
+    }
+}
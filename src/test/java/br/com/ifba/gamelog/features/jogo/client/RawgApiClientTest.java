@@ -0,0 +1,125 @@
+package br.com.ifba.gamelog.features.jogo.client;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Testes para RawgApiClient")
+class RawgApiClientTest {
+
+    private final AtomicInteger chamadas = new AtomicInteger();
+    private final AtomicBoolean rawgFora = new AtomicBoolean();
+    private final AtomicBoolean falharProxima = new AtomicBoolean();
+
+    @Test
+    @DisplayName("getGameById falha imediatamente quando o circuito está aberto")
+    void getGameById_WhenRawgDown_OpensCircuit() {
+        rawgFora.set(true);
+        RawgApiClient client = criarClient(Duration.ofMinutes(10));
+
+        for (long id = 1; id <= 2; id++) {
+            Assertions.assertThatThrownBy(client.getGameById(id)::block)
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+
+        Assertions.assertThatThrownBy(client.getGameById(3L)::block).isInstanceOf(CallNotPermittedException.class);
+        Assertions.assertThat(chamadas.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("searchGames falha com o circuito aberto em vez de devolver lista vazia")
+    void searchGames_WhenCircuitOpen_PropagatesCallNotPermitted() {
+        rawgFora.set(true);
+        RawgApiClient client = criarClient(Duration.ofMinutes(10));
+
+        for (String termo : new String[]{"zelda", "mario"}) {
+            Assertions.assertThatThrownBy(client.searchGames(termo)::block)
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+
+        Assertions.assertThatThrownBy(client.searchGames("metroid")::block).isInstanceOf(CallNotPermittedException.class);
+        Assertions.assertThat(chamadas.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getGameByIdUncached não abre o circuito das requisições interativas quando falha")
+    void getGameByIdUncached_WhenRawgDown_KeepsInteractiveCircuitClosed() {
+        rawgFora.set(true);
+        RawgApiClient client = criarClient(Duration.ofMinutes(10));
+
+        for (long id = 1; id <= 2; id++) {
+            Assertions.assertThatThrownBy(client.getGameByIdUncached(id)::block)
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+        Assertions.assertThatThrownBy(client.getGameByIdUncached(3L)::block).isInstanceOf(CallNotPermittedException.class);
+
+        rawgFora.set(false);
+        Assertions.assertThat(client.getGameById(4L).block().name()).isEqualTo("Zelda");
+        Assertions.assertThat(chamadas.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getGameById serve a última resposta boa quando a revalidação falha")
+    void getGameById_WhenStaleAndRawgDown_ServesLastGoodResponse() throws InterruptedException {
+        RawgApiClient client = criarClient(Duration.ofMillis(50));
+        Assertions.assertThat(client.getGameById(1L).block().name()).isEqualTo("Zelda");
+
+        rawgFora.set(true);
+        Thread.sleep(100);
+
+        // Vencido o TTL: devolve a resposta antiga e tenta revalidar em segundo plano
+        Assertions.assertThat(client.getGameById(1L).block().name()).isEqualTo("Zelda");
+        Thread.sleep(100);
+        Assertions.assertThat(client.getGameById(1L).block().name()).isEqualTo("Zelda");
+        Assertions.assertThat(chamadas.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("getGameById com hedge usa a resposta da segunda tentativa quando a primeira falha")
+    void getGameById_WhenFirstAttemptFails_ReturnsHedgedResponse() {
+        RawgApiClient client = criarClient(Duration.ofMinutes(10), true, 100);
+        // Amostras de latência suficientes para habilitar o hedge
+        for (long id = 1; id <= 20; id++) {
+            client.getGameById(id).block();
+        }
+
+        falharProxima.set(true);
+
+        Assertions.assertThat(client.getGameById(21L).block().name()).isEqualTo("Zelda");
+        Assertions.assertThat(chamadas.get()).isEqualTo(22);
+    }
+
+    private RawgApiClient criarClient(Duration ttl) {
+        return criarClient(ttl, false, 2);
+    }
+
+    private RawgApiClient criarClient(Duration ttl, boolean hedging, int janelaCircuito) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            chamadas.incrementAndGet();
+            if (rawgFora.get() || falharProxima.getAndSet(false)) {
+                return Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"id\": 1, \"name\": \"Zelda\"}")
+                    .build());
+        });
+        return new RawgApiClient(builder, new SimpleMeterRegistry(), "http://rawg.test", "chave",
+                100, ttl, Duration.ofHours(1),
+                50, janelaCircuito, janelaCircuito, Duration.ofMinutes(1),
+                hedging, Duration.ofMillis(20));
+    }
+}
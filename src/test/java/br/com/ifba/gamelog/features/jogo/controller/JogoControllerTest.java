@@ -0,0 +1,110 @@
+package br.com.ifba.gamelog.features.jogo.controller;
+
+import br.com.ifba.gamelog.features.jogo.client.RawgApiClient;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.service.IJogoService;
+import br.com.ifba.gamelog.infrastructure.streaming.NdjsonResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Testes para JogoController")
+class JogoControllerTest {
+
+    private IJogoService jogoService;
+    private RawgApiClient rawgApiClient;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        jogoService = Mockito.mock(IJogoService.class);
+        rawgApiClient = Mockito.mock(RawgApiClient.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new JogoController(jogoService, rawgApiClient, new NdjsonResponseWriter(new ObjectMapper()))).build();
+    }
+
+    @Test
+    @DisplayName("pesquisar-externo não prende a thread da requisição enquanto a RAWG não responde")
+    void searchExternalGames_WhenRawgStalled_ReleasesRequestThread() throws Exception {
+        // RAWG "travada": o Mono nunca completa
+        Mockito.when(rawgApiClient.searchGames(Mockito.anyString())).thenReturn(Mono.never());
+
+        UUID id = UUID.randomUUID();
+        Mockito.when(jogoService.findById(id))
+                .thenReturn(new JogoResponseDTO(id, 1L, "Jogo Local", null, null, null, null, null));
+
+        // Carga: muitas buscas externas simultâneas com a RAWG parada
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<MvcResult>> pendentes = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                pendentes.add(executor.submit(() -> mockMvc.perform(get("/api/v1/jogos/pesquisar-externo").param("nome", "zelda"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn()));
+            }
+
+            // Todas retornam imediatamente em modo assíncrono, sem esperar o timeout da RAWG
+            for (Future<MvcResult> pendente : pendentes) {
+                Assertions.assertThat(pendente.get(5, TimeUnit.SECONDS).getRequest().isAsyncStarted()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // O restante da API continua respondendo normalmente
+        long inicio = System.nanoTime();
+        mockMvc.perform(get("/api/v1/jogos/jogo/{id}", id))
+                .andExpect(status().isOk());
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        Assertions.assertThat(duracaoMs).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("findAll em NDJSON escreve um jogo por linha")
+    void streamAll_WhenAcceptNdjson_WritesOneJsonPerLine() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            Consumer<JogoResponseDTO> consumidor = invocation.getArgument(0);
+            consumidor.accept(new JogoResponseDTO(UUID.randomUUID(), 1L, "Zelda", null, null, null, null, null));
+            consumidor.accept(new JogoResponseDTO(UUID.randomUUID(), 2L, "Mario", null, null, null, null, null));
+            return null;
+        }).when(jogoService).streamAll(Mockito.any());
+
+        MvcResult resultado = mockMvc.perform(get("/api/v1/jogos").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertThat(corpo.split("\n"))
+                .hasSize(2)
+                .allSatisfy(linha -> Assertions.assertThat(linha).startsWith("{").endsWith("}"));
+        Assertions.assertThat(corpo).contains("\"titulo\":\"Zelda\"", "\"titulo\":\"Mario\"");
+        Mockito.verify(jogoService, Mockito.never()).findAll();
+    }
+}
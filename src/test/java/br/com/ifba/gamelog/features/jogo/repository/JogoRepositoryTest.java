@@ -1,13 +1,31 @@
 package br.com.ifba.gamelog.features.jogo.repository;
 
+import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.biblioteca.repository.IBibliotecaRepository;
 import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorCodec;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @DataJpaTest
 @ActiveProfiles("test")
 @DisplayName("Testes para JogoRepository")
@@ -16,6 +34,12 @@ class JogoRepositoryTest {
     @Autowired
     private IJogoRepository jogoRepository;
 
+    @Autowired
+    private IBibliotecaRepository bibliotecaRepository;
+
+    @Autowired
+    private IUsuarioRepository usuarioRepository;
+
     @Test
     @DisplayName("existsByIdExterno retorna true quando ID já existe")
     void existsByIdExterno_WhenReturnTrue() {
@@ -30,4 +54,71 @@ class JogoRepositoryTest {
 
         Assertions.assertThat(existe).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findAllBy percorre o catálogo por cursor na ordem do título, sem repetir itens")
+    void findAllBy_WhenNavigatingByCursor_ReturnsAllInOrder() {
+        // Dois títulos iguais para exercitar o desempate pelo ID
+        for (String titulo : List.of("Celeste", "Hades", "Celeste", "Doom", "Bastion")) {
+            Jogo jogo = new Jogo();
+            jogo.setTitulo(titulo);
+            jogo.setIdExterno((long) (titulo.hashCode() + jogoRepository.count()));
+            jogoRepository.save(jogo);
+        }
+
+        List<String> titulos = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPage<String> pagina = CursorPage.of(
+                    jogoRepository.findAllBy(CursorCodec.decode(cursor), Sort.by("titulo"), Limit.of(2)),
+                    2, Jogo::getTitulo);
+            titulos.addAll(pagina.content());
+            cursor = pagina.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertThat(titulos).containsExactly("Bastion", "Celeste", "Celeste", "Doom", "Hades");
+    }
+
+    @Test
+    @DisplayName("findDesatualizados retorna os mais antigos primeiro e marcarSincronizados os tira da fila")
+    void findDesatualizados_WhenMarkedAsSynced_MovesToNextBatch() {
+        List<Jogo> jogos = new ArrayList<>();
+        for (String titulo : List.of("Celeste", "Hades", "Doom")) {
+            Jogo jogo = new Jogo();
+            jogo.setTitulo(titulo);
+            jogo.setIdExterno((long) titulo.hashCode());
+            jogos.add(jogoRepository.save(jogo));
+        }
+        jogoRepository.flush();
+        Instant agora = Instant.now().plus(1, ChronoUnit.SECONDS);
+
+        List<Jogo> primeiroLote = jogoRepository.findDesatualizados(agora, Limit.of(2));
+        Assertions.assertThat(primeiroLote).hasSize(2);
+
+        jogoRepository.marcarSincronizados(primeiroLote.stream().map(Jogo::getId).toList(), agora.plus(1, ChronoUnit.MINUTES));
+
+        Assertions.assertThat(jogoRepository.findDesatualizados(agora, Limit.of(2)))
+                .extracting(Jogo::getId)
+                .containsExactlyElementsOf(jogos.stream()
+                        .map(Jogo::getId)
+                        .filter(id -> primeiroLote.stream().noneMatch(j -> j.getId().equals(id)))
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("findPopularidades conta as bibliotecas de cada jogo, inclusive os sem nenhuma")
+    void findPopularidades_WhenInLibraries_ReturnsCounts() {
+        Jogo hades = jogoRepository.save(new Jogo(1L, "Hades", null, null, 2020, null, null, null, null, null));
+        Jogo doom = jogoRepository.save(new Jogo(2L, "Doom", null, null, 2016, null, null, null, null, null));
+        for (String email : List.of("a@test.com", "b@test.com")) {
+            Usuario usuario = usuarioRepository.save(new Usuario("User", email, "123", UsuarioRole.USUARIO, null, null, null, null));
+            bibliotecaRepository.save(new Biblioteca(StatusJogo.JOGANDO, false, usuario, hades));
+        }
+        jogoRepository.flush();
+
+        Map<UUID, Long> popularidades = jogoRepository.findPopularidades().stream()
+                .collect(Collectors.toMap(JogoPopularidadeProjection::getJogoId, JogoPopularidadeProjection::getPopularidade));
+
+        Assertions.assertThat(popularidades).containsEntry(hades.getId(), 2L).containsEntry(doom.getId(), 0L);
+    }
+}
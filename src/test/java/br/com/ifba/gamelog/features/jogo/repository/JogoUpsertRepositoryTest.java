@@ -0,0 +1,54 @@
+package br.com.ifba.gamelog.features.jogo.repository;
+
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes para o upsert de JogoRepository (PostgreSQL)")
+class JogoUpsertRepositoryTest {
+
+    // ON CONFLICT (coluna) ... RETURNING não existe no H2: roda em um PostgreSQL real (ignorado sem Docker)
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private IJogoRepository jogoRepository;
+
+    @Test
+    @DisplayName("upsertByIdExterno insere o jogo novo e devolve a linha inserida")
+    void upsertByIdExterno_WhenIdExternoIsNew_ReturnsInserted() {
+        Jogo inserido = jogoRepository.upsertByIdExterno(new Jogo(3498L, "Grand Theft Auto V", null, null, 2013, null, null, null, null, null));
+
+        Assertions.assertThat(inserido.getId()).isNotNull();
+        Assertions.assertThat(inserido.getTitulo()).isEqualTo("Grand Theft Auto V");
+        Assertions.assertThat(inserido.getCreatedAt()).isNotNull();
+        Assertions.assertThat(jogoRepository.existsByIdExterno(3498L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("upsertByIdExterno devolve o existente sem alterá-lo quando o ID Externo se repete")
+    void upsertByIdExterno_WhenIdExternoExists_ReturnsExistingUnchanged() {
+        Jogo inserido = jogoRepository.upsertByIdExterno(new Jogo(3498L, "Grand Theft Auto V", null, null, 2013, null, null, null, null, null));
+
+        Jogo repetido = jogoRepository.upsertByIdExterno(new Jogo(3498L, "GTA V (duplicado)", null, null, 2014, null, null, null, null, null));
+
+        Assertions.assertThat(repetido.getId()).isEqualTo(inserido.getId());
+        Assertions.assertThat(repetido.getTitulo()).isEqualTo("Grand Theft Auto V");
+        Assertions.assertThat(repetido.getAnoLancamento()).isEqualTo(2013);
+        Assertions.assertThat(jogoRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.repository.JogoPopularidadeProjection;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Testes para JogoAutocompleteIndex")
+class JogoAutocompleteIndexTest {
+
+    private final IJogoRepository repository = Mockito.mock(IJogoRepository.class);
+    private JogoAutocompleteIndex index;
+    private UUID zelda;
+    private UUID zeldaII;
+
+    @BeforeEach
+    void setUp() {
+        index = new JogoAutocompleteIndex(repository, Mockito.mock(JogoMapper.class), Mockito.mock(EntityManager.class));
+        zelda = indexar("The Legend of Zelda: Breath of the Wild");
+        zeldaII = indexar("Zelda II: The Adventure of Link");
+        indexar("Pokémon Legends: Arceus");
+    }
+
+    @Test
+    @DisplayName("sugerir encontra o prefixo no início de qualquer palavra do título, ignorando acentos")
+    void sugerir_WhenPrefixMatchesAnyWord_ReturnsSuggestions() {
+        Assertions.assertThat(index.sugerir("ZEL", 10)).extracting(JogoResponseDTO::titulo)
+                .containsExactly("The Legend of Zelda: Breath of the Wild", "Zelda II: The Adventure of Link");
+        Assertions.assertThat(index.sugerir("pokemon leg", 10)).extracting(JogoResponseDTO::titulo)
+                .containsExactly("Pokémon Legends: Arceus");
+        Assertions.assertThat(index.sugerir("elda", 10)).isEmpty();
+        Assertions.assertThat(index.sugerir("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sugerir ordena pela popularidade após o recálculo das contagens")
+    void sugerir_WhenPopularityChanges_ReordersSuggestions() {
+        Mockito.when(repository.findPopularidades()).thenReturn(List.of(popularidade(zeldaII, 5L), popularidade(zelda, 1L)));
+
+        index.atualizarPopularidade();
+
+        Assertions.assertThat(index.sugerir("zelda", 10)).extracting(JogoResponseDTO::id).containsExactly(zeldaII, zelda);
+        Assertions.assertThat(index.sugerir("zelda", 1)).extracting(JogoResponseDTO::id).containsExactly(zeldaII);
+    }
+
+    @Test
+    @DisplayName("sugerir reflete alterações e remoções do catálogo")
+    void sugerir_WhenCatalogChanges_UpdatesIndex() {
+        index.aoAlterarJogo(new JogoAlteradoEvent(zeldaII, null));
+        index.aoAlterarJogo(new JogoAlteradoEvent(zelda, resumo(zelda, "Tears of the Kingdom")));
+
+        Assertions.assertThat(index.sugerir("zelda", 10)).isEmpty();
+        Assertions.assertThat(index.sugerir("king", 10)).extracting(JogoResponseDTO::titulo)
+                .containsExactly("Tears of the Kingdom");
+        Assertions.assertThat(index.sugerir("le", 10)).extracting(JogoResponseDTO::titulo)
+                .containsExactly("Pokémon Legends: Arceus");
+    }
+
+    private UUID indexar(String titulo) {
+        UUID id = UUID.randomUUID();
+        index.aoAlterarJogo(new JogoAlteradoEvent(id, resumo(id, titulo)));
+        return id;
+    }
+
+    private static JogoResponseDTO resumo(UUID id, String titulo) {
+        return new JogoResponseDTO(id, (long) titulo.hashCode(), titulo, null, null, 2020, null, null);
+    }
+
+    private static JogoPopularidadeProjection popularidade(UUID jogoId, Long total) {
+        return new JogoPopularidadeProjection() {
+            @Override
+            public UUID getJogoId() {
+                return jogoId;
+            }
+
+            @Override
+            public Long getPopularidade() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.FacetaValorDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoFiltroResponseDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Testes para JogoFacetIndex")
+class JogoFacetIndexTest {
+
+    private JogoFacetIndex index;
+    private UUID hollowKnight;
+
+    @BeforeEach
+    void setUp() {
+        index = new JogoFacetIndex(Mockito.mock(IJogoRepository.class), Mockito.mock(JogoMapper.class),
+                Mockito.mock(EntityManager.class));
+        indexar("The Witcher 3", "RPG, Action", "PC, PlayStation 4", 2015);
+        indexar("Persona 5", "RPG", "PlayStation 4", 2016);
+        indexar("Doom", "Shooter, Action", "PC", 2016);
+        hollowKnight = indexar("Hollow Knight", "Action, Platformer", "PC, Nintendo Switch", 2017);
+    }
+
+    @Test
+    @DisplayName("filtrar combina valores da mesma faceta com OU e facetas diferentes com E")
+    void filtrar_WhenCombiningFacets_ReturnsIntersection() {
+        JogoFiltroResponseDTO resultado = index.filtrar(List.of("rpg", "SHOOTER"), List.of("pc"), List.of(),
+                PageRequest.of(0, 10));
+
+        Assertions.assertThat(resultado.jogos().getContent())
+                .extracting(JogoResponseDTO::titulo)
+                .containsExactly("Doom", "The Witcher 3");
+        Assertions.assertThat(resultado.jogos().getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("filtrar conta cada faceta considerando apenas os filtros das outras facetas")
+    void filtrar_WhenFiltered_ReturnsFacetCounts() {
+        JogoFiltroResponseDTO resultado = index.filtrar(List.of("Action"), null, List.of(2016), PageRequest.of(0, 10));
+
+        Assertions.assertThat(resultado.jogos().getContent()).extracting(JogoResponseDTO::titulo).containsExactly("Doom");
+        // Gêneros: só o filtro de ano (2016) se aplica -> Persona 5 e Doom
+        Assertions.assertThat(resultado.generos()).containsExactly(
+                new FacetaValorDTO("Action", 1), new FacetaValorDTO("RPG", 1), new FacetaValorDTO("Shooter", 1));
+        // Anos: só o filtro de gênero (Action) se aplica -> Witcher, Doom e Hollow Knight
+        Assertions.assertThat(resultado.anos()).containsExactly(
+                new FacetaValorDTO("2017", 1), new FacetaValorDTO("2016", 1), new FacetaValorDTO("2015", 1));
+        Assertions.assertThat(resultado.plataformas()).containsExactly(new FacetaValorDTO("PC", 1));
+    }
+
+    @Test
+    @DisplayName("filtrar reflete alterações e remoções do catálogo")
+    void filtrar_WhenCatalogChanges_UpdatesIndex() {
+        index.aoAlterarJogo(new JogoAlteradoEvent(hollowKnight, null));
+
+        JogoFiltroResponseDTO resultado = index.filtrar(null, List.of("Nintendo Switch"), null, PageRequest.of(0, 10));
+
+        Assertions.assertThat(resultado.jogos().getTotalElements()).isZero();
+        Assertions.assertThat(resultado.plataformas()).extracting(FacetaValorDTO::valor)
+                .containsExactly("PC", "PlayStation 4");
+        Assertions.assertThat(index.filtrar(null, null, null, PageRequest.of(1, 2)).jogos().getContent())
+                .extracting(JogoResponseDTO::titulo)
+                .containsExactly("The Witcher 3");
+    }
+
+    private UUID indexar(String titulo, String genero, String plataformas, Integer ano) {
+        UUID id = UUID.randomUUID();
+        index.aoAlterarJogo(new JogoAlteradoEvent(id,
+                new JogoResponseDTO(id, (long) titulo.hashCode(), titulo, null, null, ano, plataformas, genero)));
+        return id;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.ifba.gamelog.features.jogo.search;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.event.JogoAlteradoEvent;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+
+@DisplayName("Testes para JogoSearchIndex")
+class JogoSearchIndexTest {
+
+    private JogoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JogoSearchIndex(Mockito.mock(IJogoRepository.class), Mockito.mock(JogoMapper.class));
+        indexar("The Legend of Zelda: Breath of the Wild", "Aventura", "Nintendo Switch");
+        indexar("Pokémon Red", "RPG", "Game Boy");
+        indexar("Zelda II: The Adventure of Link", "Ação", "NES");
+        indexar("Hollow Knight", "Metroidvania", "PC, Nintendo Switch");
+    }
+
+    @Test
+    @DisplayName("buscar ignora acentos e maiúsculas")
+    void buscar_WhenAccentsDiffer_ReturnsMatch() {
+        Page<JogoResponseDTO> resultado = index.buscar("POKEMON", PageRequest.of(0, 10));
+
+        Assertions.assertThat(resultado.getContent()).extracting(JogoResponseDTO::titulo).containsExactly("Pokémon Red");
+    }
+
+    @Test
+    @DisplayName("buscar tolera erros de digitação e ranqueia pelo título")
+    void buscar_WhenTypo_ReturnsRankedMatches() {
+        Page<JogoResponseDTO> resultado = index.buscar("zelad breath", PageRequest.of(0, 10));
+
+        Assertions.assertThat(resultado.getContent()).isNotEmpty();
+        Assertions.assertThat(resultado.getContent().get(0).titulo()).isEqualTo("The Legend of Zelda: Breath of the Wild");
+    }
+
+    @Test
+    @DisplayName("buscar pagina os resultados e respeita remoções")
+    void buscar_WhenRemoved_NotReturned() {
+        Page<JogoResponseDTO> porPlataforma = index.buscar("switch", PageRequest.of(0, 1));
+        Assertions.assertThat(porPlataforma.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(porPlataforma.getContent()).hasSize(1);
+
+        UUID removido = porPlataforma.getContent().get(0).id();
+        index.aoAlterarJogo(new JogoAlteradoEvent(removido, null));
+
+        Assertions.assertThat(index.buscar("switch", PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    private void indexar(String titulo, String genero, String plataformas) {
+        UUID id = UUID.randomUUID();
+        index.aoAlterarJogo(new JogoAlteradoEvent(id,
+                new JogoResponseDTO(id, (long) titulo.hashCode(), titulo, null, null, 2000, plataformas, genero)));
+    }
+}
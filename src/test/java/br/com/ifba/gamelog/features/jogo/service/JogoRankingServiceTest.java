@@ -0,0 +1,90 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.avaliacao.repository.IAvaliacaoEstatisticaRepository;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoRankingItemDTO;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.jogo.repository.JogoRankingProjection;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Testes para JogoRankingService")
+class JogoRankingServiceTest {
+
+    private final IJogoRepository repository = Mockito.mock(IJogoRepository.class);
+    private final IAvaliacaoEstatisticaRepository estatisticaRepository = Mockito.mock(IAvaliacaoEstatisticaRepository.class);
+    private final List<JogoRankingProjection> catalogo = new ArrayList<>();
+    private JogoRankingService service;
+
+    @BeforeEach
+    void setUp() {
+        // Peso da média global equivalente a 10 avaliações; duas faixas do catálogo
+        service = new JogoRankingService(repository, estatisticaRepository, 100, 10, 2);
+        Mockito.when(estatisticaRepository.calcularMediaGlobal()).thenReturn(3.0);
+        // Cada faixa devolve só os jogos cujo ID está entre os limites (ordem sem sinal, como no banco)
+        Mockito.when(repository.findParaRanking(ArgumentMatchers.any(), ArgumentMatchers.any())).thenAnswer(inv -> {
+            UUID inicio = inv.getArgument(0);
+            UUID fim = inv.getArgument(1);
+            return catalogo.stream()
+                    .filter(j -> compararSemSinal(j.getJogoId(), inicio) >= 0 && compararSemSinal(j.getJogoId(), fim) <= 0)
+                    .toList();
+        });
+
+        jogo(new UUID(0x1000_0000_0000_0000L, 1), "Nota Máxima Isolada", "RPG", 2020, 1, 5);
+        jogo(new UUID(0xA000_0000_0000_0000L, 2), "Clássico", "RPG, Action", 2017, 200, 920);
+        jogo(new UUID(0xF000_0000_0000_0000L, 3), "Bom Jogo", "Shooter", 2020, 50, 210);
+    }
+
+    @Test
+    @DisplayName("reconstruir ordena pela média bayesiana: poucas avaliações ficam perto da média geral")
+    void reconstruir_WhenFewReviews_PullsTowardsGlobalMean() {
+        service.reconstruir();
+
+        List<JogoRankingItemDTO> geral = service.buscar(null, null, 10).jogos();
+
+        Assertions.assertThat(geral).extracting(JogoRankingItemDTO::titulo)
+                .containsExactly("Clássico", "Bom Jogo", "Nota Máxima Isolada");
+        Assertions.assertThat(geral).extracting(JogoRankingItemDTO::posicao).containsExactly(1, 2, 3);
+        // (5 + 10 * 3) / (1 + 10)
+        Assertions.assertThat(geral.get(2).pontuacao()).isCloseTo(35.0 / 11, Assertions.within(1e-9));
+        Assertions.assertThat(geral.get(2).media()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("buscar separa os rankings por gênero e ano, combinando as faixas do catálogo")
+    void buscar_WhenFilteredByGenreAndYear_ReturnsSlice() {
+        service.reconstruir();
+
+        Assertions.assertThat(service.buscar("rpg", null, 10).jogos()).extracting(JogoRankingItemDTO::titulo)
+                .containsExactly("Clássico", "Nota Máxima Isolada");
+        Assertions.assertThat(service.buscar(null, 2020, 10).jogos()).extracting(JogoRankingItemDTO::titulo)
+                .containsExactly("Bom Jogo", "Nota Máxima Isolada");
+        Assertions.assertThat(service.buscar("RPG", 2020, 1).jogos()).extracting(JogoRankingItemDTO::titulo)
+                .containsExactly("Nota Máxima Isolada");
+        Assertions.assertThat(service.buscar("Puzzle", null, 10).jogos()).isEmpty();
+    }
+
+    private void jogo(UUID id, String titulo, String genero, Integer ano, long total, long soma) {
+        catalogo.add(new JogoRankingProjection() {
+            @Override public UUID getJogoId() { return id; }
+            @Override public String getTitulo() { return titulo; }
+            @Override public String getCapaUrl() { return null; }
+            @Override public String getGenero() { return genero; }
+            @Override public Integer getAnoLancamento() { return ano; }
+            @Override public Long getTotal() { return total; }
+            @Override public Long getSoma() { return soma; }
+        });
+    }
+
+    private static int compararSemSinal(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.ifba.gamelog.features.jogo.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaItemDTO;
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoTendenciaResponseDTO;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividade;
+import br.com.ifba.gamelog.features.jogo.model.JogoAtividadeTipo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoAtividadeRepository;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JogoTendenciaService.class)
+@DisplayName("Testes para JogoTendenciaService")
+class JogoTendenciaServiceTest {
+
+    @Autowired private IJogoTendenciaService tendenciaService;
+    @Autowired private IJogoAtividadeRepository atividadeRepository;
+    @Autowired private IJogoRepository jogoRepository;
+
+    @Test
+    @DisplayName("descarregar grava as contagens em lote, acumula entre descargas e ordena pela atividade ponderada")
+    void descarregar_WhenActivityRegistered_PersistsAndRanks() {
+        Jogo hades = jogoRepository.saveAndFlush(new Jogo(881L, "Hades", null, null, 2020, null, null, null, null, null));
+        Jogo celeste = jogoRepository.saveAndFlush(new Jogo(882L, "Celeste", null, null, 2018, null, null, null, null, null));
+
+        tendenciaService.registrar(hades.getId(), JogoAtividadeTipo.VISUALIZACAO);
+        tendenciaService.registrar(hades.getId(), JogoAtividadeTipo.VISUALIZACAO);
+        tendenciaService.registrar(celeste.getId(), JogoAtividadeTipo.BIBLIOTECA);
+        tendenciaService.registrar(celeste.getId(), JogoAtividadeTipo.AVALIACAO);
+        tendenciaService.descarregar();
+
+        // Segunda descarga: soma às linhas já gravadas
+        tendenciaService.registrar(hades.getId(), JogoAtividadeTipo.AVALIACAO);
+        tendenciaService.registrar(hades.getId(), JogoAtividadeTipo.AVALIACAO);
+        tendenciaService.descarregar();
+
+        JogoTendenciaResponseDTO tendencias = tendenciaService.buscar(10);
+
+        Assertions.assertThat(tendencias.jogos()).extracting(JogoTendenciaItemDTO::titulo).containsExactly("Hades", "Celeste");
+        JogoTendenciaItemDTO primeiro = tendencias.jogos().get(0);
+        Assertions.assertThat(primeiro.avaliacoes()).isEqualTo(2);
+        Assertions.assertThat(primeiro.visualizacoes()).isEqualTo(2);
+        Assertions.assertThat(primeiro.pontuacao()).isEqualTo(8);
+        Assertions.assertThat(tendencias.jogos().get(1).pontuacao()).isEqualTo(5);
+        Assertions.assertThat(tendenciaService.buscar(1).jogos()).hasSize(1);
+
+        List<JogoAtividade> gravadas = atividadeRepository.findAll();
+        Assertions.assertThat(gravadas.stream().mapToLong(JogoAtividade::getAvaliacoes).sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("descarregar sem atividade nova não altera nada")
+    void descarregar_WhenNothingRegistered_KeepsEmpty() {
+        tendenciaService.descarregar();
+
+        Assertions.assertThat(tendenciaService.buscar(10).jogos()).isEmpty();
+        Assertions.assertThat(atividadeRepository.count()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package br.com.ifba.gamelog.features.lista.repository;
 
 import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
 import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
 import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +25,7 @@ class ListaPersonalizadaRepositoryTest {
     @Test
     @DisplayName("findAllByUsuarioId retorna listas do usuário")
     void findAllByUsuarioId_WhenSuccessful() {
-        Usuario user = usuarioRepository.save(new Usuario("ListMaker", "list@test.com", "123", null, null, null));
+        Usuario user = usuarioRepository.save(new Usuario("ListMaker", "list@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
 
         ListaPersonalizada lista = new ListaPersonalizada("Meus Favoritos", true, user, new ArrayList<>());
         listaRepository.save(lista);
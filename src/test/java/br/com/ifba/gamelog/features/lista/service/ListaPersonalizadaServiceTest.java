@@ -0,0 +1,172 @@
+package br.com.ifba.gamelog.features.lista.service;
+
+import br.com.ifba.gamelog.features.jogo.dto.response.JogoResponseDTO;
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemAdicionarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaItemMoverRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaAtualizarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.features.lista.mapper.ListaPersonalizadaMapper;
+import br.com.ifba.gamelog.features.lista.model.ItemLista;
+import br.com.ifba.gamelog.features.lista.model.ListaPersonalizada;
+import br.com.ifba.gamelog.features.lista.repository.IListaPersonalizadaRepository;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ListaPersonalizadaService.class, ListaPublicaService.class, ListaPersonalizadaMapper.class, JogoMapper.class,
+        ObjectMapperUtil.class})
+@DisplayName("Testes para ListaPersonalizadaService")
+class ListaPersonalizadaServiceTest {
+
+    @Autowired private IListaPersonalizadaService listaService;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private IListaPersonalizadaRepository listaRepository;
+    @Autowired private ListaPersonalizadaMapper listaMapper;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Usuario usuario;
+    private final List<Jogo> jogos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(new Usuario("User", "listas@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        for (String titulo : new String[]{"Hades", "Doom", "Celeste", "Inside"}) {
+            jogos.add(jogoRepository.save(new Jogo(1400L + jogos.size(), titulo, null, null, 2020, null, null, null, null, null)));
+        }
+    }
+
+    @Test
+    @DisplayName("adicionar e mover alteram só a linha do item e a lista sai na ordem das posições")
+    void moverJogo_WhenMoved_UpdatesSingleRow() {
+        UUID listaId = listaService.save(new ListaPersonalizadaCriarRequestDTO("Top", true, usuario.getId(),
+                List.of(id(0), id(1), id(2)))).id();
+        listaService.adicionarJogo(listaId, new ListaItemAdicionarRequestDTO(id(3), id(1)));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // Celeste vai para o topo: bloqueio da lista, três leituras de posição e um UPDATE
+        listaService.moverJogo(listaId, id(2), new ListaItemMoverRequestDTO(id(0)));
+
+        Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(5);
+        Assertions.assertThat(estatisticas.getEntityLoadCount()).isZero();
+        Assertions.assertThat(titulos(listaId)).containsExactly("Celeste", "Hades", "Inside", "Doom");
+
+        listaService.moverJogo(listaId, id(0), new ListaItemMoverRequestDTO(null));
+        listaService.removerJogo(listaId, id(3));
+        Assertions.assertThat(titulos(listaId)).containsExactly("Celeste", "Doom", "Hades");
+    }
+
+    @Test
+    @DisplayName("mover entre itens empatados renumera a lista uma vez e mantém a ordem")
+    void moverJogo_WhenNoGap_RenumbersList() {
+        ListaPersonalizada lista = entityManager.persist(new ListaPersonalizada("Antiga", true, usuario, null));
+        // Linhas anteriores à coluna de posição: todas em 0, desempatadas pelo ID do jogo
+        jogos.forEach(jogo -> entityManager.persist(new ItemLista(lista, jogo, 0)));
+        entityManager.flush();
+        entityManager.clear();
+        List<String> ordemInicial = titulos(lista.getId());
+
+        String ultimo = ordemInicial.get(3);
+        UUID ultimoId = jogos.stream().filter(j -> j.getTitulo().equals(ultimo)).findFirst().orElseThrow().getId();
+        UUID segundoId = jogos.stream().filter(j -> j.getTitulo().equals(ordemInicial.get(1))).findFirst().orElseThrow().getId();
+        listaService.moverJogo(lista.getId(), ultimoId, new ListaItemMoverRequestDTO(segundoId));
+
+        Assertions.assertThat(titulos(lista.getId()))
+                .containsExactly(ordemInicial.get(0), ultimo, ordemInicial.get(1), ordemInicial.get(2));
+    }
+
+    @Test
+    @DisplayName("update aplica a nova lista de jogos na ordem enviada")
+    void update_WhenGamesReplaced_KeepsRequestedOrder() {
+        UUID listaId = listaService.save(new ListaPersonalizadaCriarRequestDTO("Top", true, usuario.getId(),
+                List.of(id(0), id(1), id(2)))).id();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> titulos = listaService.update(new ListaPersonalizadaAtualizarRequestDTO(listaId, "Top 3", false,
+                        List.of(id(3), id(2), id(0), UUID.randomUUID())))
+                .jogos().stream().map(JogoResponseDTO::titulo).toList();
+
+        Assertions.assertThat(titulos).containsExactly("Inside", "Celeste", "Hades");
+    }
+
+    @Test
+    @DisplayName("o resumo traz contagem e primeiras capas de cada lista em uma única consulta")
+    void findResumosByUsuario_ReturnsCountAndCoversInOneQuery() {
+        jogos.forEach(jogo -> jogo.setCapaUrl("https://img/" + jogo.getTitulo()));
+        listaService.save(new ListaPersonalizadaCriarRequestDTO("Top", true, usuario.getId(), List.of(id(2), id(0), id(3), id(1))));
+        listaService.save(new ListaPersonalizadaCriarRequestDTO("Vazia", false, usuario.getId(), List.of()));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<ListaPersonalizadaResumoResponseDTO> resumos = listaService.findResumosByUsuario(usuario.getId(), 2);
+
+        Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+        Assertions.assertThat(estatisticas.getEntityLoadCount()).isZero();
+        Assertions.assertThat(resumos).extracting(ListaPersonalizadaResumoResponseDTO::nome).containsExactly("Top", "Vazia");
+        Assertions.assertThat(resumos.get(0).totalJogos()).isEqualTo(4);
+        Assertions.assertThat(resumos.get(0).capas()).containsExactly("https://img/Celeste", "https://img/Hades");
+        Assertions.assertThat(resumos.get(1).totalJogos()).isZero();
+        Assertions.assertThat(resumos.get(1).capas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("o resumo sem capas ainda traz a contagem de jogos de cada lista")
+    void findResumos_WhenNoCovers_StillReturnsCount() {
+        jogos.forEach(jogo -> jogo.setCapaUrl("https://img/" + jogo.getTitulo()));
+        UUID listaId = listaService.save(new ListaPersonalizadaCriarRequestDTO("Top", true, usuario.getId(),
+                List.of(id(0), id(1), id(2)))).id();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ListaPersonalizadaResumoResponseDTO> porUsuario = listaService.findResumosByUsuario(usuario.getId(), 0);
+        List<ListaPersonalizadaResumoResponseDTO> porIds =
+                List.copyOf(listaMapper.toResumos(listaRepository.findResumosByIdIn(List.of(listaId), 0)).values());
+
+        for (List<ListaPersonalizadaResumoResponseDTO> resumos : List.of(porUsuario, porIds)) {
+            Assertions.assertThat(resumos).singleElement().satisfies(resumo -> {
+                Assertions.assertThat(resumo.totalJogos()).isEqualTo(3);
+                Assertions.assertThat(resumo.capas()).isEmpty();
+            });
+        }
+    }
+
+    private UUID id(int indice) {
+        return jogos.get(indice).getId();
+    }
+
+    private List<String> titulos(UUID listaId) {
+        entityManager.flush();
+        entityManager.clear();
+        return listaService.findById(listaId).jogos().stream().map(JogoResponseDTO::titulo).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.ifba.gamelog.features.lista.service;
+
+import br.com.ifba.gamelog.features.jogo.mapper.JogoMapper;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.jogo.repository.IJogoRepository;
+import br.com.ifba.gamelog.features.lista.dto.request.ListaPersonalizadaCriarRequestDTO;
+import br.com.ifba.gamelog.features.lista.dto.response.ListaPersonalizadaResumoResponseDTO;
+import br.com.ifba.gamelog.features.lista.mapper.ListaPersonalizadaMapper;
+import br.com.ifba.gamelog.features.lista.model.ListaPublicaOrdem;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import br.com.ifba.gamelog.infrastructure.pagination.CursorPage;
+import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ListaPublicaService.class, ListaPersonalizadaService.class, ListaPersonalizadaMapper.class, JogoMapper.class,
+        ObjectMapperUtil.class})
+@DisplayName("Testes para ListaPublicaService")
+class ListaPublicaServiceTest {
+
+    @Autowired private IListaPublicaService publicaService;
+    @Autowired private IListaPersonalizadaService listaService;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private IJogoRepository jogoRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Usuario usuario;
+    private Jogo hades;
+    private Jogo doom;
+
+    @BeforeEach
+    void setUp() {
+        usuario = usuarioRepository.save(new Usuario("User", "publicas@test.com", "123", UsuarioRole.USUARIO, null, null, null, null));
+        hades = jogoRepository.save(new Jogo(1501L, "Hades", null, null, 2020, null, null, null, null, null));
+        doom = jogoRepository.save(new Jogo(1502L, "Doom", null, null, 2016, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("o feed traz só listas públicas, pagina por cursor e ordena pela popularidade materializada")
+    void findPublicas_WhenViewed_RanksByPopularity() {
+        UUID antiga = criar("Antiga", true, hades.getId());
+        UUID recente = criar("Recente", true);
+        criar("Privada", false, hades.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorPage<ListaPersonalizadaResumoResponseDTO> primeira = publicaService.findPublicas(ListaPublicaOrdem.RECENTES, "", 1);
+        Assertions.assertThat(primeira.content()).extracting(ListaPersonalizadaResumoResponseDTO::nome).containsExactly("Recente");
+        Assertions.assertThat(primeira.hasNext()).isTrue();
+        CursorPage<ListaPersonalizadaResumoResponseDTO> segunda =
+                publicaService.findPublicas(ListaPublicaOrdem.RECENTES, primeira.nextCursor(), 1);
+        Assertions.assertThat(segunda.content()).extracting(ListaPersonalizadaResumoResponseDTO::nome).containsExactly("Antiga");
+        Assertions.assertThat(segunda.content().get(0).totalJogos()).isEqualTo(1);
+        Assertions.assertThat(segunda.hasNext()).isFalse();
+
+        listaService.findById(antiga);
+        listaService.findById(antiga);
+        listaService.findById(recente);
+        publicaService.descarregar();
+        entityManager.clear();
+
+        // Visualizações gravadas não mudam o ranking até a próxima materialização
+        Assertions.assertThat(publicaService.findPublicas(ListaPublicaOrdem.POPULARES, null, 10).content())
+                .extracting(ListaPersonalizadaResumoResponseDTO::id)
+                .containsExactly(recente, antiga);
+
+        publicaService.materializarPopularidade();
+        entityManager.clear();
+
+        Assertions.assertThat(publicaService.findPublicas(ListaPublicaOrdem.POPULARES, null, 10).content())
+                .extracting(ListaPersonalizadaResumoResponseDTO::id)
+                .containsExactly(antiga, recente);
+    }
+
+    @Test
+    @DisplayName("a busca reversa traz as listas públicas que contêm o jogo")
+    void findPublicasByJogo_ReturnsPublicListsWithGame() {
+        UUID comHades = criar("Roguelikes", true, hades.getId(), doom.getId());
+        criar("Shooters", true, doom.getId());
+        criar("Privada", false, hades.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertThat(publicaService.findPublicasByJogo(hades.getId(), ListaPublicaOrdem.RECENTES, null, 10).content())
+                .extracting(ListaPersonalizadaResumoResponseDTO::id)
+                .containsExactly(comHades);
+        Assertions.assertThat(publicaService.findPublicasByJogo(doom.getId(), ListaPublicaOrdem.RECENTES, null, 10).content())
+                .hasSize(2);
+        Assertions.assertThatThrownBy(() -> publicaService.findPublicasByJogo(UUID.randomUUID(), ListaPublicaOrdem.RECENTES, null, 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private UUID criar(String nome, boolean publica, UUID... jogos) {
+        return listaService.save(new ListaPersonalizadaCriarRequestDTO(nome, publica, usuario.getId(), List.of(jogos))).id();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.ifba.gamelog.features.usuario.service;
+
+import br.com.ifba.gamelog.config.security.UsuarioPapelCache;
+import br.com.ifba.gamelog.features.biblioteca.service.BibliotecaResumoService;
+import br.com.ifba.gamelog.features.usuario.dto.request.UsuarioPapelRequestDTO;
+import br.com.ifba.gamelog.features.usuario.mapper.UsuarioMapper;
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import br.com.ifba.gamelog.features.usuario.repository.IUsuarioRepository;
+import br.com.ifba.gamelog.infrastructure.util.ObjectMapperUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({UsuarioService.class, UsuarioMapper.class, ObjectMapperUtil.class, BCryptPasswordEncoder.class,
+        BibliotecaResumoService.class, UsuarioPapelCache.class, SimpleMeterRegistry.class})
+// Sem a transação do teste: o cache só é invalidado no commit real da transação do serviço
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Testes para UsuarioService")
+class UsuarioServiceTest {
+
+    @Autowired private IUsuarioService usuarioService;
+    @Autowired private IUsuarioRepository usuarioRepository;
+    @Autowired private UsuarioPapelCache papelCache;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        usuarioId = usuarioRepository.save(new Usuario("User", "papel@test.com", "123", UsuarioRole.USUARIO, null, null, null, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("updatePapel invalida o papel em cache só depois do commit; um rollback mantém a entrada")
+    void updatePapel_InvalidatesCacheOnlyAfterCommit() {
+        Assertions.assertThat(papelCache.papel(usuarioId, UsuarioRole.USUARIO)).contains(UsuarioRole.USUARIO);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            usuarioService.updatePapel(usuarioId, new UsuarioPapelRequestDTO(UsuarioRole.ADMINISTRADOR));
+            status.setRollbackOnly();
+        });
+        // Muda o banco sem passar pelo serviço: se a entrada tivesse sido descartada, o papel viria daqui
+        Usuario usuario = usuarioRepository.findById(usuarioId).orElseThrow();
+        usuario.setPapel(UsuarioRole.ADMINISTRADOR);
+        usuarioRepository.save(usuario);
+        Assertions.assertThat(papelCache.papel(usuarioId, UsuarioRole.USUARIO)).contains(UsuarioRole.USUARIO);
+
+        usuarioService.updatePapel(usuarioId, new UsuarioPapelRequestDTO(UsuarioRole.MODERADOR));
+        Assertions.assertThat(papelCache.papel(usuarioId, UsuarioRole.USUARIO)).contains(UsuarioRole.MODERADOR);
+
+        usuarioService.delete(usuarioId);
+        Assertions.assertThat(papelCache.papel(usuarioId, UsuarioRole.USUARIO)).isEmpty();
+    }
+}
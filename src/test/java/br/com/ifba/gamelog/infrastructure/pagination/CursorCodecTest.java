@@ -0,0 +1,64 @@
+package br.com.ifba.gamelog.infrastructure.pagination;
+
+import br.com.ifba.gamelog.features.biblioteca.model.Biblioteca;
+import br.com.ifba.gamelog.features.biblioteca.model.StatusJogo;
+import br.com.ifba.gamelog.features.jogo.model.Jogo;
+import br.com.ifba.gamelog.features.perfil.model.Perfil;
+import br.com.ifba.gamelog.infrastructure.exception.BusinessException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Testes para CursorCodec")
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("encode e decode preservam chaves enum e decimais com o tipo original")
+    void encode_WhenEnumAndDecimalKeys_RoundTrips() {
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("status", StatusJogo.FINALIZADO);
+        chaves.put("media", new BigDecimal("4.50"));
+        chaves.put("id", UUID.randomUUID());
+
+        String cursor = CursorCodec.encode(ScrollPosition.forward(chaves));
+
+        Assertions.assertThat(CursorCodec.decode(cursor).getKeys()).containsExactlyEntriesOf(chaves);
+    }
+
+    @Test
+    @DisplayName("validarOrdenacao aceita propriedades obrigatórias, inclusive através de associações obrigatórias")
+    void validarOrdenacao_WhenRequiredProperties_ReturnsSort() {
+        Sort sort = Sort.by("jogo.titulo", "status", "favorito", "createdAt");
+
+        Assertions.assertThat(CursorCodec.validarOrdenacao(sort, Biblioteca.class)).isEqualTo(sort);
+        Assertions.assertThat(CursorCodec.validarOrdenacao(Sort.by("usuario.nome"), Perfil.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("validarOrdenacao recusa propriedades anuláveis, inexistentes ou de tipo não suportado")
+    void validarOrdenacao_WhenNullableOrUnsupported_ThrowsBusinessException() {
+        for (String propriedade : new String[]{"capaUrl", "anoLancamento", "avaliacoes", "inexistente"}) {
+            Assertions.assertThatThrownBy(() -> CursorCodec.validarOrdenacao(Sort.by(propriedade), Jogo.class))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(propriedade);
+        }
+        Assertions.assertThatThrownBy(() -> CursorCodec.validarOrdenacao(Sort.by("nomeExibicao"), Perfil.class))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("decode recusa cursores com enum fora da aplicação")
+    void decode_WhenForeignEnumType_ThrowsBusinessException() {
+        String cursor = CursorCodec.encode(ScrollPosition.forward(Map.of("unidade", TimeUnit.SECONDS)));
+
+        Assertions.assertThatThrownBy(() -> CursorCodec.decode(cursor)).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.ifba.gamelog.infrastructure.service;
+
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da verificação de JWT por requisição:
+ * <ul>
+ *     <li>{@code parserPorChamada}: comportamento anterior (parser montado e token lido duas vezes por requisição);</li>
+ *     <li>{@code parserReutilizado}: parser único e uma leitura, sem cache;</li>
+ *     <li>{@code cacheVerificados}: token repetido servido pelo cache de tokens verificados.</li>
+ * </ul>
+ * Execução (fora do {@code mvn test}):
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     br.com.ifba.gamelog.infrastructure.service.TokenServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TokenServiceBenchmark {
+
+    private TokenService semCache;
+    private TokenService comCache;
+    private String token;
+
+    private Key chaveAnterior;
+    private String tokenAnterior;
+
+    @Setup
+    public void setUp() {
+        semCache = new TokenService(0, Duration.ofMinutes(5));
+        semCache.init();
+        comCache = new TokenService(10_000, Duration.ofMinutes(5));
+        comCache.init();
+
+        Usuario usuario = new Usuario("Bench", "bench@test.com", "123", UsuarioRole.USUARIO, null, null, null, null);
+        usuario.setId(UUID.randomUUID());
+        token = semCache.generateToken(usuario);
+
+        // Mesmo algoritmo e tamanho de chave, para reproduzir o caminho anterior fora do TokenService
+        chaveAnterior = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        tokenAnterior = Jwts.builder()
+                .setSubject(usuario.getId().toString())
+                .claim("email", usuario.getEmail())
+                .claim("role", usuario.getPapel().name())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(chaveAnterior, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String parserPorChamada() {
+        Claims subject = Jwts.parserBuilder().setSigningKey(chaveAnterior).build().parseClaimsJws(tokenAnterior).getBody();
+        Claims role = Jwts.parserBuilder().setSigningKey(chaveAnterior).build().parseClaimsJws(tokenAnterior).getBody();
+        return subject.getSubject() + role.get("role", String.class);
+    }
+
+    @Benchmark
+    public TokenClaims parserReutilizado() {
+        return semCache.getVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public TokenClaims cacheVerificados() {
+        return comCache.getVerifiedClaims(token);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(TokenServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
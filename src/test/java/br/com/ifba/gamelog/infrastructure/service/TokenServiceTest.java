@@ -0,0 +1,38 @@
+package br.com.ifba.gamelog.infrastructure.service;
+
+import br.com.ifba.gamelog.features.usuario.model.Usuario;
+import br.com.ifba.gamelog.features.usuario.model.UsuarioRole;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@DisplayName("Testes para TokenService")
+class TokenServiceTest {
+
+    @Test
+    @DisplayName("verifica o token uma vez, serve as claims do cache e recusa tokens adulterados")
+    void getVerifiedClaims_WhenRepeated_ServesFromCache() {
+        TokenService tokenService = new TokenService(100, Duration.ofMinutes(5));
+        tokenService.init();
+        Usuario usuario = new Usuario("User", "token@test.com", "123", UsuarioRole.MODERADOR, null, null, null, null);
+        usuario.setId(UUID.randomUUID());
+        String token = tokenService.generateToken(usuario);
+
+        TokenClaims claims = tokenService.getVerifiedClaims(token);
+
+        Assertions.assertThat(claims.subject()).isEqualTo(usuario.getId().toString());
+        Assertions.assertThat(claims.email()).isEqualTo("token@test.com");
+        Assertions.assertThat(claims.role()).isEqualTo("MODERADOR");
+        Assertions.assertThat(claims.expiracao()).isAfter(Instant.now());
+        Assertions.assertThat(tokenService.getVerifiedClaims(token)).isSameAs(claims);
+        Assertions.assertThat(tokenService.validateToken(token)).isEqualTo(usuario.getId().toString());
+
+        String adulterado = token.substring(0, token.lastIndexOf('.') + 1) + "assinatura";
+        Assertions.assertThat(tokenService.getVerifiedClaims(adulterado)).isNull();
+        Assertions.assertThat(tokenService.getVerifiedClaims("")).isNull();
+    }
+}